@@ -1,5 +1,8 @@
 public class AtbashCipher {
 
+    /** Latin-1 글자의 변환 결과입니다. 아트배쉬는 Latin-1 글자를 Latin-1 글자로 바꿉니다. */
+    private static final byte[] LATIN1_TABLE = Latin1Text.table(c -> transformChar((char) c));
+
     /**
      * 입력된 문자열에 대해 아트배쉬 변환을 수행합니다.
      * 암호화와 복호화에 동일하게 사용될 수 있습니다.
@@ -12,47 +15,55 @@ public class AtbashCipher {
             return null;
         }
 
+        if (Latin1Text.isLatin1(text)) {
+            return Latin1Text.map(text, LATIN1_TABLE);
+        }
+        if (SimdSupport.ENGINE != null && text.length() >= SimdSupport.MIN_LENGTH) {
+            char[] chars = text.toCharArray();
+            SimdSupport.ENGINE.atbash(chars);
+            return new String(chars);
+        }
+
         StringBuilder result = new StringBuilder();
 
         for (char character : text.toCharArray()) {
-            if (character >= 'a' && character <= 'z') {
-                // 소문자 알파벳인 경우
-                char transformedChar = (char) ('z' - character + 'a');
-                result.append(transformedChar);
-            } else if (character >= 'A' && character <= 'Z') {
-                // 대문자 알파벳인 경우
-                char transformedChar = (char) ('Z' - character + 'A');
-                result.append(transformedChar);
-            } else if (character >= '가' && character <= '힣') {
-                // 한글 음절인 경우 (U+AC00 ~ U+D7A3)
-                char transformedChar = (char) ('힣' - character + '가');
-                result.append(transformedChar);
-            } else if (character >= '0' && character <= '9') {
-                // 숫자인 경우
-                char transformedChar = (char) ('9' - character + '0');
-                result.append(transformedChar);
-            } else if (character >= '!' && character <= '/') {
-                // 특수문자 블록 1: ! " # $ % & ' ( ) * + , - . /
-                char transformedChar = (char) ('/' - character + '!');
-                result.append(transformedChar);
-            } else if (character >= ':' && character <= '@') {
-                // 특수문자 블록 2: : ; < = > ? @
-                char transformedChar = (char) ('@' - character + ':');
-                result.append(transformedChar);
-            } else if (character >= '[' && character <= '`') {
-                // 특수문자 블록 3: [ \ ] ^ _ `
-                char transformedChar = (char) ('`' - character + '[');
-                result.append(transformedChar);
-            } else if (character >= '{' && character <= '~') {
-                // 특수문자 블록 4: { | } ~
-                char transformedChar = (char) ('~' - character + '{');
-                result.append(transformedChar);
-            } else {
-                // 알파벳, 한글, 숫자, 정의된 특수문자 블록이 아닌 경우 (공백 등) 그대로 추가
-                result.append(character);
-            }
+            result.append(transformChar(character));
         }
 
         return result.toString();
     }
+
+    /**
+     * 문자 하나에 아트배쉬 변환을 적용합니다.
+     */
+    static char transformChar(char character) {
+        if (character >= 'a' && character <= 'z') {
+            // 소문자 알파벳인 경우
+            return (char) ('z' - character + 'a');
+        } else if (character >= 'A' && character <= 'Z') {
+            // 대문자 알파벳인 경우
+            return (char) ('Z' - character + 'A');
+        } else if (character >= '가' && character <= '힣') {
+            // 한글 음절인 경우 (U+AC00 ~ U+D7A3)
+            return (char) ('힣' - character + '가');
+        } else if (character >= '0' && character <= '9') {
+            // 숫자인 경우
+            return (char) ('9' - character + '0');
+        } else if (character >= '!' && character <= '/') {
+            // 특수문자 블록 1: ! " # $ % & ' ( ) * + , - . /
+            return (char) ('/' - character + '!');
+        } else if (character >= ':' && character <= '@') {
+            // 특수문자 블록 2: : ; < = > ? @
+            return (char) ('@' - character + ':');
+        } else if (character >= '[' && character <= '`') {
+            // 특수문자 블록 3: [ \ ] ^ _ `
+            return (char) ('`' - character + '[');
+        } else if (character >= '{' && character <= '~') {
+            // 특수문자 블록 4: { | } ~
+            return (char) ('~' - character + '{');
+        } else {
+            // 알파벳, 한글, 숫자, 정의된 특수문자 블록이 아닌 경우 (공백 등) 그대로 반환
+            return character;
+        }
+    }
 }
\ No newline at end of file
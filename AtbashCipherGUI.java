@@ -4,17 +4,19 @@ import java.awt.datatransfer.StringSelection;
 import java.awt.event.ActionListener;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.*;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.TreeMap;
 import java.util.prefs.Preferences;
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.border.Border;
 import javax.swing.filechooser.FileNameExtensionFilter;
@@ -97,10 +99,14 @@ public class AtbashCipherGUI extends JFrame {
     private JPanel parameterPanel;
     private JLabel parameterLabel;
     private JSpinner parameterSpinner;
+    private JTextField keywordField; // Vigenere key; shown instead of the first spinner, never persisted
+    private JTextField chainField; // CipherChain spec for the custom chain modes; may hold keys, so never persisted
+    private JButton chainBuildButton;
     private JLabel parameterLabel2;
     private JSpinner parameterSpinner2;
     private Timer feedbackTimer;
     private Timer animationTimer;
+    private JfrEvents.AnimationEvent animationEvent;
 
         private JMenuBar menuBar;
     private JPanel mainPanel;
@@ -113,7 +119,9 @@ public class AtbashCipherGUI extends JFrame {
     private JMenu fileMenu;
     private JMenuItem saveMenuItem;
     private JMenuItem saveAsImageMenuItem;
+    private JMenuItem saveMorseAudioMenuItem;
     private JMenuItem loadMenuItem;
+    private JMenuItem loadMorseAudioMenuItem;
     private JCheckBoxMenuItem saveSettingsMenuItem;
     private JMenu themeMenu;
     private JRadioButtonMenuItem lightMenuItem;
@@ -125,8 +133,14 @@ public class AtbashCipherGUI extends JFrame {
     private JRadioButtonMenuItem englishMenuItem;
     private JRadioButtonMenuItem chineseMenuItem;
     private JRadioButtonMenuItem japaneseMenuItem;
+    private JMenu toolsMenu;
+    private JMenuItem frequencyMenuItem;
+    private FrequencyDialog frequencyDialog;
     private JMenu helpMenu;
     private JMenuItem aboutMenuItem;
+    private JMenuItem performanceMenuItem;
+    private JMenuItem edtStallMenuItem;
+    private PerformanceDialog performanceDialog;
     private JMenu customThemesMenu;
     private JMenuItem saveAsNewThemeMenuItem;
     private JMenuItem deleteThemeMenuItem;
@@ -142,11 +156,12 @@ public class AtbashCipherGUI extends JFrame {
     private LanguageManager languageManager;
     private boolean saveSettingsEnabled = true;
     private ActionListener cipherSaveListener;
-    private Preferences prefs;
+    // In-memory settings; changes are written to Preferences in the background.
+    private SettingsStore prefs;
 
     public AtbashCipherGUI() {
         // Initialize preferences first, so they are available for initFrame()
-        prefs = Preferences.userNodeForPackage(AtbashCipherGUI.class);
+        prefs = SettingsStore.open(Preferences.userNodeForPackage(AtbashCipherGUI.class));
         languageManager = new LanguageManager();
 
         initFrame();
@@ -157,16 +172,113 @@ public class AtbashCipherGUI extends JFrame {
         loadSettings();
     }
 
+    /**
+     * Something that can draw itself into a cached image of the given logical size.
+     */
+    private interface CachedShape {
+        void render(Graphics2D g2, int width, int height, Object key);
+    }
+
+    /**
+     * Caches the antialiased rendering of a {@link CachedShape} in a translucent, display-compatible image.
+     * The image is rendered at device resolution (HiDPI scale taken from the Graphics transform) and only
+     * re-rendered when the size, the scale or the appearance key (theme colors, state) changes, so a theme
+     * change or a resize invalidates it and ordinary repaints just blit it.
+     * <p>
+     * With a slice inset the shape is treated as a nine-slice (rounded rectangles): only a small
+     * (2 * inset + 1) square is rendered, its corners are blitted as they are, its middle row and column are
+     * stretched along the edges and the centre is a plain fill. The cache then no longer depends on the size.
+     */
+    private static class PaintCache {
+        private final int sliceInset;
+        private BufferedImage image;
+        private int width;
+        private int height;
+        private double scaleX;
+        private double scaleY;
+        private Object key;
+        private Color centerColor;
+
+        PaintCache() {
+            this(0);
+        }
+
+        PaintCache(int sliceInset) {
+            this.sliceInset = sliceInset;
+        }
+
+        void paint(Graphics2D g2, Component c, int x, int y, int w, int h, Object key, CachedShape shape) {
+            if (w <= 0 || h <= 0) return;
+            boolean sliced = sliceInset > 0 && w > sliceInset * 2 && h > sliceInset * 2;
+            int renderWidth = sliced ? sliceInset * 2 + 1 : w;
+            int renderHeight = sliced ? sliceInset * 2 + 1 : h;
+            AffineTransform transform = g2.getTransform();
+            double sx = transform.getScaleX();
+            double sy = transform.getScaleY();
+            if (image == null || renderWidth != width || renderHeight != height || sx != scaleX || sy != scaleY || !key.equals(this.key)) {
+                int pixelWidth = (int) Math.ceil(renderWidth * sx);
+                int pixelHeight = (int) Math.ceil(renderHeight * sy);
+                GraphicsConfiguration gc = c != null ? c.getGraphicsConfiguration() : null;
+                image = gc != null
+                        ? gc.createCompatibleImage(pixelWidth, pixelHeight, Transparency.TRANSLUCENT)
+                        : new BufferedImage(pixelWidth, pixelHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+                Graphics2D ig = image.createGraphics();
+                ig.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                ig.scale(sx, sy);
+                shape.render(ig, renderWidth, renderHeight, key);
+                ig.dispose();
+                centerColor = new Color(image.getRGB(pixelWidth / 2, pixelHeight / 2), true);
+                width = renderWidth;
+                height = renderHeight;
+                scaleX = sx;
+                scaleY = sy;
+                this.key = key;
+            }
+            if (!sliced) {
+                g2.drawImage(image, x, y, w, h, null);
+                return;
+            }
+            int i = sliceInset;
+            int pi = (int) Math.round(i * sx);  // inset in image pixels
+            int pj = (int) Math.round(i * sy);
+            int iw = image.getWidth();
+            int ih = image.getHeight();
+            // Corners
+            g2.drawImage(image, x, y, x + i, y + i, 0, 0, pi, pj, null);
+            g2.drawImage(image, x + w - i, y, x + w, y + i, iw - pi, 0, iw, pj, null);
+            g2.drawImage(image, x, y + h - i, x + i, y + h, 0, ih - pj, pi, ih, null);
+            g2.drawImage(image, x + w - i, y + h - i, x + w, y + h, iw - pi, ih - pj, iw, ih, null);
+            // Edges: the middle column/row of the rendered square, stretched
+            g2.drawImage(image, x + i, y, x + w - i, y + i, pi, 0, iw - pi, pj, null);
+            g2.drawImage(image, x + i, y + h - i, x + w - i, y + h, pi, ih - pj, iw - pi, ih, null);
+            g2.drawImage(image, x, y + i, x + i, y + h - i, 0, pj, pi, ih - pj, null);
+            g2.drawImage(image, x + w - i, y + i, x + w, y + h - i, iw - pi, pj, iw, ih - pj, null);
+            // Centre
+            Color previous = g2.getColor();
+            g2.setColor(centerColor);
+            g2.fillRect(x + i, y + i, w - 2 * i, h - 2 * i);
+            g2.setColor(previous);
+        }
+    }
+
     /**
      * A custom JButton with rounded corners and a hover effect.
+     * Each state (normal, rollover, pressed) keeps its own cached background image.
      */
-    private static class RoundedButton extends JButton {
-        private final int cornerRadius;
+    private static class RoundedButton extends JButton implements CachedShape {
+        private static final int STATE_NORMAL = 0;
+        private static final int STATE_ROLLOVER = 1;
+        private static final int STATE_PRESSED = 2;
 
+        private final int cornerRadius;
+        private final PaintCache[] stateCaches;
+        private int renderingState;
 
         public RoundedButton(String text, int radius) {
             super(text);
             this.cornerRadius = radius;
+            // Buttons are small, so a single full-size blit is cheaper than a nine-slice.
+            this.stateCaches = new PaintCache[]{new PaintCache(), new PaintCache(), new PaintCache()};
             setContentAreaFilled(false);
             setFocusPainted(false);
             setBorderPainted(false);
@@ -174,26 +286,27 @@ public class AtbashCipherGUI extends JFrame {
 
         @Override
         protected void paintComponent(Graphics g) {
-            Graphics2D g2 = (Graphics2D) g.create();
-            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-            Color color1 = getBackground();
             ButtonModel model = getModel();
-
             // Change colors based on button state
-            if (model.isPressed()) {
+            int state = model.isPressed() ? STATE_PRESSED : model.isRollover() ? STATE_ROLLOVER : STATE_NORMAL;
+            renderingState = state;
+            stateCaches[state].paint((Graphics2D) g, this, 0, 0, getWidth(), getHeight(), getBackground(), this);
+
+            // Let the superclass paint the text and icon.
+            super.paintComponent(g);
+        }
+
+        @Override
+        public void render(Graphics2D g2, int width, int height, Object key) {
+            Color color1 = (Color) key;
+            if (renderingState == STATE_PRESSED) {
                 color1 = color1.darker();
-            } else if (model.isRollover()) {
+            } else if (renderingState == STATE_ROLLOVER) {
                 color1 = color1.brighter();
             }
-
             // Use a single solid color for a flat look
             g2.setColor(color1);
-            g2.fillRoundRect(0, 0, getWidth(), getHeight(), cornerRadius, cornerRadius);
-            g2.dispose();
-
-            // Let the superclass paint the text and icon.
-            super.paintComponent(g);
+            g2.fillRoundRect(0, 0, width, height, cornerRadius, cornerRadius);
         }
     }
 
@@ -201,12 +314,17 @@ public class AtbashCipherGUI extends JFrame {
      * A custom JScrollPane with rounded corners.
      * The view component (e.g., JTextArea) should be set to non-opaque for this to work correctly.
      */
-    private static class RoundedScrollPane extends JScrollPane {
+    private static class RoundedScrollPane extends JScrollPane implements CachedShape {
+        private static final Color BORDER_COLOR = new Color(0, 0, 0, 20); // Semi-transparent black for a subtle shadow/border
+        private static final BasicStroke BORDER_STROKE = new BasicStroke(1f);
+
         private final int cornerRadius;
+        private final PaintCache cache;
 
         public RoundedScrollPane(Component view, int radius) {
             super(view);
             this.cornerRadius = radius;
+            this.cache = new PaintCache(radius / 2 + 1);
             setOpaque(false);
             getViewport().setOpaque(false);
             setBorder(BorderFactory.createEmptyBorder());
@@ -214,34 +332,38 @@ public class AtbashCipherGUI extends JFrame {
 
         @Override
         protected void paintComponent(Graphics g) {
-            Graphics2D g2 = (Graphics2D) g.create();
-            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
             // Draw the rounded background using the text area's background color
             Color bgColor = getViewport().getView().getBackground();
-            g2.setColor(bgColor);
-            g2.fillRoundRect(0, 0, getWidth(), getHeight(), cornerRadius, cornerRadius);
-
-            // Draw a subtle border
-            g2.setColor(new Color(0, 0, 0, 20)); // Semi-transparent black for a subtle shadow/border
-            g2.setStroke(new BasicStroke(1f));
-            g2.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, cornerRadius, cornerRadius);
-
-            g2.dispose();
+            cache.paint((Graphics2D) g, this, 0, 0, getWidth(), getHeight(), bgColor, this);
 
             // Let the original scrollpane paint its content (the text area)
             super.paintComponent(g);
         }
+
+        @Override
+        public void render(Graphics2D g2, int width, int height, Object key) {
+            g2.setColor((Color) key);
+            g2.fillRoundRect(0, 0, width, height, cornerRadius, cornerRadius);
+
+            // Draw a subtle border
+            g2.setColor(BORDER_COLOR);
+            g2.setStroke(BORDER_STROKE);
+            g2.drawRoundRect(0, 0, width - 1, height - 1, cornerRadius, cornerRadius);
+        }
     }
 
     /**
      * A custom Icon implementation to draw menu icons programmatically.
+     * The strokes are rendered once per color and display scale and then blitted.
      */
-    private static class MenuIcon implements Icon {
+    private static class MenuIcon implements Icon, CachedShape {
         enum IconType { SAVE, LOAD, SAVE_IMAGE }
 
+        private static final BasicStroke ICON_STROKE = new BasicStroke(1.5f);
+
         private final IconType type;
         private Color color = Color.BLACK;
+        private final PaintCache cache = new PaintCache();
         private static final int ICON_SIZE = 16;
 
         public MenuIcon(IconType type) {
@@ -254,10 +376,15 @@ public class AtbashCipherGUI extends JFrame {
 
         @Override
         public void paintIcon(Component c, Graphics g, int x, int y) {
-            Graphics2D g2 = (Graphics2D) g.create();
-            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            g2.setColor(this.color);
-            g2.setStroke(new BasicStroke(1.5f));
+            cache.paint((Graphics2D) g, c, x, y, ICON_SIZE, ICON_SIZE, color, this);
+        }
+
+        @Override
+        public void render(Graphics2D g2, int width, int height, Object key) {
+            g2.setColor((Color) key);
+            g2.setStroke(ICON_STROKE);
+            int x = 0;
+            int y = 0;
 
             if (type == IconType.SAVE) {
                 // Downward arrow into a tray
@@ -281,7 +408,6 @@ public class AtbashCipherGUI extends JFrame {
                 // Mountains
                 g2.drawPolyline(new int[]{x + 3, x + 6, x + 9, x + 12}, new int[]{y + 12, y + 8, y + 10, y + 12}, 4);
             }
-            g2.dispose();
         }
 
         @Override public int getIconWidth() { return ICON_SIZE; }
@@ -305,6 +431,9 @@ public class AtbashCipherGUI extends JFrame {
         String langName = prefs.get("language", Language.KOREAN.name());
         Language language = Language.KOREAN;
         try { language = Language.valueOf(langName); } catch (IllegalArgumentException e) { /* Use default */ }
+        // Load the pack synchronously at startup so the first frame never shows placeholder keys.
+        // A custom language starts from the English pack until its own strings are applied below.
+        languageManager.loadLanguage(language == Language.CUSTOM ? Language.ENGLISH : language);
         // Set language first, as it affects UI text.
         setLanguage(language);
 
@@ -371,11 +500,15 @@ public class AtbashCipherGUI extends JFrame {
 
     private void updateParameterPanel(int selectedIndex) {
         boolean showPanel = false;
-        // Default to hiding second parameter
+        // Default to hiding second parameter and the keyword field
         parameterLabel2.setVisible(false);
         parameterSpinner2.setVisible(false);
+        keywordField.setVisible(false);
+        chainField.setVisible(false);
+        chainBuildButton.setVisible(false);
+        parameterSpinner.setVisible(true);
 
-        if (selectedIndex >= 3 && selectedIndex <= 4) { // Caesar
+        if ((selectedIndex >= 3 && selectedIndex <= 4) || (selectedIndex >= 13 && selectedIndex <= 14)) { // Caesar, jamo-level Caesar
             parameterLabel.setText(languageManager.get("PARAM_SHIFT_KEY"));
             parameterSpinner.setModel(new SpinnerNumberModel(prefs.getInt("caesarShift", 3), -1000, 1000, 1));
             showPanel = true;
@@ -393,6 +526,21 @@ public class AtbashCipherGUI extends JFrame {
             parameterLabel2.setVisible(true);
             parameterSpinner2.setVisible(true);
             showPanel = true;
+        } else if (selectedIndex == 18) { // Packed binary
+            parameterLabel.setText(languageManager.get("PARAM_LINE_WIDTH"));
+            parameterSpinner.setModel(new SpinnerNumberModel(prefs.getInt("packedLineWidth", 0), 0, 10000, 8));
+            showPanel = true;
+        } else if (selectedIndex >= 19 && selectedIndex <= 20) { // Vigenere
+            parameterLabel.setText(languageManager.get("PARAM_KEYWORD"));
+            parameterSpinner.setVisible(false);
+            keywordField.setVisible(true);
+            showPanel = true;
+        } else if (selectedIndex >= 21 && selectedIndex <= 22) { // Custom chain
+            parameterLabel.setText(languageManager.get("PARAM_CHAIN"));
+            parameterSpinner.setVisible(false);
+            chainField.setVisible(true);
+            chainBuildButton.setVisible(true);
+            showPanel = true;
         }
 
         parameterPanel.setVisible(showPanel);
@@ -446,15 +594,21 @@ public class AtbashCipherGUI extends JFrame {
         saveAsImageMenuItem = new JMenuItem();
         saveMenuItem.setIcon(saveIcon);
         saveAsImageMenuItem.setIcon(saveImageIcon);
+        saveMorseAudioMenuItem = new JMenuItem();
+        saveMorseAudioMenuItem.setIcon(saveIcon);
         loadMenuItem = new JMenuItem();
         loadMenuItem.setIcon(loadIcon);
+        loadMorseAudioMenuItem = new JMenuItem();
+        loadMorseAudioMenuItem.setIcon(loadIcon);
         saveSettingsMenuItem = new JCheckBoxMenuItem();
         saveSettingsMenuItem.setSelected(true);
         fileMenu.add(loadMenuItem);
+        fileMenu.add(loadMorseAudioMenuItem);
         fileMenu.add(saveSettingsMenuItem);
         fileMenu.addSeparator();
         fileMenu.add(saveMenuItem);
         fileMenu.add(saveAsImageMenuItem);
+        fileMenu.add(saveMorseAudioMenuItem);
 
         themeMenu = new JMenu();
         themeGroup = new ButtonGroup();
@@ -528,14 +682,23 @@ public class AtbashCipherGUI extends JFrame {
         languageMenu.add(exportLanguagePackMenuItem);
         languageMenu.add(importLanguagePackMenuItem);
 
+        toolsMenu = new JMenu();
+        frequencyMenuItem = new JMenuItem();
+        toolsMenu.add(frequencyMenuItem);
+
         helpMenu = new JMenu();
 
         aboutMenuItem = new JMenuItem();
+        performanceMenuItem = new JMenuItem();
+        edtStallMenuItem = new JMenuItem();
+        helpMenu.add(performanceMenuItem);
+        helpMenu.add(edtStallMenuItem);
         helpMenu.add(aboutMenuItem);
 
         menuBar.add(fileMenu);
         menuBar.add(themeMenu);
         menuBar.add(languageMenu);
+        menuBar.add(toolsMenu);
         menuBar.add(helpMenu);
 
         setJMenuBar(menuBar);
@@ -679,9 +842,12 @@ public class AtbashCipherGUI extends JFrame {
             prefs.put("language", lang.name());
         }
         if (lang != Language.CUSTOM) {
-            languageManager.loadLanguage(lang);
+            // The pack is parsed off the EDT (unless cached) and swapped in as a whole,
+            // so the UI keeps showing the previous language until the new one is ready.
+            languageManager.loadLanguageAsync(lang, this::applyLanguage);
+        } else {
+            applyLanguage();
         }
-        applyLanguage();
     }
 
     private void applyLanguage() {
@@ -689,7 +855,9 @@ public class AtbashCipherGUI extends JFrame {
         fileMenu.setText(languageManager.get("FILE_MENU"));
         saveMenuItem.setText(languageManager.get("SAVE_MENU"));
         saveAsImageMenuItem.setText(languageManager.get("SAVE_IMAGE_MENU"));
+        saveMorseAudioMenuItem.setText(languageManager.get("SAVE_AUDIO_MENU"));
         loadMenuItem.setText(languageManager.get("LOAD_MENU"));
+        loadMorseAudioMenuItem.setText(languageManager.get("LOAD_AUDIO_MENU"));
         saveSettingsMenuItem.setText(languageManager.get("SAVE_SETTINGS_MENU"));
 
         themeMenu.setText(languageManager.get("THEME_MENU"));
@@ -711,11 +879,16 @@ public class AtbashCipherGUI extends JFrame {
         exportLanguagePackMenuItem.setText(languageManager.get("EXPORT_LANG_PACK_MENU"));
         importLanguagePackMenuItem.setText(languageManager.get("IMPORT_LANG_PACK_MENU"));
 
+        toolsMenu.setText(languageManager.get("TOOLS_MENU"));
+        frequencyMenuItem.setText(languageManager.get("FREQ_MENU"));
         helpMenu.setText(languageManager.get("HELP_MENU"));
         aboutMenuItem.setText(languageManager.get("ABOUT_MENU"));
+        performanceMenuItem.setText(languageManager.get("PERF_MENU"));
+        edtStallMenuItem.setText(languageManager.get("EDT_STALL_MENU"));
         inputLabel.setText(languageManager.get("INPUT_LABEL"));
         outputLabel.setText(languageManager.get("OUTPUT_LABEL"));
         transformButton.setText(languageManager.get("TRANSFORM_BUTTON"));
+        chainBuildButton.setText(languageManager.get("CHAIN_BUILD_BUTTON"));
         clearButton.setText(languageManager.get("CLEAR_BUTTON"));
         copyButton.setText(languageManager.get("COPY_BUTTON"));
         // Clear feedback message on language change to avoid showing it in the wrong language
@@ -739,6 +912,24 @@ public class AtbashCipherGUI extends JFrame {
         cipherSelector.addItem(languageManager.get("CIPHER_SCYTALE_DECRYPT"));
         cipherSelector.addItem(languageManager.get("CIPHER_CHAINED"));
         cipherSelector.addItem(languageManager.get("CIPHER_CHAINED_DECRYPT"));
+        cipherSelector.addItem(languageManager.get("CIPHER_CAESAR_CRACK"));
+        cipherSelector.addItem(languageManager.get("CIPHER_SCYTALE_CRACK"));
+        cipherSelector.addItem(languageManager.get("CIPHER_CHAINED_CRACK"));
+        cipherSelector.addItem(languageManager.get("CIPHER_JAMO_ATBASH"));
+        cipherSelector.addItem(languageManager.get("CIPHER_JAMO_CAESAR_ENCRYPT"));
+        cipherSelector.addItem(languageManager.get("CIPHER_JAMO_CAESAR_DECRYPT"));
+        cipherSelector.addItem(languageManager.get("CIPHER_OCTAL"));
+        cipherSelector.addItem(languageManager.get("CIPHER_HEX"));
+        cipherSelector.addItem(languageManager.get("CIPHER_BASE64"));
+        cipherSelector.addItem(languageManager.get("CIPHER_PACKED"));
+        cipherSelector.addItem(languageManager.get("CIPHER_VIGENERE_ENCRYPT"));
+        cipherSelector.addItem(languageManager.get("CIPHER_VIGENERE_DECRYPT"));
+        cipherSelector.addItem(languageManager.get("CIPHER_CHAIN_ENCRYPT"));
+        cipherSelector.addItem(languageManager.get("CIPHER_CHAIN_DECRYPT"));
+        cipherSelector.addItem(languageManager.get("CIPHER_BINARY_DECODE"));
+        cipherSelector.addItem(languageManager.get("CIPHER_OCTAL_DECODE"));
+        cipherSelector.addItem(languageManager.get("CIPHER_HEX_DECODE"));
+        cipherSelector.addItem(languageManager.get("CIPHER_BASE64_DECODE"));
 
         cipherSelector.setSelectedIndex(selectedIndex);
         // Update parameter label language if it's visible
@@ -747,6 +938,8 @@ public class AtbashCipherGUI extends JFrame {
     }
 
     private void applyTheme(Theme theme) {
+        JfrEvents.ThemeEvent themeEvent = new JfrEvents.ThemeEvent();
+        themeEvent.begin();
         // Set UIManager defaults to ensure all components (including popups) follow the theme.
         // This is especially important for Nimbus L&F.
         Color controlTextColor = (theme == Theme.DARK) ? Color.WHITE : theme.foreground;
@@ -829,8 +1022,11 @@ public class AtbashCipherGUI extends JFrame {
         // JSpinner
         configureSpinner(parameterSpinner, theme, toolbarRelatedColor);
         configureSpinner(parameterSpinner2, theme, toolbarRelatedColor);
+        configureTextField(keywordField, theme, toolbarRelatedColor);
+        configureTextField(chainField, theme, toolbarRelatedColor);
 
         SwingUtilities.updateComponentTreeUI(this);
+        commitThemeEvent(themeEvent, theme.themeName);
     }
 
     private void applyCustomColors(Color mainBg, Color textAreaBg, Color textColor, Color primaryBtn, Color secondaryBtn) {
@@ -878,6 +1074,8 @@ public class AtbashCipherGUI extends JFrame {
 
         configureSpinner(parameterSpinner, tempTheme, textColor);
         configureSpinner(parameterSpinner2, tempTheme, textColor);
+        configureTextField(keywordField, tempTheme, textColor);
+        configureTextField(chainField, tempTheme, textColor);
 
         SwingUtilities.updateComponentTreeUI(this);
     }
@@ -904,6 +1102,14 @@ public class AtbashCipherGUI extends JFrame {
         }
     }
 
+    private static void commitThemeEvent(JfrEvents.ThemeEvent event, String themeName) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.theme = themeName;
+            event.commit();
+        }
+    }
+
     private void applyCustomTheme(String themeName) {
         try {
             // Load custom theme colors from preferences for the given name
@@ -913,7 +1119,10 @@ public class AtbashCipherGUI extends JFrame {
             Color primaryBtn = new Color(prefs.getInt("custom.theme." + themeName + ".button.primary", Theme.LIGHT.primaryButton.getRGB()));
             Color secondaryBtn = new Color(prefs.getInt("custom.theme." + themeName + ".button.secondary", Theme.LIGHT.secondaryButton.getRGB()));
 
+            JfrEvents.ThemeEvent themeEvent = new JfrEvents.ThemeEvent();
+            themeEvent.begin();
             applyCustomColors(mainBg, textAreaBg, textColor, primaryBtn, secondaryBtn);
+            commitThemeEvent(themeEvent, themeName);
 
             // Save this as the last used theme
             if (saveSettingsEnabled) {
@@ -945,6 +1154,18 @@ public class AtbashCipherGUI extends JFrame {
         }
     }
 
+    private void configureTextField(JTextField field, Theme theme, Color controlTextColor) {
+        if (field == null) return;
+        // Same look as the spinner editors next to it
+        field.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(theme.border),
+            BorderFactory.createEmptyBorder(2, 6, 2, 6)
+        ));
+        field.setForeground(controlTextColor);
+        field.setBackground(theme.textAreaBg);
+        field.setCaretColor(theme.foreground);
+    }
+
     private void configureButton(JButton button, Font font) {
         button.setFont(font);
         button.setForeground(Color.WHITE);
@@ -1020,10 +1241,25 @@ public class AtbashCipherGUI extends JFrame {
         parameterPanel.setOpaque(false);
         parameterLabel = new JLabel();
         parameterSpinner = new JSpinner();
+        keywordField = new JTextField(12);
+        keywordField.setVisible(false);
+        chainField = new JTextField("atbash,scytale:5,caesar:3,morse", 24);
+        chainField.setVisible(false);
+        chainBuildButton = new JButton();
+        chainBuildButton.setVisible(false);
+        chainBuildButton.addActionListener(e -> {
+            String spec = ChainBuilderDialog.edit(this, languageManager, chainField.getText());
+            if (spec != null) {
+                chainField.setText(spec);
+            }
+        });
         parameterLabel2 = new JLabel();
         parameterSpinner2 = new JSpinner();
         parameterPanel.add(parameterLabel);
         parameterPanel.add(parameterSpinner);
+        parameterPanel.add(keywordField);
+        parameterPanel.add(chainField);
+        parameterPanel.add(chainBuildButton);
         parameterPanel.add(parameterLabel2);
         parameterPanel.add(parameterSpinner2);
         parameterPanel.setVisible(false); // Initially hidden
@@ -1193,6 +1429,7 @@ public class AtbashCipherGUI extends JFrame {
         });
 
         saveAsImageMenuItem.addActionListener(e -> saveOutputAsImage());
+        saveMorseAudioMenuItem.addActionListener(e -> saveOutputAsMorseAudio());
 
         saveMenuItem.addActionListener(e -> {
             JFileChooser fileChooser = new JFileChooser();
@@ -1208,8 +1445,14 @@ public class AtbashCipherGUI extends JFrame {
                     fileToSave = new File(fileToSave.getParentFile(), fileToSave.getName() + ".txt");
                 }
 
+                JfrEvents.FileIOEvent ioEvent = new JfrEvents.FileIOEvent();
+                ioEvent.begin();
+                long start = PerfRecorder.start();
                 try (FileWriter writer = new FileWriter(fileToSave)) {
                     writer.write(outputTextArea.getText());
+                    writer.flush();
+                    PerfRecorder.record("file.save", start, fileToSave.length());
+                    commitFileEvent(ioEvent, "save", fileToSave, fileToSave.length());
                 } catch (IOException ex) {
                     JOptionPane.showMessageDialog(this,
                             languageManager.get("SAVE_ERROR_MESSAGE") + ex.getMessage(),
@@ -1232,7 +1475,12 @@ public class AtbashCipherGUI extends JFrame {
             if (userSelection == JFileChooser.APPROVE_OPTION) {
                 File fileToLoad = fileChooser.getSelectedFile();
                 try {
+                    JfrEvents.FileIOEvent ioEvent = new JfrEvents.FileIOEvent();
+                    ioEvent.begin();
+                    long start = PerfRecorder.start();
                     String content = Files.readString(fileToLoad.toPath());
+                    PerfRecorder.record("file.load", start, fileToLoad.length());
+                    commitFileEvent(ioEvent, "load", fileToLoad, fileToLoad.length());
                     inputTextArea.setText(content);
                     // Clear the output area when loading new text
                     outputTextArea.setText("");
@@ -1245,7 +1493,11 @@ public class AtbashCipherGUI extends JFrame {
             }
         });
 
+        loadMorseAudioMenuItem.addActionListener(e -> loadMorseAudio());
         aboutMenuItem.addActionListener(e -> showHelpDialog());
+        performanceMenuItem.addActionListener(e -> showPerformanceDialog());
+        frequencyMenuItem.addActionListener(e -> showFrequencyDialog());
+        edtStallMenuItem.addActionListener(e -> showEdtStallReport());
 
         saveAsNewThemeMenuItem.addActionListener(e -> promptAndSaveNewTheme());
         deleteThemeMenuItem.addActionListener(e -> deleteSelectedCustomTheme());
@@ -1321,52 +1573,41 @@ public class AtbashCipherGUI extends JFrame {
         }
     }
 
-    private String performTransformation(String inputText, int selectedCipherIndex, int key, int key2) {
-        String transformedText = "";
-        switch (selectedCipherIndex) {
-            case 0: // 아트배쉬
-                transformedText = AtbashCipher.transform(inputText);
-                break;
-            case 1: // 모스 부호 (자동 감지)
-                if (MorseCode.isMorseCode(inputText)) {
-                    transformedText = MorseCode.fromMorse(inputText); // 모스 부호 -> 텍스트
-                } else {
-                    transformedText = MorseCode.toMorse(inputText); // 텍스트 -> 모스 부호
-                }
-                break;
-            case 2: // 이진수 (자동 감지)
-                if (BinaryCipher.isBinary(inputText)) {
-                    transformedText = BinaryCipher.fromBinary(inputText);
-                } else {
-                    transformedText = BinaryCipher.toBinary(inputText);
-                }
-                break;
-            case 3: // 카이사르 (암호화)
-                transformedText = CaesarCipher.encrypt(inputText, key);
-                break;
-            case 4: // 카이사르 (복호화)
-                transformedText = CaesarCipher.decrypt(inputText, key);
-                break;
-            case 5: // 스퀴탈레 (암호화)
-                transformedText = ScytaleCipher.encrypt(inputText, key);
-                break;
-            case 6: // 스퀴탈레 (복호화)
-                transformedText = ScytaleCipher.decrypt(inputText, key);
-                break;
-            case 7: // Chained
-                String atbashResult = AtbashCipher.transform(inputText);
-                String scytaleResult = ScytaleCipher.encrypt(atbashResult, key); // key is diameter
-                String caesarResult = CaesarCipher.encrypt(scytaleResult, key2); // key2 is shift
-                transformedText = MorseCode.toMorse(caesarResult);
-                break;
-            case 8: // Chained Decrypt
-                String morseResult = MorseCode.fromMorse(inputText);
-                String caesarDecryptResult = CaesarCipher.decrypt(morseResult, key2); // key2 is shift
-                String scytaleDecryptResult = ScytaleCipher.decrypt(caesarDecryptResult, key); // key is diameter
-                transformedText = AtbashCipher.transform(scytaleDecryptResult); // Atbash is its own inverse
-                break;
+    private void showPerformanceDialog() {
+        if (performanceDialog == null || !performanceDialog.isDisplayable()) {
+            performanceDialog = new PerformanceDialog(this, languageManager);
         }
-        return transformedText;
+        performanceDialog.setVisible(true);
+        performanceDialog.toFront();
+    }
+
+    private void showFrequencyDialog() {
+        if (frequencyDialog == null || !frequencyDialog.isDisplayable()) {
+            frequencyDialog = new FrequencyDialog(this, languageManager, inputTextArea, outputTextArea);
+        }
+        frequencyDialog.setVisible(true);
+        frequencyDialog.toFront();
+    }
+
+    private void showEdtStallReport() {
+        String report = EdtWatchdog.report();
+        JTextArea reportArea = new JTextArea(report.isEmpty() ? languageManager.get("EDT_STALL_EMPTY") : report);
+        reportArea.setEditable(false);
+        reportArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        reportArea.setCaretPosition(0);
+        JScrollPane scrollPane = new JScrollPane(reportArea);
+        scrollPane.setPreferredSize(new Dimension(720, 420));
+
+        Object[] options = {languageManager.get("PERF_RESET_BUTTON"), UIManager.getString("OptionPane.okButtonText")};
+        int choice = JOptionPane.showOptionDialog(this, scrollPane, languageManager.get("EDT_STALL_TITLE"),
+                JOptionPane.DEFAULT_OPTION, JOptionPane.PLAIN_MESSAGE, null, options, options[1]);
+        if (choice == 0) {
+            EdtWatchdog.reset();
+        }
+    }
+
+    private String performTransformation(String inputText, int selectedCipherIndex, int key, int key2, String keyword) {
+        return CipherModes.transform(inputText, selectedCipherIndex, key, key2, keyword);
     }
 
     /**
@@ -1386,6 +1627,7 @@ public class AtbashCipherGUI extends JFrame {
             int selectedCipherIndex = cipherSelector.getSelectedIndex();
             int key = 0;
             int key2 = 0;
+            String keyword = "";
 
             // We need to get spinner values on the EDT, but it's generally safe here
             // as the UI is disabled. For robustness, one might pass these values
@@ -1395,9 +1637,24 @@ public class AtbashCipherGUI extends JFrame {
                 if (parameterSpinner2.isVisible()) {
                     key2 = (Integer) parameterSpinner2.getValue();
                 }
+                if (keywordField.isVisible()) {
+                    keyword = keywordField.getText();
+                }
+                if (chainField.isVisible()) {
+                    keyword = chainField.getText();
+                }
             }
 
-            return performTransformation(inputText, selectedCipherIndex, key, key2);
+            long allocatedBefore = PerfRecorder.threadAllocatedBytes();
+            long start = PerfRecorder.start();
+            String result = performTransformation(inputText, selectedCipherIndex, key, key2, keyword);
+            long elapsed = System.nanoTime() - start;
+            long allocatedAfter = PerfRecorder.threadAllocatedBytes();
+            String[] modeNames = CipherModes.cliNames();
+            String mode = selectedCipherIndex >= 0 && selectedCipherIndex < modeNames.length ? modeNames[selectedCipherIndex] : "unknown";
+            PerfRecorder.recordRun(mode, inputText.length(), result.length(), elapsed,
+                    allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore);
+            return result;
         }
 
         public void startAnimation(String resultText) {
@@ -1406,24 +1663,52 @@ public class AtbashCipherGUI extends JFrame {
         }
     }
 
+    private static void commitFileEvent(JfrEvents.FileIOEvent event, String operation, File file, long bytes) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.path = file.getAbsolutePath();
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
     private void animateText(JTextArea textArea, String text) {
         if (animationTimer != null && animationTimer.isRunning()) {
             animationTimer.stop();
+            commitAnimationEvent(false);
         }
         final int[] charIndex = {0};
         textArea.setText("");
 
+        animationEvent = new JfrEvents.AnimationEvent();
+        animationEvent.begin();
         animationTimer = new Timer(15, e -> { // Adjust delay for speed
             if (charIndex[0] < text.length()) {
                 textArea.append(String.valueOf(text.charAt(charIndex[0])));
                 charIndex[0]++;
             } else {
                 ((Timer) e.getSource()).stop();
+                commitAnimationEvent(true);
             }
         });
         animationTimer.start();
     }
 
+    private void commitAnimationEvent(boolean completed) {
+        JfrEvents.AnimationEvent event = animationEvent;
+        animationEvent = null;
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.characters = outputTextArea.getText().length();
+            event.completed = completed;
+            event.commit();
+        }
+    }
+
     private void exportCurrentTheme() {
         JFileChooser fileChooser = new JFileChooser();
         fileChooser.setDialogTitle(languageManager.get("EXPORT_THEME_DIALOG_TITLE"));
@@ -1578,11 +1863,21 @@ public class AtbashCipherGUI extends JFrame {
             if (langName != null && !langName.isBlank()) {
                 langName = langName.trim();
 
-                // 5. Save the new language pack to preferences
+                // 5. Save the new language pack as a single file
+                if (table.isEditing()) {
+                    table.getCellEditor().stopCellEditing();
+                }
+                Map<String, String> pack = new HashMap<>();
                 for (int row = 0; row < table.getRowCount(); row++) {
                     String key = (String) table.getValueAt(row, 0);
                     String value = (String) table.getValueAt(row, 1);
-                    prefs.put("custom.lang." + langName + "." + key, value);
+                    pack.put(key, value);
+                }
+                try {
+                    languageManager.saveCustomLanguage(langName, pack);
+                } catch (IOException ex) {
+                    JOptionPane.showMessageDialog(this, languageManager.get("SAVE_ERROR_MESSAGE") + ex.getMessage(), languageManager.get("SAVE_ERROR_TITLE"), JOptionPane.ERROR_MESSAGE);
+                    return;
                 }
 
                 // 6. Update the list of language pack names
@@ -1656,7 +1951,7 @@ public class AtbashCipherGUI extends JFrame {
                 TreeMap<String, String> strings = languageManager.getAllStrings();
                 int count = 0;
                 for (var entry : strings.entrySet()) {
-                    writer.write(String.format("  \"%s\": \"%s\"", entry.getKey(), entry.getValue().replace("\"", "\\\"")));
+                    writer.write(String.format("  \"%s\": \"%s\"", LanguageManager.escapeJson(entry.getKey()), LanguageManager.escapeJson(entry.getValue())));
                     if (++count < strings.size()) {
                         writer.write(",\n");
                     } else {
@@ -1680,14 +1975,14 @@ public class AtbashCipherGUI extends JFrame {
             String langName = file.getName().replaceFirst("[.][^.]+$", ""); // Get name from filename
 
             try (InputStream is = new FileInputStream(file)) {
-                languageManager.loadLanguageFromStream(is);
-                TreeMap<String, String> importedStrings = languageManager.getAllStrings();
-
-                // Save the imported language pack to preferences
-                for (var entry : importedStrings.entrySet()) {
-                    prefs.put("custom.lang." + langName + "." + entry.getKey(), entry.getValue());
+                Map<String, String> importedStrings = LanguageManager.parseStream(is);
+                if (importedStrings.isEmpty()) {
+                    throw new IOException("No strings found in " + file.getName());
                 }
 
+                // Save the imported language pack as a single file
+                languageManager.saveCustomLanguage(langName, importedStrings);
+
                 // Update the list of language pack names
                 List<String> names = getCustomLanguagePackNames();
                 if (!names.contains(langName)) {
@@ -1712,7 +2007,7 @@ public class AtbashCipherGUI extends JFrame {
         int selectedIndex = cipherSelector.getSelectedIndex();
         Object value = parameterSpinner.getValue();
         if (value instanceof Integer) {
-            if (selectedIndex >= 3 && selectedIndex <= 4) { // Caesar
+            if ((selectedIndex >= 3 && selectedIndex <= 4) || (selectedIndex >= 13 && selectedIndex <= 14)) { // Caesar, jamo-level Caesar
                 prefs.putInt("caesarShift", (Integer) value);
             } else if (selectedIndex >= 5 && selectedIndex <= 6) { // Scytale
                 prefs.putInt("scytaleDiameter", (Integer) value);
@@ -1724,6 +2019,8 @@ public class AtbashCipherGUI extends JFrame {
                 if (value2 instanceof Integer) {
                     prefs.putInt("caesarShift", (Integer) value2);
                 }
+            } else if (selectedIndex == 18) { // Packed binary
+                prefs.putInt("packedLineWidth", (Integer) value);
             }
         }
     }
@@ -1780,7 +2077,7 @@ public class AtbashCipherGUI extends JFrame {
     }
 
     private void removeCustomLanguagePack(String langName) {
-        try { prefs.node("custom.lang." + langName).removeNode(); } catch (Exception e) { /* Ignored */ }
+        languageManager.deleteCustomLanguage(prefs, langName);
     }
 
     private void rebuildCustomThemesMenu(List<String> themeNames) {
@@ -1803,7 +2100,7 @@ public class AtbashCipherGUI extends JFrame {
     }
 
     private void removeCustomTheme(String themeName) {
-        try { prefs.node("custom.theme." + themeName).removeNode(); } catch (Exception e) { /* Ignored */ }
+        prefs.removeByPrefix("custom.theme." + themeName + ".");
     }
 
     private void saveOutputAsImage() {
@@ -1828,54 +2125,206 @@ public class AtbashCipherGUI extends JFrame {
                 fileToSave = new File(fileToSave.getParentFile(), fileToSave.getName() + ".png");
             }
 
-            try {
-                // 1. Get text and font details
-                Font font = outputTextArea.getFont();
-                FontMetrics metrics = getFontMetrics(font);
-                String[] lines = text.split("\n");
-
-                // 2. Calculate image dimensions
-                int padding = 20;
-                int lineHeight = metrics.getHeight();
-                int imageWidth = 0;
-                for (String line : lines) {
-                    imageWidth = Math.max(imageWidth, metrics.stringWidth(line));
+            // Render and encode on a background thread; memory is bounded by the exporter's tile size.
+            TextImageExporter exporter = new TextImageExporter(outputTextArea.getFont(), getFontMetrics(outputTextArea.getFont()),
+                    outputTextArea.getBackground(), outputTextArea.getForeground());
+            ProgressMonitor monitor = new ProgressMonitor(this, languageManager.get("SAVE_IMAGE_PROGRESS"), null, 0, 100);
+            monitor.setMillisToDecideToPopup(200);
+            final File target = fileToSave;
+            SwingWorker<List<File>, Void> worker = new SwingWorker<>() {
+                @Override
+                protected List<File> doInBackground() throws Exception {
+                    JfrEvents.FileIOEvent ioEvent = new JfrEvents.FileIOEvent();
+                    ioEvent.begin();
+                    long start = PerfRecorder.start();
+                    List<File> files = exporter.export(text, target, this::setProgress, monitor::isCanceled);
+                    long bytes = 0;
+                    for (File file : files) {
+                        bytes += file.length();
+                    }
+                    PerfRecorder.record("image.save", start, bytes);
+                    commitFileEvent(ioEvent, "image.save", target, bytes);
+                    return files;
                 }
-                imageWidth += padding * 2;
-                int imageHeight = (lineHeight * lines.length) + padding * 2;
-
-                // 3. Create image and graphics context
-                BufferedImage image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_RGB);
-                Graphics2D g2d = image.createGraphics();
 
-                // 4. Draw on the image
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+                @Override
+                protected void done() {
+                    monitor.close();
+                    try {
+                        get();
+                    } catch (InterruptedException | java.util.concurrent.CancellationException ex) {
+                        // Cancelled by the user; nothing to report.
+                    } catch (java.util.concurrent.ExecutionException ex) {
+                        if (!(ex.getCause() instanceof InterruptedIOException)) {
+                            JOptionPane.showMessageDialog(AtbashCipherGUI.this, languageManager.get("SAVE_IMAGE_ERROR_MESSAGE") + ex.getCause().getMessage(), languageManager.get("SAVE_ERROR_TITLE"), JOptionPane.ERROR_MESSAGE);
+                        }
+                    }
+                }
+            };
+            worker.addPropertyChangeListener(evt -> {
+                if ("progress".equals(evt.getPropertyName())) {
+                    monitor.setProgress((Integer) evt.getNewValue());
+                }
+            });
+            worker.execute();
+        }
+    }
 
-                // Use the actual colors from the text area to support custom themes
-                g2d.setColor(outputTextArea.getBackground());
-                g2d.fillRect(0, 0, imageWidth, imageHeight);
+    private void loadMorseAudio() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle(languageManager.get("LOAD_AUDIO_MENU"));
+        fileChooser.setFileFilter(new FileNameExtensionFilter("WAV Audio (*.wav)", "wav"));
 
-                g2d.setColor(outputTextArea.getForeground());
-                g2d.setFont(font);
+        if (fileChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File fileToLoad = fileChooser.getSelectedFile();
+        ProgressMonitor monitor = new ProgressMonitor(this, languageManager.get("LOAD_AUDIO_PROGRESS"), null, 0, 100);
+        monitor.setMillisToDecideToPopup(200);
+        SwingWorker<MorseAudioDecoder.Result, Void> worker = new SwingWorker<>() {
+            @Override
+            protected MorseAudioDecoder.Result doInBackground() throws Exception {
+                JfrEvents.FileIOEvent ioEvent = new JfrEvents.FileIOEvent();
+                ioEvent.begin();
+                long start = PerfRecorder.start();
+                // The tone frequency is detected from the recording itself.
+                MorseAudioDecoder.Result result = MorseAudioDecoder.decode(fileToLoad, 0, this::setProgress, monitor::isCanceled);
+                PerfRecorder.record("audio.load", start, fileToLoad.length());
+                commitFileEvent(ioEvent, "audio.load", fileToLoad, fileToLoad.length());
+                return result;
+            }
 
-                int y = padding + metrics.getAscent();
-                for (String line : lines) {
-                    g2d.drawString(line, padding, y);
-                    y += lineHeight;
+            @Override
+            protected void done() {
+                monitor.close();
+                try {
+                    MorseAudioDecoder.Result result = get();
+                    // Show the decoded Morse in the input and switch to the Morse mode so it can be read as text.
+                    cipherSelector.setSelectedIndex(CipherModes.MORSE);
+                    inputTextArea.setText(result.morse);
+                    outputTextArea.setText("");
+                } catch (InterruptedException | java.util.concurrent.CancellationException ex) {
+                    // Cancelled by the user; nothing to report.
+                } catch (java.util.concurrent.ExecutionException ex) {
+                    if (!(ex.getCause() instanceof InterruptedIOException)) {
+                        JOptionPane.showMessageDialog(AtbashCipherGUI.this,
+                                languageManager.get("LOAD_ERROR_MESSAGE") + ex.getCause().getMessage(),
+                                languageManager.get("LOAD_ERROR_TITLE"),
+                                JOptionPane.ERROR_MESSAGE);
+                    }
                 }
+            }
+        };
+        worker.addPropertyChangeListener(evt -> {
+            if ("progress".equals(evt.getPropertyName())) {
+                monitor.setProgress((Integer) evt.getNewValue());
+            }
+        });
+        worker.execute();
+    }
 
-                g2d.dispose();
+    private void saveOutputAsMorseAudio() {
+        String text = outputTextArea.getText();
+        if (text == null || text.isBlank()) {
+            showNoAudioContent();
+            return;
+        }
 
-                // 5. Save the image
-                ImageIO.write(image, "png", fileToSave);
+        JSpinner wpmSpinner = new JSpinner(new SpinnerNumberModel(prefs.getInt("audioWpm", MorseAudioExporter.DEFAULT_WPM), 5, 60, 1));
+        JSpinner farnsworthSpinner = new JSpinner(new SpinnerNumberModel(prefs.getInt("audioFarnsworthWpm", MorseAudioExporter.DEFAULT_WPM), 1, 60, 1));
+        JSpinner frequencySpinner = new JSpinner(new SpinnerNumberModel(prefs.getInt("audioFrequency", MorseAudioExporter.DEFAULT_FREQUENCY), 200, 2000, 10));
+        JComboBox<Integer> sampleRateBox = new JComboBox<>(new Integer[]{8000, 16000, 22050, 44100, 48000});
+        sampleRateBox.setSelectedItem(prefs.getInt("audioSampleRate", MorseAudioExporter.DEFAULT_SAMPLE_RATE));
+        JPanel settingsPanel = new JPanel(new GridLayout(0, 2, 8, 4));
+        settingsPanel.add(new JLabel(languageManager.get("AUDIO_WPM")));
+        settingsPanel.add(wpmSpinner);
+        settingsPanel.add(new JLabel(languageManager.get("AUDIO_FARNSWORTH_WPM")));
+        settingsPanel.add(farnsworthSpinner);
+        settingsPanel.add(new JLabel(languageManager.get("AUDIO_FREQUENCY")));
+        settingsPanel.add(frequencySpinner);
+        settingsPanel.add(new JLabel(languageManager.get("AUDIO_SAMPLE_RATE")));
+        settingsPanel.add(sampleRateBox);
+        if (JOptionPane.showConfirmDialog(this, settingsPanel, languageManager.get("SAVE_AUDIO_MENU"),
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE) != JOptionPane.OK_OPTION) {
+            return;
+        }
+        int wpm = (Integer) wpmSpinner.getValue();
+        int farnsworthWpm = (Integer) farnsworthSpinner.getValue();
+        int frequency = (Integer) frequencySpinner.getValue();
+        int sampleRate = (Integer) sampleRateBox.getSelectedItem();
+        if (saveSettingsEnabled) {
+            prefs.putInt("audioWpm", wpm);
+            prefs.putInt("audioFarnsworthWpm", farnsworthWpm);
+            prefs.putInt("audioFrequency", frequency);
+            prefs.putInt("audioSampleRate", sampleRate);
+        }
 
-            } catch (IOException ex) {
-                JOptionPane.showMessageDialog(this, languageManager.get("SAVE_IMAGE_ERROR_MESSAGE") + ex.getMessage(), languageManager.get("SAVE_ERROR_TITLE"), JOptionPane.ERROR_MESSAGE);
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle(languageManager.get("SAVE_AUDIO_MENU"));
+        fileChooser.setFileFilter(new FileNameExtensionFilter("WAV Audio (*.wav)", "wav"));
+
+        int userSelection = fileChooser.showSaveDialog(this);
+
+        if (userSelection == JFileChooser.APPROVE_OPTION) {
+            File fileToSave = fileChooser.getSelectedFile();
+            if (!fileToSave.getName().toLowerCase().endsWith(".wav")) {
+                fileToSave = new File(fileToSave.getParentFile(), fileToSave.getName() + ".wav");
             }
+
+            // Tones are rendered once; the file is written from them on a background thread.
+            MorseAudioExporter exporter = new MorseAudioExporter(wpm, farnsworthWpm, frequency, sampleRate);
+            ProgressMonitor monitor = new ProgressMonitor(this, languageManager.get("SAVE_AUDIO_PROGRESS"), null, 0, 100);
+            monitor.setMillisToDecideToPopup(200);
+            final File target = fileToSave;
+            SwingWorker<Long, Void> worker = new SwingWorker<>() {
+                @Override
+                protected Long doInBackground() throws Exception {
+                    // Plain text output is converted first, so the menu also works after e.g. an Atbash run.
+                    String morse = MorseCode.isMorseCode(text) ? text : MorseCode.toMorse(text);
+                    if (morse.indexOf('.') < 0 && morse.indexOf('-') < 0) {
+                        return null;
+                    }
+                    JfrEvents.FileIOEvent ioEvent = new JfrEvents.FileIOEvent();
+                    ioEvent.begin();
+                    long start = PerfRecorder.start();
+                    long bytes = exporter.export(morse, target, this::setProgress, monitor::isCanceled);
+                    PerfRecorder.record("audio.save", start, bytes);
+                    commitFileEvent(ioEvent, "audio.save", target, bytes);
+                    return bytes;
+                }
+
+                @Override
+                protected void done() {
+                    monitor.close();
+                    try {
+                        if (get() == null) {
+                            showNoAudioContent();
+                        }
+                    } catch (InterruptedException | java.util.concurrent.CancellationException ex) {
+                        // Cancelled by the user; nothing to report.
+                    } catch (java.util.concurrent.ExecutionException ex) {
+                        if (!(ex.getCause() instanceof InterruptedIOException)) {
+                            JOptionPane.showMessageDialog(AtbashCipherGUI.this, languageManager.get("SAVE_AUDIO_ERROR_MESSAGE") + ex.getCause().getMessage(), languageManager.get("SAVE_ERROR_TITLE"), JOptionPane.ERROR_MESSAGE);
+                        }
+                    }
+                }
+            };
+            worker.addPropertyChangeListener(evt -> {
+                if ("progress".equals(evt.getPropertyName())) {
+                    monitor.setProgress((Integer) evt.getNewValue());
+                }
+            });
+            worker.execute();
         }
     }
 
+    private void showNoAudioContent() {
+        JOptionPane.showMessageDialog(this,
+                languageManager.get("SAVE_IMAGE_NO_CONTENT_MESSAGE"),
+                languageManager.get("SAVE_IMAGE_NO_CONTENT_TITLE"),
+                JOptionPane.WARNING_MESSAGE);
+    }
+
     /**
      * Main method to run the GUI application.
      */
@@ -1925,13 +2374,47 @@ public class AtbashCipherGUI extends JFrame {
                     protected void done() {
                         splash.dispose();
                         // 2. Once the splash is done, create and show the main application.
-                        new AtbashCipherGUI().setVisible(true);
+                        showMainFrame();
                     }
                 };
                 worker.execute();
             } else {
                 // If splash screen fails, just launch the main app directly.
-                new AtbashCipherGUI().setVisible(true);
+                showMainFrame();
+            }
+        });
+    }
+
+    /**
+     * Creates and shows the main frame.
+     * With -Dartbash.startupTiming=true the time from JVM start to the first frame is printed.
+     * With -Dartbash.training=true every cipher mode is exercised once and the JVM exits,
+     * so the build can record the loaded classes for the class-data-sharing archive.
+     */
+    private static void showMainFrame() {
+        AtbashCipherGUI gui = new AtbashCipherGUI();
+        gui.setVisible(true);
+        // Report UI freezes; -Dartbash.edtStallMs=0 turns the watchdog off.
+        long stallMillis = Long.getLong("artbash.edtStallMs", 200);
+        if (stallMillis > 0) {
+            EdtWatchdog.start(stallMillis);
+        }
+
+        // Queued behind the initial paint events of the frame.
+        SwingUtilities.invokeLater(() -> {
+            if (Boolean.getBoolean("artbash.startupTiming")) {
+                ProcessHandle.current().info().startInstant().ifPresent(start ->
+                        System.out.println("First frame after "
+                                + java.time.Duration.between(start, java.time.Instant.now()).toMillis() + " ms"));
+            }
+            if (Boolean.getBoolean("artbash.training")) {
+                String sample = "Hello World 123 안녕하세요";
+                for (int i = 0; i < gui.cipherSelector.getItemCount(); i++) {
+                    boolean chain = i == CipherModes.CHAIN_ENCRYPT || i == CipherModes.CHAIN_DECRYPT;
+                    gui.performTransformation(sample, i, 5, 3, chain ? "atbash,caesar:3,vigenere:key" : "key");
+                }
+                gui.animateText(gui.outputTextArea, sample);
+                System.exit(0);
             }
         });
     }
@@ -1,3 +1,11 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -5,6 +13,24 @@ import java.nio.charset.StandardCharsets;
  */
 public class BinaryCipher {
 
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    /** 바이트 값마다 '0'/'1' 여덟 자를 담은 값입니다. 큰 바이트 순서로 쓰면 최상위 비트가 먼저 나옵니다. */
+    private static final long[] BINARY_DIGITS = new long[256];
+    /** '0'/'1' 여덟 자를 담은 long에서 각 바이트의 최하위 비트를 모아 상위 8비트로 올리는 곱수입니다. */
+    private static final long GATHER_BITS = 0x0102040810204080L;
+    private static final long ZEROS = 0x3030303030303030L;
+    private static final int STREAM_CHUNK = 1 << 16;
+
+    static {
+        for (int b = 0; b < 256; b++) {
+            long digits = 0;
+            for (int bit = 7; bit >= 0; bit--) {
+                digits = (digits << 8) | (((b >> bit) & 1) + '0');
+            }
+            BINARY_DIGITS[b] = digits;
+        }
+    }
+
     /**
      * 텍스트를 이진수 문자열로 변환합니다. 각 문자는 UTF-8 바이트로 변환된 후,
      * 8비트 이진수 문자열로 표현되고 공백으로 구분됩니다.
@@ -15,39 +41,284 @@ public class BinaryCipher {
         if (text == null || text.isEmpty()) {
             return "";
         }
+
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        // The result is pure ASCII, so it is built as bytes and becomes a compact (Latin-1) String with one copy.
+        byte[] binary = new byte[binaryLength(bytes.length)];
+        writeBinary(bytes, 0, bytes.length, binary, 0, false);
+        return new String(binary, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 텍스트의 UTF-8 바이트를 지정한 형식({@link BinaryFormat})으로 변환합니다.
+     * @param text 변환할 원본 텍스트
+     * @param format 결과 형식
+     * @return 부호화된 문자열
+     */
+    public static String toBinary(String text, BinaryFormat format) {
+        if (format == BinaryFormat.BINARY) {
+            return toBinary(text);
+        }
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = format.encoder().codeAll(bytes, Math.toIntExact(format.encodedLength(bytes.length)));
+        return new String(encoded, StandardCharsets.ISO_8859_1);
+    }
+
+    /** 바이트 값의 이진수 여덟 자리를 담은 값입니다. 큰 바이트 순서로 씁니다. */
+    static long digits(int value) {
+        return BINARY_DIGITS[value];
+    }
+
+    /**
+     * 바이트 count개를 이진수 문자열로 만들었을 때의 길이입니다. (바이트마다 8자리, 사이에 공백 1자)
+     */
+    static int binaryLength(int count) {
+        return count == 0 ? 0 : Math.multiplyExact(count, 9) - 1;
+    }
+
+    /**
+     * 바이트를 이진수 문자열의 ASCII 바이트로 씁니다. 바이트 하나의 8자리를 long 하나로 한 번에 씁니다.
+     * @param leadingSpace 첫 바이트 앞에도 구분 공백을 쓸지 여부 (이어서 쓰는 조각이면 true)
+     * @return 쓴 바이트 수
+     */
+    static int writeBinary(byte[] source, int offset, int length, byte[] target, int targetOffset, boolean leadingSpace) {
+        int out = targetOffset;
+        for (int i = 0; i < length; i++) {
+            if (i > 0 || leadingSpace) {
+                target[out++] = ' ';
+            }
+            LONG_VIEW.set(target, out, BINARY_DIGITS[source[offset + i] & 0xFF]);
+            out += 8;
+        }
+        return out - targetOffset;
+    }
+
+    /**
+     * 텍스트를 구분 공백 없는 이진수 문자열로 변환합니다. (바이트당 8자)
+     * @param text 변환할 원본 텍스트
+     * @param lineWidth 한 줄의 자리 수, 0 이하면 줄을 바꾸지 않습니다. 8보다 작으면 8로 맞춥니다.
+     * @return '0'/'1' 문자열, 줄 사이는 '\n'
+     */
+    public static String toPackedBinary(String text, int lineWidth) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        lineWidth = lineWidth(lineWidth);
         byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
-        StringBuilder binary = new StringBuilder();
-        for (byte b : bytes) {
-            // 바이트를 8자리 이진수 문자열로 변환 (앞에 0 채움)
-            String binStr = String.format("%8s", Integer.toBinaryString(b & 0xFF)).replace(' ', '0');
-            binary.append(binStr).append(" ");
+        byte[] packed = new byte[Math.toIntExact(packedLength(bytes.length, lineWidth))];
+        BitReader reader = new BitReader(bytes, 0, bytes.length);
+        int out = 0;
+        long digitIndex = 0;
+        try {
+            int bits;
+            while ((bits = reader.next()) > 0) {
+                out = putWord(reader.word(), bits, digitIndex, lineWidth, packed, out);
+                digitIndex += bits;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Reading an array does not fail.
+        }
+        return new String(packed, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 줄 너비를 정규화합니다. 8자리보다 짧은 줄은 공백 구분 묶음과 구별할 수 없어 8자리로 늘립니다. (0은 줄바꿈 없음)
+     */
+    private static int lineWidth(int lineWidth) {
+        return lineWidth <= 0 ? 0 : Math.max(lineWidth, 8);
+    }
+
+    /**
+     * 바이트 byteCount개를 구분 없는 이진수 문자열로 만들었을 때의 길이입니다. (줄바꿈 포함, 끝 줄바꿈 없음)
+     */
+    static long packedLength(long byteCount, int lineWidth) {
+        long digits = byteCount * 8;
+        return digits + (digits > 0 && lineWidth > 0 ? (digits - 1) / lineWidth : 0);
+    }
+
+    /**
+     * 스트림의 바이트를 구분 없는 이진수 문자열로 바꿔 조각 단위로 씁니다. 결과 전체를 메모리에 만들지 않습니다.
+     * @param lineWidth 한 줄의 자리 수, 0 이하면 줄을 바꾸지 않습니다. 8보다 작으면 8로 맞춥니다.
+     */
+    static void writePacked(InputStream in, OutputStream out, int lineWidth) throws IOException {
+        lineWidth = lineWidth(lineWidth);
+        BitReader reader = new BitReader(in);
+        // Room for one chunk of words, each at most 64 digits and 64 line breaks.
+        byte[] chunk = new byte[STREAM_CHUNK + 128];
+        int position = 0;
+        long digitIndex = 0;
+        int bits;
+        while ((bits = reader.next()) > 0) {
+            position = putWord(reader.word(), bits, digitIndex, lineWidth, chunk, position);
+            digitIndex += bits;
+            if (position >= STREAM_CHUNK) {
+                out.write(chunk, 0, position);
+                position = 0;
+            }
+        }
+        out.write(chunk, 0, position);
+        out.flush();
+    }
+
+    /**
+     * 왼쪽 정렬된 비트 bits개를 '0'/'1'로 씁니다. 바이트마다 여덟 자를 long 하나로 쓰고, 줄이 넘어가는 자리에 줄바꿈을 끼워 넣습니다.
+     * @param digitIndex 스트림에서 이 word 앞까지 쓴 자리 수 (줄바꿈 위치 계산용)
+     * @return 다음에 쓸 위치
+     */
+    private static int putWord(long word, int bits, long digitIndex, int lineWidth, byte[] target, int out) {
+        int column = lineWidth > 0 ? (int) (digitIndex % lineWidth) : 0;
+        if (column == 0 && digitIndex > 0 && lineWidth > 0) {
+            target[out++] = '\n';
+        }
+        int start = out;
+        for (int k = 0; k < bits; k += 8) {
+            LONG_VIEW.set(target, out, BINARY_DIGITS[(int) (word >>> (56 - k)) & 0xFF]);
+            out += 8;
+        }
+        if (lineWidth > 0) {
+            // Line widths are at least 8, so a word needs at most eight breaks; a break at the very end is left to the next word.
+            for (int position = start + lineWidth - column; position < out; position += lineWidth + 1) {
+                System.arraycopy(target, position, target, position + 1, out - position);
+                target[position] = '\n';
+                out++;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * '0'/'1' 문자열(ASCII 바이트)을 비트로 묶어 씁니다. 공백 문자는 건너뜁니다. 앞 조각에서 남은 비트는 writer가 이어 받습니다.
+     * 여덟 자를 long 하나로 읽어 한 번에 검사하고 곱셈 한 번으로 8비트로 모은 뒤, 64비트씩 씁니다.
+     * @throws IllegalArgumentException '0', '1', 공백 외의 문자가 있을 때
+     */
+    static void packDigits(byte[] source, int offset, int length, BitWriter writer) throws IOException {
+        int i = offset;
+        int end = offset + length;
+        while (i < end) {
+            // Fast path: 64 digits without whitespace become one word.
+            if (end - i >= 64) {
+                long word = 0;
+                int k = 0;
+                for (; k < 8; k++) {
+                    long digits = (long) LONG_VIEW.get(source, i + 8 * k) ^ ZEROS;
+                    if ((digits & ~0x0101010101010101L) != 0) {
+                        break;
+                    }
+                    word = word << 8 | (digits * GATHER_BITS) >>> 56;
+                }
+                writer.write(word, 8 * k);
+                i += 8 * k;
+                if (k == 8) {
+                    continue;
+                }
+            }
+            int c = source[i++];
+            if (c == '0' || c == '1') {
+                writer.writeBit(c - '0');
+            } else if (c != ' ' && c != '\t' && c != '\n' && c != 0x0B && c != '\f' && c != '\r') {
+                throw new IllegalArgumentException("Invalid binary digit: " + (char) (c & 0xFF));
+            }
+        }
+    }
+
+    /**
+     * 스트림의 '0'/'1' 문자열을 비트로 묶어 원래 바이트 그대로 씁니다. 텍스트로 해석하지 않으므로 어떤 바이트든 되돌릴 수 있습니다.
+     * 자리 수가 8의 배수가 아니면 마지막 바이트의 남는 자리를 0으로 채웁니다.
+     * @return 읽은 자리(비트) 수
+     * @throws IllegalArgumentException '0', '1', 공백 외의 문자가 있을 때
+     */
+    static long readPacked(InputStream in, OutputStream out) throws IOException {
+        BitWriter writer = new BitWriter(out);
+        byte[] chunk = new byte[STREAM_CHUNK];
+        int n;
+        while ((n = in.read(chunk)) > 0) {
+            packDigits(chunk, 0, n, writer);
+        }
+        writer.finish();
+        return writer.bitCount();
+    }
+
+    /**
+     * 이진수 문자열이 구분 없는 형식인지 확인합니다. 공백 없이 9자리 이상 이어지는 곳이 있으면 구분 없는 형식입니다.
+     * 8자리 묶음만 있으면 두 형식의 결과가 같습니다.
+     */
+    static boolean isPacked(String binaryText) {
+        int run = 0;
+        for (int i = 0; i < binaryText.length(); i++) {
+            char c = binaryText.charAt(i);
+            if ((c | 1) == '1') { // '0' or '1'
+                if (++run > 8) {
+                    return true;
+                }
+            } else {
+                run = 0;
+            }
         }
-        return binary.toString().trim();
+        return false;
     }
 
     /**
-     * 이진수 문자열을 텍스트로 변환합니다.
-     * @param binaryText 변환할 이진수 문자열 (공백으로 구분)
+     * 이진수(또는 8진수, 16진수, Base64) 문자열을 텍스트로 변환합니다. 형식은 {@link BinaryFormat#detect}로 정합니다.
+     * 이진수는 8자리 묶음 형식과 구분 없는 형식({@link #toPackedBinary})을 모두 받습니다.
+     * @param binaryText 변환할 문자열 (8진수는 공백으로 구분)
      * @return 텍스트로 변환된 문자열, 또는 형식 오류 시 에러 메시지
      */
     public static String fromBinary(String binaryText) {
         if (binaryText == null || binaryText.isEmpty()) {
             return "";
         }
+        return fromBinary(binaryText, BinaryFormat.detect(binaryText));
+    }
+
+    /**
+     * 지정한 형식의 문자열을 텍스트로 변환합니다.
+     * @param format 입력 형식, null이면 형식 오류로 봅니다.
+     * @return 텍스트로 변환된 문자열, 또는 형식 오류 시 에러 메시지
+     */
+    public static String fromBinary(String binaryText, BinaryFormat format) {
+        if (binaryText == null || binaryText.isEmpty()) {
+            return "";
+        }
+        if (format == null) {
+            return "INVALID BINARY FORMAT";
+        }
+        if (format == BinaryFormat.BINARY && isPacked(binaryText)) {
+            return fromPackedBinary(binaryText);
+        }
         try {
-            String[] binaryStrings = binaryText.trim().split("\\s+");
-            byte[] bytes = new byte[binaryStrings.length];
-            for (int i = 0; i < binaryStrings.length; i++) {
-                bytes[i] = (byte) Integer.parseInt(binaryStrings[i], 2);
-            }
+            // Every format takes at least one character per byte, so the input length bounds the output.
+            byte[] bytes = format.decoder().codeAll(binaryText.getBytes(StandardCharsets.ISO_8859_1), binaryText.length());
             return new String(bytes, StandardCharsets.UTF_8);
-        } catch (NumberFormatException e) {
+        } catch (IllegalArgumentException e) {
+            return "INVALID BINARY FORMAT";
+        }
+    }
+
+    private static String fromPackedBinary(String binaryText) {
+        byte[] digits = binaryText.getBytes(StandardCharsets.ISO_8859_1);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(digits.length / 8 + 1);
+        BitWriter writer = new BitWriter(bytes);
+        try {
+            packDigits(digits, 0, digits.length, writer);
+            writer.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Writing to memory does not fail.
+        } catch (IllegalArgumentException e) {
+            return "INVALID BINARY FORMAT";
+        }
+        if (writer.bitCount() % 8 != 0) {
             return "INVALID BINARY FORMAT";
         }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
     }
 
+    /**
+     * 텍스트가 이진수, 8진수, 16진수, Base64 중 하나로 부호화된 문자열인지 확인합니다.
+     */
     public static boolean isBinary(String text) {
-        if (text == null || text.isBlank()) return false;
-        return text.trim().matches("^[01\\s]+$");
+        return BinaryFormat.detect(text) != null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,746 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 바이트를 ASCII 숫자 문자열로 나타내는 형식들입니다. 형식마다 표 기반의 스트리밍 부호기와 복호기를 만들 수 있습니다.
+ *
+ * <ul>
+ *   <li>{@link #BINARY}: 바이트마다 8자리 이진수, 공백으로 구분 (바이트당 9자)</li>
+ *   <li>{@link #OCTAL}: 바이트마다 3자리 8진수, 공백으로 구분 (바이트당 4자)</li>
+ *   <li>{@link #HEX}: 바이트마다 2자리 16진수(소문자), 구분 없음 (바이트당 2자)</li>
+ *   <li>{@link #BASE64}: RFC 4648 표준 알파벳, 패딩 포함, 줄바꿈 없음 (3바이트당 4자)</li>
+ * </ul>
+ *
+ * 복호기는 공백 문자를 건너뛰며, 16진수는 대소문자를, Base64는 URL 안전 알파벳(-, _)과 패딩 생략도 받아들입니다.
+ *
+ * 구현은 16MB 입력으로 잰 결과에 따라 골랐습니다. 16진수 부호화는 바이트 표가 {@code java.util.HexFormat}(char 단위
+ * 문자열)보다 약 2배 빠릅니다. 복호화는 HexFormat이 조금 더 빠르지만 문자열 입력이 필요하고 공백을 받지 않으므로 표를 씁니다.
+ * Base64는 JDK 구현이 부호화 약 1.5배, 복호화 약 2배 빠르므로 긴 구간은 {@link java.util.Base64}로 처리하고,
+ * 짧은 구간과 끝부분은 표로 처리합니다.
+ * 복호화 중 JDK 구현이 받지 않는 글자(공백, URL 안전 글자)를 만나면 그 스트림의 나머지는 표로 처리합니다.
+ * JDK 구현은 배열 전체만 받으므로 구간이 배열 전체가 아니면 작업 배열로 복사합니다.
+ */
+public enum BinaryFormat {
+
+    BINARY("binary") {
+        @Override
+        public long encodedLength(long byteCount) {
+            return byteCount == 0 ? 0 : byteCount * 9 - 1;
+        }
+
+        @Override
+        public Coder encoder() {
+            return new GroupEncoder(9) {
+                @Override
+                void writeGroup(int value, byte[] target, int offset) {
+                    LONG_VIEW.set(target, offset, BinaryCipher.digits(value));
+                }
+            };
+        }
+
+        @Override
+        public Coder decoder() {
+            return new GroupDecoder(2, 8);
+        }
+    },
+
+    OCTAL("octal") {
+        @Override
+        public long encodedLength(long byteCount) {
+            return byteCount == 0 ? 0 : byteCount * 4 - 1;
+        }
+
+        @Override
+        public Coder encoder() {
+            return new GroupEncoder(4) {
+                @Override
+                void writeGroup(int value, byte[] target, int offset) {
+                    target[offset] = (byte) ('0' + (value >> 6));
+                    target[offset + 1] = (byte) ('0' + ((value >> 3) & 7));
+                    target[offset + 2] = (byte) ('0' + (value & 7));
+                }
+            };
+        }
+
+        @Override
+        public Coder decoder() {
+            return new GroupDecoder(8, 3);
+        }
+    },
+
+    HEX("hex") {
+        @Override
+        public long encodedLength(long byteCount) {
+            return byteCount * 2;
+        }
+
+        @Override
+        public Coder encoder() {
+            return new HexEncoder();
+        }
+
+        @Override
+        public Coder decoder() {
+            return new HexDecoder();
+        }
+    },
+
+    BASE64("base64") {
+        @Override
+        public long encodedLength(long byteCount) {
+            return (byteCount + 2) / 3 * 4;
+        }
+
+        @Override
+        public Coder encoder() {
+            return new Base64Encoder();
+        }
+
+        @Override
+        public Coder decoder() {
+            return new Base64Decoder();
+        }
+    };
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_VIEW = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_VIEW = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    /** 복호화 표의 특수 값입니다. 0 이상은 숫자 값입니다. */
+    private static final byte INVALID = -1;
+    private static final byte SPACE = -2;
+    private static final byte PAD = -3;
+
+    /** 바이트 값마다 16진수 두 자리를 담은 값입니다. */
+    private static final short[] HEX_PAIRS = new short[256];
+    private static final byte[] BASE64_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+            .getBytes(StandardCharsets.US_ASCII);
+    /** ASCII 글자마다 16진수/Base64 값, 또는 {@link #SPACE}, {@link #PAD}, {@link #INVALID}입니다. */
+    private static final byte[] HEX_VALUES = new byte[256];
+    private static final byte[] BASE64_VALUES = new byte[256];
+
+    private static final java.util.Base64.Encoder JDK_ENCODER = java.util.Base64.getEncoder();
+    private static final java.util.Base64.Decoder JDK_DECODER = java.util.Base64.getDecoder();
+    /** 이보다 짧은 Base64 구간은 복사 비용 때문에 표로 처리합니다. */
+    private static final int JDK_MIN_LENGTH = 1024;
+
+    /** 자동 감지에서 내용이 텍스트인지 확인할 때 복호화해 보는 입력 길이입니다. */
+    private static final int DETECT_SAMPLE = 4096;
+
+    static {
+        byte[] hexDigits = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+        for (int b = 0; b < 256; b++) {
+            HEX_PAIRS[b] = (short) (hexDigits[b >> 4] << 8 | hexDigits[b & 15]);
+        }
+        Arrays.fill(HEX_VALUES, INVALID);
+        Arrays.fill(BASE64_VALUES, INVALID);
+        for (int i = 0; i < 16; i++) {
+            HEX_VALUES[hexDigits[i]] = (byte) i;
+            HEX_VALUES[Character.toUpperCase(hexDigits[i])] = (byte) i;
+        }
+        for (int i = 0; i < 64; i++) {
+            BASE64_VALUES[BASE64_ALPHABET[i]] = (byte) i;
+        }
+        BASE64_VALUES['-'] = 62;
+        BASE64_VALUES['_'] = 63;
+        BASE64_VALUES['='] = PAD;
+        for (char c : new char[]{' ', '\t', '\n', 0x0B, '\f', '\r'}) {
+            HEX_VALUES[c] = SPACE;
+            BASE64_VALUES[c] = SPACE;
+        }
+    }
+
+    private final String cliName;
+
+    BinaryFormat(String cliName) {
+        this.cliName = cliName;
+    }
+
+    /** CLI 모드 이름과 같은 형식 이름입니다. */
+    public String cliName() {
+        return cliName;
+    }
+
+    /**
+     * 바이트 byteCount개를 이 형식으로 부호화한 결과의 글자 수입니다.
+     */
+    public abstract long encodedLength(long byteCount);
+
+    /** 바이트를 이 형식의 ASCII 바이트로 바꾸는 새 스트리밍 부호기를 만듭니다. */
+    public abstract Coder encoder();
+
+    /** 이 형식의 ASCII 바이트를 원래 바이트로 되돌리는 새 스트리밍 복호기를 만듭니다. */
+    public abstract Coder decoder();
+
+    /**
+     * 바이트 byteCount개를 가장 짧게 나타내는 형식을 고릅니다. 길이가 같으면 16진수를 고릅니다.
+     */
+    public static BinaryFormat mostCompact(long byteCount) {
+        BinaryFormat best = HEX;
+        for (BinaryFormat format : values()) {
+            if (format.encodedLength(byteCount) < best.encodedLength(byteCount)) {
+                best = format;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 텍스트가 어떤 형식으로 부호화된 것인지 알아냅니다.
+     * 이진수는 기존처럼 '0', '1', 공백만 있으면 이진수로 봅니다. 8진수, 16진수, Base64는 알파벳과 구조(8진수는 세 자리 묶음,
+     * 16진수는 짝수 자리, Base64는 패딩 위치)가 맞고, 앞부분을 복호화한 결과가 올바른 UTF-8 텍스트(제어 문자 없음)일 때만
+     * 그 형식으로 봅니다. 그래서 "cafe"나 "test"처럼 알파벳만 맞는 평범한 단어는 부호화 대상으로 남습니다.
+     * 형식을 모르고 고르는 것이므로 짧은 입력에는 증거를 더 요구합니다. 8진수는 두 묶음 이상이어야 하고, 16진수는 숫자가
+     * 하나 이상 있어야 하며 숫자로만 되어 있으면 8자리 이상이어야 합니다. 영문자만으로도 Base64 알파벳이 맞으므로,
+     * Base64는 길이가 4의 배수이고 패딩이 있거나 16자 이상이거나 대문자, 소문자, 숫자가 모두 섞여 있어야 합니다.
+     * @return 감지된 형식, 어느 형식도 아니면 null
+     */
+    public static BinaryFormat detect(CharSequence text) {
+        return detect(text, null, true);
+    }
+
+    /**
+     * 텍스트가 이 형식으로 부호화된 것인지 확인합니다. 알파벳과 구조가 맞고 앞부분을 복호화한 결과가 올바른 텍스트이면
+     * 참입니다. 형식을 이미 골랐으므로 {@link #detect(CharSequence)}의 최소 길이 조건은 두지 않습니다. 그래서 이 형식이
+     * 만든 결과는 "4869"("Hi")나 "141"("a")처럼 짧아도 복호화 대상이 됩니다. 다른 형식은 보지 않으므로, 예를 들어
+     * 16진수 모드에서 "0110"은 이진수가 아니라 16진수로 확인합니다. 자동 감지 모드가 자기 형식만 복호화하도록 할 때 씁니다.
+     */
+    public boolean matches(CharSequence text) {
+        return detect(text, this, true) == this;
+    }
+
+    /**
+     * 긴 입력의 앞부분이 이 형식으로 부호화된 것인지 확인합니다. {@link #matches(CharSequence)}와 같지만 앞부분 끝에서
+     * 잘린 묶음(8진수 세 자리, 16진수 두 자리, Base64 네 자리)은 허용합니다. 스트림의 방향을 앞부분으로 정할 때 씁니다.
+     */
+    public boolean matchesPrefix(CharSequence head) {
+        return detect(head, this, false) == this;
+    }
+
+    /**
+     * @param only 확인할 형식, null이면 모든 형식을 짧은 입력에 대한 조건까지 따져 확인합니다.
+     * @param complete text가 입력 전체이면 true, 앞부분이면 false
+     */
+    private static BinaryFormat detect(CharSequence text, BinaryFormat only, boolean complete) {
+        if (text == null) {
+            return null;
+        }
+        // Long binary dumps are the common case; a tight first pass settles them without the other formats' checks.
+        if (only == null || only == BINARY) {
+            int binaryDigits = binaryDigits(text);
+            if (binaryDigits >= 0 || only == BINARY) {
+                return binaryDigits > 0 ? BINARY : null;
+            }
+        }
+        boolean octal = only == null || only == OCTAL;
+        boolean hex = only == null || only == HEX;
+        boolean base64 = only == null || only == BASE64;
+        int digits = 0;          // non-space characters
+        int octalGroup = 0;      // digits in the current whitespace-separated group
+        int octalValue = 0;
+        boolean hexLetter = false;
+        boolean padded = false;  // Base64 '=' seen
+        int padding = 0;
+        boolean upper = false;
+        boolean lower = false;
+        boolean numeral = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                return null;
+            }
+            byte value = BASE64_VALUES[c];
+            if (value == SPACE) {
+                if (octalGroup != 0 && octalGroup != 3) {
+                    octal = false;
+                }
+                octalGroup = 0;
+                octalValue = 0;
+                continue;
+            }
+            digits++;
+            if (octal) {
+                octalValue = octalValue * 8 + (c - '0');
+                octal = c >= '0' && c <= '7' && ++octalGroup <= 3 && octalValue <= 0xFF;
+            }
+            hex &= HEX_VALUES[c] >= 0;
+            hexLetter |= c > '9';
+            upper |= c >= 'A' && c <= 'Z';
+            lower |= c >= 'a' && c <= 'z';
+            numeral |= c >= '0' && c <= '9';
+            if (value == PAD) {
+                padded = true;
+                padding++;
+            } else if (value < 0 || padded) {
+                base64 = false;
+            }
+            if (!octal && !hex && !base64) {
+                return null;
+            }
+        }
+        if (digits == 0) {
+            return null;
+        }
+        // Without a chosen format, a lone number ("123", "2024") is text to encode, not a one-byte octal or hex dump,
+        // all-letter words ("dead", "face") are not hex, and short words ("It", "and", "YES") are not Base64.
+        boolean guessing = only == null;
+        if (octal && (!complete || octalGroup == 0 || octalGroup == 3) && (!guessing || digits >= 6)
+                && looksLikeText(OCTAL, text, complete)) {
+            return OCTAL;
+        }
+        if (hex && (!complete || digits % 2 == 0) && (!guessing || (numeral && (hexLetter || digits >= 8)))
+                && looksLikeText(HEX, text, complete)) {
+            return HEX;
+        }
+        boolean base64Evidence = padding > 0 || digits >= 16 || (upper && lower && numeral);
+        if (base64 && padding <= 2 && (!complete || digits % 4 == 0) && (!guessing || base64Evidence)
+                && looksLikeText(BASE64, text, complete)) {
+            return BASE64;
+        }
+        return null;
+    }
+
+    /**
+     * '0', '1', 공백 문자로만 된 텍스트의 숫자 개수를 셉니다.
+     * @return 숫자 개수, 다른 글자가 있으면 -1
+     */
+    private static int binaryDigits(CharSequence text) {
+        int digits = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            // One test for both digits: '0' and '1' differ only in the lowest bit, and random bits defeat branch prediction.
+            if ((c | 1) == '1') {
+                digits++;
+            } else if (c != ' ' && (c < '\t' || c > '\r')) {
+                return -1;
+            }
+        }
+        return digits;
+    }
+
+    /**
+     * 텍스트 앞부분을 복호화해 보고, 결과가 올바른 UTF-8이며 탭/줄바꿈 외의 제어 문자가 없는지 확인합니다.
+     * 표본 끝에서 잘린 UTF-8 시퀀스는 허용합니다.
+     * @param complete text가 입력 전체이면 true, 앞부분이면 false
+     */
+    private static boolean looksLikeText(BinaryFormat format, CharSequence text, boolean complete) {
+        int sampleLength = Math.min(text.length(), DETECT_SAMPLE);
+        byte[] sample = new byte[sampleLength];
+        for (int i = 0; i < sampleLength; i++) {
+            sample[i] = (byte) text.charAt(i);
+        }
+        ByteBuffer decoded = ByteBuffer.allocate(sampleLength);
+        try {
+            format.decoder().code(ByteBuffer.wrap(sample), decoded, complete && sampleLength == text.length());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        decoded.flip();
+        CharsetDecoder utf8 = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        CharBuffer chars = CharBuffer.allocate(decoded.remaining());
+        CoderResult result = utf8.decode(decoded, chars, false);
+        if (result.isError()) {
+            return false;
+        }
+        chars.flip();
+        while (chars.hasRemaining()) {
+            char c = chars.get();
+            if ((c < 0x20 && c != '\t' && c != '\n' && c != '\r') || c == 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 스트리밍 부호기/복호기입니다. {@link java.nio.charset.CharsetEncoder}처럼 입력과 출력 버퍼를 받아 처리할 수 있는 만큼
+     * 처리합니다. 힙 버퍼는 배열을 바로 쓰고, 다이렉트 버퍼는 작은 배열로 나눠 복사합니다.
+     * 한 인스턴스는 한 스트림 전용이며 스레드 안전하지 않습니다.
+     */
+    public abstract static class Coder {
+
+        private static final int SCRATCH_SIZE = 4096;
+
+        /** 마지막 호출에서 읽은 입력 바이트 수와 쓴 출력 바이트 수입니다. 구현이 채웁니다. */
+        int consumed;
+        int produced;
+
+        /**
+         * in의 남은 바이트를 처리해 out에 씁니다. 입력을 다 읽었거나 out에 다음 단위를 쓸 공간이 없으면 돌아옵니다.
+         * 부호기는 endOfInput이 false이면 묶음 단위(Base64는 3바이트)에 못 미치는 끝부분을 in에 남기고,
+         * 복호기는 묶음 중간 상태를 안에 보관합니다. out은 16바이트 이상 비어 있어야 진행이 보장됩니다.
+         * @param endOfInput 이번 입력이 마지막이면 true
+         * @throws IllegalArgumentException 복호기 입력이 형식에 맞지 않을 때
+         */
+        public final void code(ByteBuffer in, ByteBuffer out, boolean endOfInput) {
+            if (in.hasArray() && out.hasArray()) {
+                code(in.array(), in.arrayOffset() + in.position(), in.remaining(),
+                        out.array(), out.arrayOffset() + out.position(), out.remaining(), endOfInput);
+                in.position(in.position() + consumed);
+                out.position(out.position() + produced);
+                return;
+            }
+            byte[] source = new byte[Math.min(SCRATCH_SIZE, in.remaining())];
+            byte[] target = new byte[SCRATCH_SIZE * 9];
+            while (in.hasRemaining()) {
+                int length = Math.min(source.length, in.remaining());
+                in.get(in.position(), source, 0, length);
+                boolean last = endOfInput && length == in.remaining();
+                code(source, 0, length, target, 0, Math.min(target.length, out.remaining()), last);
+                in.position(in.position() + consumed);
+                out.put(target, 0, produced);
+                if (consumed < length) {
+                    return;
+                }
+            }
+            if (endOfInput) {
+                code(source, 0, 0, target, 0, Math.min(target.length, out.remaining()), true);
+                out.put(target, 0, produced);
+            }
+        }
+
+        /**
+         * 배열 구간을 처리하고 {@link #consumed}, {@link #produced}를 채웁니다.
+         */
+        abstract void code(byte[] source, int offset, int length, byte[] target, int targetOffset, int capacity,
+                boolean endOfInput);
+
+        /**
+         * 배열 전체를 한 번에 처리합니다.
+         */
+        byte[] codeAll(byte[] source, int outputLength) {
+            byte[] target = new byte[outputLength];
+            code(source, 0, source.length, target, 0, target.length, true);
+            return produced == target.length ? target : Arrays.copyOf(target, produced);
+        }
+    }
+
+    /**
+     * 바이트마다 고정 자리 묶음을 쓰고 묶음 사이에 공백을 넣는 부호기입니다. (이진수, 8진수)
+     */
+    private abstract static class GroupEncoder extends Coder {
+        /** 구분 공백을 포함한 묶음 크기입니다. */
+        private final int stride;
+        private boolean started;
+
+        GroupEncoder(int stride) {
+            this.stride = stride;
+        }
+
+        /** 바이트 값의 자리들을 target[offset]부터 씁니다. 자리 수는 stride - 1입니다. */
+        abstract void writeGroup(int value, byte[] target, int offset);
+
+        @Override
+        void code(byte[] source, int offset, int length, byte[] target, int targetOffset, int capacity, boolean endOfInput) {
+            int out = targetOffset;
+            // The first group of the stream has no leading space.
+            int count = Math.min(length, started ? capacity / stride : (capacity + 1) / stride);
+            for (int i = 0; i < count; i++) {
+                if (started) {
+                    target[out++] = ' ';
+                }
+                writeGroup(source[offset + i] & 0xFF, target, out);
+                out += stride - 1;
+                started = true;
+            }
+            consumed = count;
+            produced = out - targetOffset;
+        }
+    }
+
+    /**
+     * 공백으로 구분된 숫자 묶음을 바이트로 되돌리는 복호기입니다. (이진수, 8진수)
+     */
+    private static final class GroupDecoder extends Coder {
+        private final int radix;
+        private final int maxDigits;
+        private int value;
+        private int digits;
+
+        GroupDecoder(int radix, int maxDigits) {
+            this.radix = radix;
+            this.maxDigits = maxDigits;
+        }
+
+        @Override
+        void code(byte[] source, int offset, int length, byte[] target, int targetOffset, int capacity, boolean endOfInput) {
+            int out = targetOffset;
+            int limit = targetOffset + capacity;
+            int i = 0;
+            for (; i < length; i++) {
+                int c = source[offset + i] & 0xFF;
+                int digit = c - '0';
+                if (digit >= 0 && digit < radix) {
+                    value = value * radix + digit;
+                    if (++digits > maxDigits || value > 0xFF) {
+                        throw new IllegalArgumentException("Invalid " + (radix == 2 ? "binary" : "octal") + " group");
+                    }
+                } else if (HEX_VALUES[c] == SPACE) {
+                    if (digits > 0) {
+                        if (out == limit) {
+                            break;
+                        }
+                        target[out++] = (byte) value;
+                        value = 0;
+                        digits = 0;
+                    }
+                } else {
+                    throw new IllegalArgumentException("Invalid character: " + (char) c);
+                }
+            }
+            if (i == length && endOfInput && digits > 0 && out < limit) {
+                target[out++] = (byte) value;
+                value = 0;
+                digits = 0;
+            }
+            consumed = i;
+            produced = out - targetOffset;
+        }
+    }
+
+    private static final class HexEncoder extends Coder {
+        @Override
+        void code(byte[] source, int offset, int length, byte[] target, int targetOffset, int capacity, boolean endOfInput) {
+            int count = Math.min(length, capacity / 2);
+            for (int i = 0; i < count; i++) {
+                SHORT_VIEW.set(target, targetOffset + 2 * i, HEX_PAIRS[source[offset + i] & 0xFF]);
+            }
+            consumed = count;
+            produced = count * 2;
+        }
+    }
+
+    private static final class HexDecoder extends Coder {
+        /** 짝을 기다리는 앞 자리 값, 없으면 -1입니다. */
+        private int high = -1;
+
+        @Override
+        void code(byte[] source, int offset, int length, byte[] target, int targetOffset, int capacity, boolean endOfInput) {
+            int out = targetOffset;
+            int limit = targetOffset + capacity;
+            int end = offset + length;
+            int position = offset;
+            // Fast path: two digits at a time while there is no whitespace and no pending digit.
+            if (high < 0) {
+                int pairs = Math.min((end - position) / 2, limit - out);
+                for (int p = 0; p < pairs; p++) {
+                    int hi = HEX_VALUES[source[position] & 0xFF];
+                    int lo = HEX_VALUES[source[position + 1] & 0xFF];
+                    if ((hi | lo) < 0) {
+                        break;
+                    }
+                    target[out++] = (byte) (hi << 4 | lo);
+                    position += 2;
+                }
+            }
+            int i = position - offset;
+            for (; i < length; i++) {
+                int c = source[offset + i] & 0xFF;
+                int value = HEX_VALUES[c];
+                if (value == SPACE) {
+                    continue;
+                }
+                if (value < 0) {
+                    throw new IllegalArgumentException("Invalid hex digit: " + (char) c);
+                }
+                if (high < 0) {
+                    high = value;
+                } else {
+                    if (out == limit) {
+                        break;
+                    }
+                    target[out++] = (byte) (high << 4 | value);
+                    high = -1;
+                }
+            }
+            if (i == length && endOfInput && high >= 0) {
+                throw new IllegalArgumentException("Odd number of hex digits");
+            }
+            consumed = i;
+            produced = out - targetOffset;
+        }
+    }
+
+    /**
+     * JDK Base64 구현에 넘길 정확한 크기의 작업 배열입니다. 크기가 같으면 다시 씁니다.
+     */
+    private static final class Scratch {
+        private byte[] input = new byte[0];
+        private byte[] output = new byte[0];
+
+        byte[] input(byte[] source, int offset, int length) {
+            if (offset == 0 && length == source.length) {
+                return source;
+            }
+            if (input.length != length) {
+                input = new byte[length];
+            }
+            System.arraycopy(source, offset, input, 0, length);
+            return input;
+        }
+
+        byte[] output(int length) {
+            if (output.length != length) {
+                output = new byte[length];
+            }
+            return output;
+        }
+    }
+
+    private static final class Base64Encoder extends Coder {
+        private final Scratch scratch = new Scratch();
+
+        @Override
+        void code(byte[] source, int offset, int length, byte[] target, int targetOffset, int capacity, boolean endOfInput) {
+            int groups = Math.min(length / 3, capacity / 4);
+            int in = offset;
+            int out = targetOffset;
+            if (groups * 3 >= JDK_MIN_LENGTH) {
+                byte[] input = scratch.input(source, offset, groups * 3);
+                byte[] output = targetOffset == 0 ? target : scratch.output(groups * 4);
+                JDK_ENCODER.encode(input, output);
+                if (output != target) {
+                    System.arraycopy(output, 0, target, targetOffset, groups * 4);
+                }
+                in += groups * 3;
+                out += groups * 4;
+                groups = 0;
+            }
+            for (int g = 0; g < groups; g++) {
+                int bits = (source[in] & 0xFF) << 16 | (source[in + 1] & 0xFF) << 8 | (source[in + 2] & 0xFF);
+                INT_VIEW.set(target, out, BASE64_ALPHABET[bits >>> 18] << 24 | BASE64_ALPHABET[(bits >>> 12) & 63] << 16
+                        | BASE64_ALPHABET[(bits >>> 6) & 63] << 8 | BASE64_ALPHABET[bits & 63]);
+                in += 3;
+                out += 4;
+            }
+            int rest = offset + length - in;
+            if (endOfInput && rest > 0 && rest < 3 && out + 4 <= targetOffset + capacity) {
+                int bits = (source[in] & 0xFF) << 16 | (rest == 2 ? (source[in + 1] & 0xFF) << 8 : 0);
+                target[out] = BASE64_ALPHABET[bits >>> 18];
+                target[out + 1] = BASE64_ALPHABET[(bits >>> 12) & 63];
+                target[out + 2] = rest == 2 ? BASE64_ALPHABET[(bits >>> 6) & 63] : (byte) '=';
+                target[out + 3] = '=';
+                in += rest;
+                out += 4;
+            }
+            consumed = in - offset;
+            produced = out - targetOffset;
+        }
+    }
+
+    private static final class Base64Decoder extends Coder {
+        private final Scratch scratch = new Scratch();
+        /** 입력이 JDK 복호기가 받는 형태(공백 없는 표준 알파벳)일 동안 true입니다. */
+        private boolean jdkUsable = true;
+        private int bits;
+        private int count;
+        private int padding;
+
+        @Override
+        void code(byte[] source, int offset, int length, byte[] target, int targetOffset, int capacity, boolean endOfInput) {
+            int out = targetOffset;
+            int limit = targetOffset + capacity;
+            int position = offset;
+            int end = offset + length;
+            // Fast path: whole quads without whitespace or padding.
+            if (count == 0 && padding == 0) {
+                int quads = Math.min((end - position) / 4, (limit - out) / 3);
+                int run = quads * 4;
+                int decoded = quads * 3;
+                if (endOfInput && run == end - position && run > 0 && source[end - 1] == '=') {
+                    decoded -= source[end - 2] == '=' ? 2 : 1; // the JDK decoder takes the final padding
+                } else if (run > 0 && source[position + run - 1] == '=') {
+                    run -= 4; // leave a padded quad in the middle of the stream to the table
+                    decoded -= 3;
+                }
+                if (jdkUsable && run >= JDK_MIN_LENGTH) {
+                    byte[] output = out == 0 ? target : scratch.output(decoded);
+                    try {
+                        JDK_DECODER.decode(scratch.input(source, position, run), output);
+                        if (output != target) {
+                            System.arraycopy(output, 0, target, out, decoded);
+                        }
+                        position += run;
+                        out += decoded;
+                        quads -= run / 4;
+                    } catch (IllegalArgumentException e) {
+                        // Whitespace, URL-safe letters or misplaced padding: this stream goes through the table.
+                        jdkUsable = false;
+                    }
+                }
+                for (int q = 0; q < quads; q++) {
+                    int a = BASE64_VALUES[source[position] & 0xFF];
+                    int b = BASE64_VALUES[source[position + 1] & 0xFF];
+                    int c = BASE64_VALUES[source[position + 2] & 0xFF];
+                    int d = BASE64_VALUES[source[position + 3] & 0xFF];
+                    if ((a | b | c | d) < 0) {
+                        break;
+                    }
+                    int quad = a << 18 | b << 12 | c << 6 | d;
+                    target[out] = (byte) (quad >> 16);
+                    target[out + 1] = (byte) (quad >> 8);
+                    target[out + 2] = (byte) quad;
+                    out += 3;
+                    position += 4;
+                }
+            }
+            for (; position < end; position++) {
+                int c = source[position] & 0xFF;
+                int value = BASE64_VALUES[c];
+                if (value == SPACE) {
+                    continue;
+                }
+                if (value == PAD) {
+                    if (count < 2 || count + padding >= 4) {
+                        throw new IllegalArgumentException("Misplaced Base64 padding");
+                    }
+                    padding++;
+                    continue;
+                }
+                if (value < 0 || padding > 0) {
+                    throw new IllegalArgumentException("Invalid Base64 character: " + (char) c);
+                }
+                if (count == 3 && out + 3 > limit) {
+                    break;
+                }
+                bits = bits << 6 | value;
+                if (++count == 4) {
+                    target[out] = (byte) (bits >> 16);
+                    target[out + 1] = (byte) (bits >> 8);
+                    target[out + 2] = (byte) bits;
+                    out += 3;
+                    bits = 0;
+                    count = 0;
+                }
+            }
+            if (position == end && endOfInput && count > 0) {
+                if (count == 1) {
+                    throw new IllegalArgumentException("Truncated Base64 input");
+                }
+                if (out + count - 1 <= limit) {
+                    // 2 or 3 leftover characters carry 1 or 2 bytes.
+                    bits <<= 6 * (4 - count);
+                    target[out++] = (byte) (bits >> 16);
+                    if (count == 3) {
+                        target[out++] = (byte) (bits >> 8);
+                    }
+                    bits = 0;
+                    count = 0;
+                }
+            }
+            consumed = position - offset;
+            produced = out - targetOffset;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * 비트를 최상위 비트부터 채워 바이트 스트림으로 쓰는 클래스입니다. {@link BitReader}와 짝을 이룹니다.
+ *
+ * 비트는 long 하나에 모았다가 64비트가 차면 내부 버퍼에 8바이트를 한 번에 쓰고, 버퍼가 차면 스트림에 씁니다.
+ * 마지막 바이트의 남는 자리는 {@link #finish()}가 0으로 채웁니다.
+ * 스레드 안전하지 않습니다.
+ */
+public final class BitWriter {
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    /** 아직 쓰지 않은 비트들입니다. 오른쪽 정렬, pending개입니다. */
+    private long word;
+    private int pending;
+    private long bitCount;
+
+    /**
+     * @param out 쓸 스트림, 닫지 않습니다.
+     */
+    public BitWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * bits의 아래 count비트를 높은 자리부터 씁니다.
+     * @param count 0~64
+     * @throws IOException 스트림 쓰기 실패
+     */
+    public void write(long bits, int count) throws IOException {
+        if (count == 0) {
+            return;
+        }
+        long value = count == 64 ? bits : bits & ((1L << count) - 1);
+        bitCount += count;
+        int free = 64 - pending;
+        if (count < free) {
+            word = word << count | value;
+            pending += count;
+            return;
+        }
+        int rest = count - free;
+        // pending == 0 means word == 0, so the 64-bit shift (a no-op in Java) is harmless.
+        put(word << free | value >>> rest);
+        word = value & ((1L << rest) - 1);
+        pending = rest;
+    }
+
+    /**
+     * 비트 하나를 씁니다.
+     */
+    public void writeBit(int bit) throws IOException {
+        write(bit, 1);
+    }
+
+    /**
+     * 지금까지 쓴 비트 수입니다. 채움 비트는 세지 않습니다.
+     */
+    public long bitCount() {
+        return bitCount;
+    }
+
+    /**
+     * 남은 비트를 바이트 경계까지 0으로 채워 쓰고 스트림을 비웁니다. 이후에 더 쓰면 새 바이트부터 이어집니다.
+     * @throws IOException 스트림 쓰기 실패
+     */
+    public void finish() throws IOException {
+        int bytes = (pending + 7) / 8;
+        if (position + bytes > buffer.length) {
+            drain();
+        }
+        long aligned = pending == 0 ? 0 : word << (64 - pending);
+        for (int i = 0; i < bytes; i++) {
+            buffer[position++] = (byte) (aligned >>> (56 - 8 * i));
+        }
+        word = 0;
+        pending = 0;
+        drain();
+        out.flush();
+    }
+
+    private void put(long bits) throws IOException {
+        if (position + 8 > buffer.length) {
+            drain();
+        }
+        LONG_VIEW.set(buffer, position, bits);
+        position += 8;
+    }
+
+    private void drain() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+}
@@ -3,6 +3,28 @@
  */
 public class CaesarCipher {
 
+    /** 이동 대상 문자 범위의 시작 문자입니다: 영문 소문자, 영문 대문자, 숫자, 한글 음절. */
+    static final char[] RANGE_BASES = {'a', 'A', '0', '가'};
+    /** 각 범위의 크기입니다. 범위마다 따로 순환하므로 같은 키가 범위별로 서로 다른 나머지로 작용합니다. */
+    static final int[] RANGE_SIZES = {26, 26, 10, 11172};
+
+    /**
+     * 문자가 속한 범위의 인덱스를 반환합니다.
+     * @return {@link #RANGE_BASES}의 인덱스, 이동 대상이 아니면 -1
+     */
+    static int rangeOf(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return 0;
+        } else if (c >= 'A' && c <= 'Z') {
+            return 1;
+        } else if (c >= '0' && c <= '9') {
+            return 2;
+        } else if (c >= '가' && c <= '힣') {
+            return 3;
+        }
+        return -1;
+    }
+
     /**
      * 카이사르 암호를 사용하여 텍스트를 암호화합니다.
      * @param text 암호화할 원본 텍스트
@@ -28,16 +50,20 @@ public class CaesarCipher {
             return null;
         }
 
+        if (Latin1Text.isLatin1(text)) {
+            return Latin1Text.map(text, Latin1Text.table(c -> shift((char) c, shift)));
+        }
+        if (SimdSupport.ENGINE != null && text.length() >= SimdSupport.MIN_LENGTH) {
+            char[] chars = text.toCharArray();
+            SimdSupport.ENGINE.caesar(chars, shift);
+            return new String(chars);
+        }
+
         StringBuilder result = new StringBuilder();
         for (char character : text.toCharArray()) {
-            if (character >= 'a' && character <= 'z') {
-                result.append(shiftChar(character, 'a', 26, shift));
-            } else if (character >= 'A' && character <= 'Z') {
-                result.append(shiftChar(character, 'A', 26, shift));
-            } else if (character >= '0' && character <= '9') {
-                result.append(shiftChar(character, '0', 10, shift));
-            } else if (character >= '가' && character <= '힣') {
-                result.append(shiftChar(character, '가', 11172, shift));
+            int range = rangeOf(character);
+            if (range >= 0) {
+                result.append(shiftChar(character, RANGE_BASES[range], RANGE_SIZES[range], shift));
             } else {
                 result.append(character);
             }
@@ -45,6 +71,14 @@ public class CaesarCipher {
         return result.toString();
     }
 
+    /**
+     * 문자 하나를 이동합니다. 이동 대상 범위가 아니면 그대로 반환합니다.
+     */
+    static char shift(char c, int shift) {
+        int range = rangeOf(c);
+        return range < 0 ? c : shiftChar(c, RANGE_BASES[range], RANGE_SIZES[range], shift);
+    }
+
     private static char shiftChar(char c, char base, int range, int shift) {
         int newPosition = (c - base + shift) % range;
         if (newPosition < 0) newPosition += range;
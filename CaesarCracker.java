@@ -0,0 +1,258 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 키를 모르는 카이사르 암호문의 이동 값을 찾는 클래스입니다.
+ * 암호문을 한 번 훑어 {@link CaesarCipher}의 범위별로 int[] 빈도표를 만들고, 모든 이동 값을 빈도표만으로
+ * 로그 우도(log-likelihood) 점수를 매긴 뒤 상위 후보만 복호화합니다. 후보마다 전체 문자열을 복호화하지 않습니다.
+ *
+ * 이동 값 하나가 범위마다 다른 나머지(26, 10, 11172)로 작용하므로 범위별 점수표를 따로 만든 다음,
+ * 암호문에 나타난 범위 크기들의 최소공배수 안의 모든 키에 대해 점수를 합산합니다.
+ */
+public class CaesarCracker {
+
+    public static final int DEFAULT_TOP_K = 5;
+    private static final int PREVIEW_LENGTH = 80;
+    /** 이 크기 이상의 점수표와 키 공간은 병렬로 계산합니다. */
+    private static final int PARALLEL_THRESHOLD = 1024;
+    private static final int SEARCH_CHUNK = 8192;
+
+    /** 영어 알파벳 a~z의 출현 빈도 (%) */
+    private static final double[] ENGLISH_FREQ = {
+        8.17, 1.49, 2.78, 4.25, 12.70, 2.23, 2.02, 6.09, 6.97, 0.15, 0.77, 4.03, 2.41,
+        6.75, 7.51, 1.93, 0.10, 5.99, 6.33, 9.06, 2.76, 0.98, 2.36, 0.15, 1.97, 0.07
+    };
+    /** 일반 문서에 나오는 숫자 0~9의 대략적인 빈도 (%). 숫자는 단서가 약하므로 완만한 분포를 씁니다. */
+    private static final double[] DIGIT_FREQ = {15.8, 18.8, 14.7, 8.3, 7.0, 7.5, 6.3, 5.8, 6.6, 9.2};
+    /** 한글 초성 19자의 대략적인 빈도 (ㄱ ㄲ ㄴ ㄷ ㄸ ㄹ ㅁ ㅂ ㅃ ㅅ ㅆ ㅇ ㅈ ㅉ ㅊ ㅋ ㅌ ㅍ ㅎ) */
+    private static final double[] HANGUL_INITIAL_FREQ = {
+        12.0, 1.0, 7.0, 8.0, 0.5, 5.0, 5.0, 5.0, 0.2, 8.0, 0.5, 22.0, 8.0, 0.2, 2.0, 0.8, 1.5, 1.0, 7.0
+    };
+    /** 한글 중성 21자의 대략적인 빈도 (ㅏ ㅐ ㅑ ㅒ ㅓ ㅔ ㅕ ㅖ ㅗ ㅘ ㅙ ㅚ ㅛ ㅜ ㅝ ㅞ ㅟ ㅠ ㅡ ㅢ ㅣ) */
+    private static final double[] HANGUL_MEDIAL_FREQ = {
+        20.0, 4.0, 0.5, 0.05, 10.0, 3.0, 4.0, 0.3, 9.0, 2.0, 0.2, 1.0, 1.0, 6.0, 1.0, 0.05, 0.5, 0.8, 12.0, 2.0, 15.0
+    };
+    /** 한글 종성 28자의 대략적인 빈도 (없음, ㄱ ㄲ ㄳ ㄴ ㄵ ㄶ ㄷ ㄹ ㄺ ㄻ ㄼ ㄽ ㄾ ㄿ ㅀ ㅁ ㅂ ㅄ ㅅ ㅆ ㅇ ㅈ ㅊ ㅋ ㅌ ㅍ ㅎ) */
+    private static final double[] HANGUL_FINAL_FREQ = {
+        55.0, 5.0, 0.2, 0.05, 15.0, 0.1, 0.2, 0.3, 9.0, 0.2, 0.05, 0.1, 0.01, 0.01,
+        0.01, 0.1, 3.0, 1.0, 0.3, 1.0, 2.0, 6.0, 0.2, 0.1, 0.02, 0.1, 0.1, 0.1
+    };
+
+    /** {@link CaesarCipher#RANGE_SIZES}와 같은 순서의 범위별 로그 확률표입니다. */
+    private static final double[][] MODELS;
+
+    static {
+        double[] latin = logProbabilities(ENGLISH_FREQ);
+        double[] initial = logProbabilities(HANGUL_INITIAL_FREQ);
+        double[] medial = logProbabilities(HANGUL_MEDIAL_FREQ);
+        double[] finals = logProbabilities(HANGUL_FINAL_FREQ);
+        // 음절 = (초성 * 21 + 중성) * 28 + 종성. 자모가 서로 독립이라고 보고 음절 확률을 곱으로 근사합니다.
+        double[] hangul = new double[CaesarCipher.RANGE_SIZES[3]];
+        for (int i = 0; i < hangul.length; i++) {
+            hangul[i] = initial[i / (21 * 28)] + medial[(i / 28) % 21] + finals[i % 28];
+        }
+        MODELS = new double[][]{latin, latin, logProbabilities(DIGIT_FREQ), hangul};
+    }
+
+    /** 영어 알파벳 하나(0~25)의 로그 확률입니다. */
+    static double latinLogProbability(int letter) {
+        return MODELS[0][letter];
+    }
+
+    /** 한글 음절 하나('가'로부터의 거리)의 로그 확률입니다. */
+    static double hangulLogProbability(int syllable) {
+        return MODELS[3][syllable];
+    }
+
+    static double[] logProbabilities(double[] freq) {
+        double total = 0;
+        for (double f : freq) {
+            total += f;
+        }
+        double[] logs = new double[freq.length];
+        for (int i = 0; i < freq.length; i++) {
+            logs[i] = Math.log(freq[i] / total);
+        }
+        return logs;
+    }
+
+    /**
+     * 가장 그럴듯한 이동 값들을 찾습니다.
+     * @param text 암호문
+     * @param topK 반환할 후보 수
+     * @return 점수 순 후보 목록. 후보의 키는 {@link CaesarCipher#decrypt(String, int)}에 그대로 쓸 수 있습니다.
+     *         이동 대상 문자가 없으면 빈 목록
+     */
+    public static List<KeyCandidate> crack(String text, int topK) {
+        int rangeCount = CaesarCipher.RANGE_SIZES.length;
+        // 1. One pass over the text: a histogram per range.
+        int[][] histograms = new int[rangeCount][];
+        for (int r = 0; r < rangeCount; r++) {
+            histograms[r] = new int[CaesarCipher.RANGE_SIZES[r]];
+        }
+        long scored = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int range = CaesarCipher.rangeOf(c);
+            if (range >= 0) {
+                histograms[range][c - CaesarCipher.RANGE_BASES[range]]++;
+                scored++;
+            }
+        }
+        if (scored == 0) {
+            return new ArrayList<>();
+        }
+
+        // 2. Per range, the score of every shift computed from the histogram alone.
+        List<double[]> tables = new ArrayList<>();
+        long keySpace = 1;
+        for (int r = 0; r < rangeCount; r++) {
+            double[] table = scoreShifts(histograms[r], MODELS[r]);
+            if (table != null) {
+                tables.add(table);
+                keySpace = lcm(keySpace, table.length);
+            }
+        }
+
+        // 3. Sum the range scores over the whole key space and keep the best.
+        double[][] rangeTables = tables.toArray(new double[0][]);
+        int[] best = searchKeySpace(rangeTables, (int) keySpace, topK);
+
+        List<KeyCandidate> candidates = new ArrayList<>();
+        String head = text.substring(0, Math.min(text.length(), PREVIEW_LENGTH));
+        for (int shift : best) {
+            double total = 0;
+            for (double[] table : rangeTables) {
+                total += table[shift % table.length];
+            }
+            candidates.add(new KeyCandidate(shift, 0, total / scored, CaesarCipher.decrypt(head, shift)));
+        }
+        return candidates;
+    }
+
+    /**
+     * 모든 이동 값 s에 대해 sum(count[c] * model[(c - s) mod n])을 계산합니다. 0이 아닌 빈도만 순회합니다.
+     * @return 이동 값별 점수표, 범위에 해당하는 문자가 없으면 null
+     */
+    static double[] scoreShifts(int[] histogram, double[] model) {
+        int n = histogram.length;
+        int distinct = 0;
+        for (int count : histogram) {
+            if (count != 0) {
+                distinct++;
+            }
+        }
+        if (distinct == 0) {
+            return null;
+        }
+        int[] symbols = new int[distinct];
+        int[] counts = new int[distinct];
+        for (int c = 0, j = 0; c < n; c++) {
+            if (histogram[c] != 0) {
+                symbols[j] = c;
+                counts[j++] = histogram[c];
+            }
+        }
+        double[] table = new double[n];
+        IntStream shifts = IntStream.range(0, n);
+        if (n >= PARALLEL_THRESHOLD) {
+            shifts = shifts.parallel();
+        }
+        shifts.forEach(s -> {
+            double sum = 0;
+            for (int j = 0; j < symbols.length; j++) {
+                int plain = symbols[j] - s;
+                if (plain < 0) {
+                    plain += n;
+                }
+                sum += counts[j] * model[plain];
+            }
+            table[s] = sum;
+        });
+        return table;
+    }
+
+    /**
+     * 키 공간 [0, keySpace)를 나누어 병렬로 훑고, 조각마다 모은 상위 후보를 합칩니다.
+     */
+    private static int[] searchKeySpace(double[][] tables, int keySpace, int topK) {
+        int chunks = (keySpace + SEARCH_CHUNK - 1) / SEARCH_CHUNK;
+        IntStream range = IntStream.range(0, chunks);
+        if (keySpace >= PARALLEL_THRESHOLD) {
+            range = range.parallel();
+        }
+        TopK merged = range.mapToObj(chunk -> {
+            TopK top = new TopK(topK);
+            int end = Math.min(keySpace, (chunk + 1) * SEARCH_CHUNK);
+            for (int shift = chunk * SEARCH_CHUNK; shift < end; shift++) {
+                double total = 0;
+                for (double[] table : tables) {
+                    total += table[shift % table.length];
+                }
+                top.offer(shift, total);
+            }
+            return top;
+        }).reduce(TopK::merge).orElseGet(() -> new TopK(topK));
+        return merged.keys();
+    }
+
+    static long lcm(long a, long b) {
+        long x = a;
+        long y = b;
+        while (y != 0) {
+            long t = x % y;
+            x = y;
+            y = t;
+        }
+        return a / x * b;
+    }
+
+    /**
+     * 점수가 높은 키 k개를 유지하는 작은 정렬 배열입니다. 점수가 같으면 작은 키를 앞에 둡니다.
+     */
+    static class TopK {
+        private final int[] keys;
+        private final double[] scores;
+        private int size;
+
+        TopK(int capacity) {
+            keys = new int[Math.max(1, capacity)];
+            scores = new double[keys.length];
+        }
+
+        void offer(int key, double score) {
+            if (size == keys.length && !better(key, score, keys[size - 1], scores[size - 1])) {
+                return;
+            }
+            int i = size < keys.length ? size++ : size - 1;
+            while (i > 0 && better(key, score, keys[i - 1], scores[i - 1])) {
+                keys[i] = keys[i - 1];
+                scores[i] = scores[i - 1];
+                i--;
+            }
+            keys[i] = key;
+            scores[i] = score;
+        }
+
+        /** 가장 낮은 점수입니다. 아직 가득 차지 않았으면 음의 무한대입니다. */
+        double floor() {
+            return size < keys.length ? Double.NEGATIVE_INFINITY : scores[size - 1];
+        }
+
+        TopK merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.keys[i], other.scores[i]);
+            }
+            return this;
+        }
+
+        int[] keys() {
+            return java.util.Arrays.copyOf(keys, size);
+        }
+
+        private static boolean better(int key, double score, int otherKey, double otherScore) {
+            return score > otherScore || (score == otherScore && key < otherKey);
+        }
+    }
+}
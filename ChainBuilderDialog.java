@@ -0,0 +1,180 @@
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.GridLayout;
+import java.awt.Window;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.swing.BorderFactory;
+import javax.swing.DefaultListModel;
+import javax.swing.JButton;
+import javax.swing.JComboBox;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextField;
+import javax.swing.ListSelectionModel;
+import javax.swing.UIManager;
+
+/**
+ * 엔진과 키를 골라 {@link CipherChain} 단계를 차례로 쌓는 창입니다.
+ * 단계를 추가, 삭제하거나 순서를 바꿀 수 있고, 아래쪽에 자동으로 만들어지는 복호화 연쇄와, 복호화해도 원문으로
+ * 정확히 돌아오지 않을 수 있는 단계를 보여줍니다.
+ */
+public class ChainBuilderDialog extends JDialog {
+
+    private final LanguageManager languageManager;
+    private final DefaultListModel<CipherChain.Stage> stageModel = new DefaultListModel<>();
+    private final JList<CipherChain.Stage> stageList = new JList<>(stageModel);
+    private final JComboBox<String> engineSelector = new JComboBox<>(CipherChain.engineNames());
+    private final JTextField keyField = new JTextField(12);
+    private final JLabel inverseLabel = new JLabel(" ");
+    private final JLabel lossyLabel = new JLabel(" ");
+    private String result;
+
+    private ChainBuilderDialog(Window owner, LanguageManager languageManager, String spec) {
+        super(owner, languageManager.get("CHAIN_TITLE"), ModalityType.APPLICATION_MODAL);
+        this.languageManager = languageManager;
+        try {
+            for (CipherChain.Stage stage : CipherChain.parse(spec).stages()) {
+                stageModel.addElement(stage);
+            }
+        } catch (IllegalArgumentException e) {
+            // Start from an empty chain when the field holds an invalid spec.
+        }
+
+        stageList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        JScrollPane stageScroll = new JScrollPane(stageList);
+        stageScroll.setBorder(BorderFactory.createTitledBorder(languageManager.get("CHAIN_STAGES_LABEL")));
+
+        JButton addButton = new JButton(languageManager.get("CHAIN_ADD_BUTTON"));
+        addButton.addActionListener(e -> addStage());
+        keyField.addActionListener(e -> addStage());
+        JButton removeButton = new JButton(languageManager.get("CHAIN_REMOVE_BUTTON"));
+        removeButton.addActionListener(e -> {
+            int index = stageList.getSelectedIndex();
+            if (index >= 0) {
+                stageModel.remove(index);
+                stageList.setSelectedIndex(Math.min(index, stageModel.size() - 1));
+                updateInverse();
+            }
+        });
+        JButton upButton = new JButton(languageManager.get("CHAIN_UP_BUTTON"));
+        upButton.addActionListener(e -> moveSelected(-1));
+        JButton downButton = new JButton(languageManager.get("CHAIN_DOWN_BUTTON"));
+        downButton.addActionListener(e -> moveSelected(1));
+
+        JPanel editor = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        editor.add(new JLabel(languageManager.get("CHAIN_ENGINE_LABEL")));
+        editor.add(engineSelector);
+        editor.add(new JLabel(languageManager.get("CHAIN_KEY_LABEL")));
+        editor.add(keyField);
+        editor.add(addButton);
+
+        JPanel orderButtons = new JPanel(new GridLayout(3, 1, 0, 5));
+        orderButtons.add(upButton);
+        orderButtons.add(downButton);
+        orderButtons.add(removeButton);
+        JPanel side = new JPanel(new BorderLayout());
+        side.add(orderButtons, BorderLayout.NORTH);
+
+        JButton okButton = new JButton(UIManager.getString("OptionPane.okButtonText"));
+        okButton.addActionListener(e -> {
+            List<CipherChain.Stage> stages = stages();
+            result = stages.isEmpty() ? "" : CipherChain.of(stages).spec();
+            dispose();
+        });
+        JButton cancelButton = new JButton(UIManager.getString("OptionPane.cancelButtonText"));
+        cancelButton.addActionListener(e -> dispose());
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttons.add(okButton);
+        buttons.add(cancelButton);
+
+        JPanel south = new JPanel(new BorderLayout(0, 5));
+        south.add(inverseLabel, BorderLayout.NORTH);
+        south.add(lossyLabel, BorderLayout.CENTER);
+        south.add(buttons, BorderLayout.SOUTH);
+
+        JPanel center = new JPanel(new BorderLayout(10, 0));
+        center.add(stageScroll, BorderLayout.CENTER);
+        center.add(side, BorderLayout.EAST);
+
+        JPanel content = new JPanel(new BorderLayout(0, 10));
+        content.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        content.add(editor, BorderLayout.NORTH);
+        content.add(center, BorderLayout.CENTER);
+        content.add(south, BorderLayout.SOUTH);
+        setContentPane(content);
+        getRootPane().setDefaultButton(okButton);
+        setPreferredSize(new Dimension(560, 420));
+        pack();
+        setLocationRelativeTo(owner);
+        updateInverse();
+    }
+
+    /**
+     * 창을 띄우고 사용자가 만든 연쇄를 반환합니다.
+     * @param spec 처음에 보여줄 연쇄 명세 (잘못된 명세면 빈 연쇄로 시작합니다)
+     * @return 확인을 누르면 새 명세(단계가 없으면 빈 문자열), 취소하면 null
+     */
+    public static String edit(Window owner, LanguageManager languageManager, String spec) {
+        ChainBuilderDialog dialog = new ChainBuilderDialog(owner, languageManager, spec);
+        dialog.setVisible(true); // Blocks until the dialog is closed.
+        return dialog.result;
+    }
+
+    private void addStage() {
+        CipherChain.Stage stage;
+        try {
+            stage = CipherChain.Stage.of((String) engineSelector.getSelectedItem(), keyField.getText().trim());
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this, e.getMessage(), languageManager.get("CHAIN_ERROR_TITLE"), JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        int index = stageList.getSelectedIndex() + 1; // Insert after the selection, or append when nothing is selected.
+        if (index == 0) {
+            index = stageModel.size();
+        }
+        stageModel.add(index, stage);
+        stageList.setSelectedIndex(index);
+        updateInverse();
+    }
+
+    private void moveSelected(int offset) {
+        int index = stageList.getSelectedIndex();
+        int target = index + offset;
+        if (index < 0 || target < 0 || target >= stageModel.size()) {
+            return;
+        }
+        CipherChain.Stage stage = stageModel.remove(index);
+        stageModel.add(target, stage);
+        stageList.setSelectedIndex(target);
+        updateInverse();
+    }
+
+    private List<CipherChain.Stage> stages() {
+        List<CipherChain.Stage> stages = new ArrayList<>();
+        for (int i = 0; i < stageModel.size(); i++) {
+            stages.add(stageModel.get(i));
+        }
+        return stages;
+    }
+
+    private void updateInverse() {
+        List<CipherChain.Stage> stages = stages();
+        inverseLabel.setText(stages.isEmpty() ? " "
+                : languageManager.get("CHAIN_DECRYPT_LABEL") + CipherChain.of(stages).inverse().spec());
+        Set<String> lossy = new LinkedHashSet<>();
+        for (CipherChain.Stage stage : stages) {
+            if (!stage.invertible()) {
+                lossy.add(stage.name());
+            }
+        }
+        lossyLabel.setText(lossy.isEmpty() ? " " : languageManager.get("CHAIN_LOSSY_LABEL") + String.join(", ", lossy));
+    }
+}
@@ -0,0 +1,371 @@
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GUI 없이 표준 입력을 변환하여 표준 출력으로 내보내는 명령줄 진입점입니다.
+ * Swing/AWT 클래스를 전혀 로드하지 않으므로 JVM 시작 비용만으로 실행됩니다.
+ *
+ * 사용법: java -cp AtbashCipherApp.jar CipherCLI &lt;mode&gt; [key] [key2] [--block[=rows]] &lt; input.txt &gt; output.txt
+ *        java -cp AtbashCipherApp.jar CipherCLI --serve[=port]
+ *
+ * 비즈네르 모드의 key는 키 문자열이고, 연쇄 모드(chain-encrypt, chain-decrypt)의 key는 {@link CipherChain} 명세 문자열입니다.
+ * chain-decrypt에는 암호화에 쓴 명세를 그대로 넘기면 역순의 복호화 연쇄로 바뀝니다.
+ * 이진수 계열의 자동 감지 모드(binary, octal, hex, base64)는 입력이 그 형식에 맞으면 복호화하고, 아니면 부호화합니다.
+ * 방향을 정하려면 binary-decode 같은 디코딩 모드나, 부호화만 하는 chain-encrypt hex 같은 연쇄를 씁니다.
+ * --serve는 변환 대신 로컬 HTTP 서버({@link CipherServer})를 띄웁니다.
+ * --block은 스퀴탈레 모드를 블록 방식({@link ScytaleCipher#encryptBlocks})으로 바꿔 파일 크기와 관계없이 스트리밍합니다.
+ */
+public class CipherCLI {
+
+    // GUI 스피너의 기본값과 동일하게 맞춥니다.
+    private static final int DEFAULT_DIAMETER = 5;
+    static final int DEFAULT_SHIFT = 3;
+    private static final int DEFAULT_LINE_WIDTH = 0;
+    private static final int STREAM_BUFFER_SIZE = 1 << 16;
+    static final String KEYWORD_ERROR = "The key needs at least one letter, digit or Hangul syllable";
+
+    public static void main(String[] args) {
+        int blockRows = 0; // 0 = whole-text Scytale
+        boolean defaultBlockRows = false;
+        int servePort = -1; // -1 = transform stdin instead of serving HTTP
+        List<String> positional = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals("--serve")) {
+                servePort = CipherServer.DEFAULT_PORT;
+            } else if (arg.startsWith("--serve=")) {
+                try {
+                    servePort = Integer.parseInt(arg.substring("--serve=".length()));
+                } catch (NumberFormatException e) {
+                    System.err.println("Invalid port: " + arg);
+                    System.exit(2);
+                }
+            } else if (arg.equals("--block")) {
+                defaultBlockRows = true; // Sized from the diameter once the key is known.
+            } else if (arg.startsWith("--block=")) {
+                try {
+                    defaultBlockRows = false;
+                    blockRows = Integer.parseInt(arg.substring("--block=".length()));
+                } catch (NumberFormatException e) {
+                    System.err.println("Invalid block rows: " + arg);
+                    System.exit(2);
+                }
+            } else {
+                positional.add(arg);
+            }
+        }
+        args = positional.toArray(new String[0]);
+        if (servePort >= 0) {
+            try {
+                HttpServer server = CipherServer.start(servePort);
+                System.err.println("Listening on http://127.0.0.1:" + server.getAddress().getPort() + "/");
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Cannot start the server: " + e.getMessage());
+                System.exit(1);
+            }
+            return;
+        }
+        if (args.length < 1) {
+            printUsage();
+            System.exit(2);
+        }
+
+        int mode = CipherModes.indexOf(args[0]);
+        if (mode < 0) {
+            System.err.println("Unknown mode: " + args[0]);
+            printUsage();
+            System.exit(2);
+        }
+
+        int key;
+        int key2 = DEFAULT_SHIFT;
+        boolean usesChain = mode == CipherModes.CHAIN_ENCRYPT || mode == CipherModes.CHAIN_DECRYPT;
+        boolean usesKeyword = usesKeyword(mode);
+        String keyword = usesKeyword && args.length > 1 ? args[1] : "";
+        try {
+            key = args.length > 1 && !usesKeyword ? Integer.parseInt(args[1]) : defaultKey(mode);
+            if (args.length > 2) {
+                key2 = Integer.parseInt(args[2]);
+            }
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid parameter value: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+        if (defaultBlockRows) {
+            blockRows = ScytaleCipher.defaultBlockRows(key);
+        }
+
+        if (blockRows != 0 && mode != CipherModes.SCYTALE_ENCRYPT && mode != CipherModes.SCYTALE_DECRYPT) {
+            System.err.println("--block only applies to scytale-encrypt and scytale-decrypt");
+            System.exit(2);
+        }
+
+        if (usesChain) {
+            try {
+                CipherChain.parse(keyword);
+            } catch (IllegalArgumentException e) {
+                System.err.println("Invalid chain: " + e.getMessage());
+                System.err.println("Chain stages: " + String.join(", ", CipherChain.engineNames()));
+                System.exit(2);
+            }
+        } else if (usesKeyword && VigenereCipher.of(keyword, false) == null) {
+            System.err.println(KEYWORD_ERROR);
+            System.exit(2);
+        }
+
+        try {
+            transform(mode, key, key2, keyword, blockRows, Long.MAX_VALUE, System.in, System.out);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("I/O error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 모드의 첫 번째 매개변수 기본값입니다. GUI 스피너의 기본값과 같습니다.
+     */
+    static int defaultKey(int mode) {
+        switch (mode) {
+            case CipherModes.SCYTALE_ENCRYPT:
+            case CipherModes.SCYTALE_DECRYPT:
+            case CipherModes.CHAINED:
+            case CipherModes.CHAINED_DECRYPT:
+                return DEFAULT_DIAMETER;
+            case CipherModes.PACKED:
+                return DEFAULT_LINE_WIDTH;
+            default:
+                return DEFAULT_SHIFT;
+        }
+    }
+
+    /**
+     * 문자열 키를 쓰는 모드(비즈네르, 사용자 정의 연쇄)인지 확인합니다.
+     */
+    static boolean usesKeyword(int mode) {
+        return mode == CipherModes.VIGENERE_ENCRYPT || mode == CipherModes.VIGENERE_DECRYPT
+                || mode == CipherModes.CHAIN_ENCRYPT || mode == CipherModes.CHAIN_DECRYPT;
+    }
+
+    /**
+     * 입력 스트림 전체를 한 모드로 변환하여 씁니다. 스트리밍할 수 있는 모드는 조각 단위로 처리하고, 나머지는 입력 전체를 읽어
+     * {@link CipherModes#transform}으로 변환합니다. CLI와 {@link CipherServer}가 함께 씁니다.
+     * @param keyword 비즈네르 키 또는 연쇄 명세, 다른 모드는 무시합니다.
+     * @param blockRows 스퀴탈레 블록 방식의 행 수, 0이면 전체 텍스트 방식
+     * @param maxBuffered 입력 전체가 필요한 모드가 메모리에 읽어 들일 수 있는 최대 바이트 수.
+     *                    연쇄 모드는 입력 전체가 필요한 단계마다 모아 둘 수 있는 글자 수로 씁니다.
+     * @throws IllegalArgumentException 키나 입력이 잘못된 경우. 그 전까지의 출력은 이미 쓰였을 수 있습니다.
+     * @throws InputTooLargeException 입력 전체가 필요한 모드나 연쇄 단계의 입력이 maxBuffered보다 큰 경우
+     * @throws IOException 입출력 실패
+     */
+    static void transform(int mode, int key, int key2, String keyword, int blockRows, long maxBuffered,
+                          InputStream in, OutputStream out) throws IOException {
+        if (mode == CipherModes.CHAIN_ENCRYPT || mode == CipherModes.CHAIN_DECRYPT) {
+            CipherChain chain = CipherChain.parse(keyword);
+            if (mode == CipherModes.CHAIN_DECRYPT) {
+                chain = chain.inverse();
+            }
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            chain.run(new InputStreamReader(in, StandardCharsets.UTF_8), writer, maxBuffered);
+            writer.flush();
+            return;
+        }
+        if (mode == CipherModes.VIGENERE_ENCRYPT || mode == CipherModes.VIGENERE_DECRYPT) {
+            VigenereCipher vigenere = VigenereCipher.of(keyword, mode == CipherModes.VIGENERE_DECRYPT);
+            if (vigenere == null) {
+                throw new IllegalArgumentException(KEYWORD_ERROR);
+            }
+            streamChars(vigenere, in, out);
+            return;
+        }
+        if (blockRows != 0) {
+            if (mode == CipherModes.SCYTALE_ENCRYPT) {
+                ScytaleCipher.encryptBlocks(in, out, key, blockRows);
+            } else {
+                ScytaleCipher.decryptBlocks(in, out, key, blockRows);
+            }
+            return;
+        }
+        Utf8Cipher byteEngine = byteEngine(mode, key);
+        if (byteEngine != null) {
+            streamBytes(byteEngine, in, out);
+            return;
+        }
+        if (mode == CipherModes.PACKED) {
+            byte[] head = in.readNBytes(STREAM_BUFFER_SIZE);
+            InputStream input = new SequenceInputStream(new ByteArrayInputStream(head), in);
+            if (isBinaryDigits(head)) {
+                // Decoding writes the packed bits as raw bytes, so any binary data round-trips.
+                try {
+                    BinaryCipher.readPacked(input, out);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid binary input: " + e.getMessage(), e);
+                }
+            } else {
+                BinaryCipher.writePacked(input, out, key);
+            }
+            return;
+        }
+        BinaryFormat format = CipherModes.binaryFormat(mode);
+        if (format != null) {
+            // The direction is settled by the head, so both directions stream without holding the whole input.
+            byte[] head = in.readNBytes(STREAM_BUFFER_SIZE);
+            String headText = new String(head, StandardCharsets.ISO_8859_1); // Non-ASCII bytes never match a format.
+            boolean complete = head.length < STREAM_BUFFER_SIZE;
+            if (CipherModes.isDecode(mode) || (complete ? format.matches(headText) : format.matchesPrefix(headText))) {
+                try {
+                    streamDecode(format, head, in, out);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid " + format.cliName() + " input: " + e.getMessage(), e);
+                }
+            } else {
+                streamCode(format.encoder(), (int) format.encodedLength(STREAM_BUFFER_SIZE) + 1, head, in, out);
+            }
+            return;
+        }
+        byte[] inputBytes = readAll(in, maxBuffered);
+        String input = new String(inputBytes, StandardCharsets.UTF_8);
+        String output = CipherModes.transform(input, mode, key, key2);
+        out.write(output.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    /**
+     * 바이트 단위로 처리할 수 있는 모드면 해당 엔진을, 아니면 null을 반환합니다.
+     */
+    private static Utf8Cipher byteEngine(int mode, int key) {
+        switch (mode) {
+            case CipherModes.ATBASH:
+                return Utf8Cipher.atbash();
+            case CipherModes.CAESAR_ENCRYPT:
+                return Utf8Cipher.caesar(key);
+            case CipherModes.CAESAR_DECRYPT:
+                return Utf8Cipher.caesar(-key);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 입력을 문자열로 디코딩하지 않고 조각 단위로 변환하여 내보냅니다. 조각 끝에서 잘린 UTF-8 시퀀스는 다음 조각 앞으로 옮깁니다.
+     */
+    private static void streamBytes(Utf8Cipher engine, InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+        int carried = 0;
+        int n;
+        while ((n = in.read(buffer, carried, buffer.length - carried)) > 0) {
+            int length = carried + n;
+            int done = engine.transform(buffer, 0, length);
+            out.write(buffer, 0, done);
+            carried = length - done;
+            System.arraycopy(buffer, done, buffer, 0, carried);
+        }
+        out.write(buffer, 0, carried); // A sequence cut off by the end of input is passed through unchanged.
+        out.flush();
+    }
+
+    /**
+     * 입력을 UTF-8 글자 조각 단위로 비즈네르 변환하여 내보냅니다. 조각마다 앞서 처리한 글자 수로 키 자리를 이어 갑니다.
+     */
+    private static void streamChars(VigenereCipher cipher, InputStream in, OutputStream out) throws IOException {
+        Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        char[] buffer = new char[STREAM_BUFFER_SIZE];
+        long position = 0;
+        int n;
+        while ((n = reader.read(buffer)) > 0) {
+            cipher.transform(buffer, 0, n, position);
+            writer.write(buffer, 0, n);
+            position += n;
+        }
+        writer.flush();
+    }
+
+    /**
+     * '0', '1', 공백 문자만 있는지 확인합니다.
+     */
+    private static boolean isBinaryDigits(byte[] bytes) {
+        for (byte b : bytes) {
+            if (b != '0' && b != '1' && b != ' ' && b != '\t' && b != '\n' && b != 0x0B && b != '\f' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 지정한 형식의 입력을 바이트로 되돌려 조각 단위로 내보냅니다. 이진수는 구분 없는 형식({@link BinaryCipher#toPackedBinary})도
+     * 받습니다. 형식 오류를 만나기 전까지의 출력은 이미 쓰였을 수 있습니다.
+     * @throws IllegalArgumentException 입력이 형식에 맞지 않을 때
+     */
+    private static void streamDecode(BinaryFormat format, byte[] head, InputStream in, OutputStream out) throws IOException {
+        if (format == BinaryFormat.BINARY && BinaryCipher.isPacked(new String(head, StandardCharsets.ISO_8859_1))) {
+            BinaryCipher.readPacked(new SequenceInputStream(new ByteArrayInputStream(head), in), out);
+            out.flush();
+            return;
+        }
+        // Every format takes at least one character per byte, so the output never outgrows the input chunk.
+        streamCode(format.decoder(), STREAM_BUFFER_SIZE + 16, head, in, out);
+    }
+
+    /**
+     * 입력 바이트를 부호기나 복호기에 통과시켜 조각 단위로 내보냅니다. 결과 전체를 메모리에 만들지 않습니다.
+     * @param outputSize 입력 조각 하나를 처리한 결과가 들어갈 출력 버퍼 크기
+     */
+    private static void streamCode(BinaryFormat.Coder coder, int outputSize, byte[] head, InputStream in, OutputStream out)
+            throws IOException {
+        ByteBuffer input = ByteBuffer.allocate(STREAM_BUFFER_SIZE);
+        ByteBuffer output = ByteBuffer.allocate(outputSize);
+        input.put(head).flip();
+        boolean end = false;
+        while (!end) {
+            input.compact();
+            int n = in.read(input.array(), input.position(), input.remaining());
+            if (n > 0) {
+                input.position(input.position() + n);
+            }
+            end = n < 0;
+            input.flip();
+            coder.code(input, output, end);
+            out.write(output.array(), 0, output.position());
+            output.clear();
+        }
+        out.flush();
+    }
+
+    /**
+     * 입력을 모두 읽습니다.
+     */
+    private static byte[] readAll(InputStream in, long limit) throws IOException {
+        if (limit >= Integer.MAX_VALUE) {
+            return in.readAllBytes();
+        }
+        byte[] bytes = in.readNBytes((int) limit + 1);
+        if (bytes.length > limit) {
+            throw new InputTooLargeException("This mode needs the whole input in memory, which is limited to " + limit + " bytes");
+        }
+        return bytes;
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: CipherCLI <mode> [key] [key2] [--block[=rows]] < input > output");
+        System.err.println("       CipherCLI --serve[=port]   (HTTP on 127.0.0.1, default port " + CipherServer.DEFAULT_PORT + ")");
+        System.err.println("Modes: " + String.join(", ", CipherModes.cliNames()));
+        System.err.println("Chain key: comma-separated stages such as \"atbash,scytale:5,caesar:3,morse\"");
+        System.err.println("Chain stages: " + String.join(", ", CipherChain.engineNames()));
+    }
+}
@@ -0,0 +1,679 @@
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * 사용자가 고른 암호 엔진들을 순서대로 적용하는 연쇄 암호입니다.
+ *
+ * 연쇄는 "atbash,scytale:5,caesar:3,morse"처럼 쉼표로 구분한 단계 목록(명세 문자열)으로 만듭니다. 단계는 엔진 이름과,
+ * 키가 있는 엔진이면 ':' 뒤의 키로 이루어집니다. {@link #inverse()}는 단계 순서를 뒤집고 단계마다 역방향 엔진으로 바꿔
+ * 복호화 연쇄를 만듭니다.
+ *
+ * 긴 텍스트는 단계마다 스레드를 하나씩 두고, 단계 사이를 글자 조각을 담는 크기 제한 큐(배열 기반 원형 버퍼)로 이어 실행합니다.
+ * 뒷 단계가 앞 조각을 변환하는 동안 앞 단계는 다음 조각을 변환하므로 여러 코어를 함께 쓰고, 단계 사이에 머무는 데이터는
+ * 조각 몇 개로 제한됩니다. 조각 단위로 처리할 수 없는 엔진(스퀴탈레, 모스 부호, 이진수 계열)은 입력 전체를 모은 뒤 한 번에
+ * 변환하므로, 그런 단계는 자기 입력 크기만큼 메모리를 씁니다. {@link #run(Reader, Writer, long)}은 그 크기를 제한할 수 있습니다.
+ */
+public final class CipherChain {
+
+    /** 단계 사이에 주고받는 조각의 크기 (글자 수)입니다. */
+    private static final int CHUNK_SIZE = 1 << 16;
+    /** 단계 사이 큐 하나에 쌓아 둘 수 있는 조각 수입니다. */
+    private static final int QUEUE_CAPACITY = 4;
+    /** 입력을 읽는 스레드와 호출한 스레드가 큐를 기다리는 동안 실패 여부를 확인하는 간격 (밀리초)입니다. */
+    private static final long STOP_POLL_MILLIS = 50;
+    /** 이보다 짧은 텍스트는 스레드 없이 단계를 차례로 적용합니다. */
+    private static final int PIPELINE_THRESHOLD = 1 << 20;
+    /** 입력 끝 표시입니다. 내용이 아니라 참조로 비교합니다. */
+    private static final String END = new String();
+
+    private static final int DEFAULT_SHIFT = 3;
+    private static final int DEFAULT_DIAMETER = 5;
+
+    /** 엔진 이름과 역방향 엔진 이름입니다. 자기 자신이 역방향인 엔진은 같은 이름을 적습니다. */
+    private static final String[][] ENGINES = {
+        {"atbash", "atbash"},
+        {"caesar", "caesar-decrypt"},
+        {"caesar-decrypt", "caesar"},
+        {"scytale", "scytale-decrypt"},
+        {"scytale-decrypt", "scytale"},
+        {"vigenere", "vigenere-decrypt"},
+        {"vigenere-decrypt", "vigenere"},
+        {"morse", "morse-decode"},
+        {"morse-decode", "morse"},
+        {"binary", "binary-decode"},
+        {"binary-decode", "binary"},
+        {"octal", "octal-decode"},
+        {"octal-decode", "octal"},
+        {"hex", "hex-decode"},
+        {"hex-decode", "hex"},
+        {"base64", "base64-decode"},
+        {"base64-decode", "base64"},
+        {"jamo-atbash", "jamo-atbash"},
+        {"jamo-caesar", "jamo-caesar-decrypt"},
+        {"jamo-caesar-decrypt", "jamo-caesar"}
+    };
+
+    private final List<Stage> stages;
+
+    private CipherChain(List<Stage> stages) {
+        this.stages = Collections.unmodifiableList(stages);
+    }
+
+    /**
+     * 명세 문자열로 연쇄를 만듭니다.
+     * @param spec 쉼표로 구분한 단계 목록 (예: "atbash,scytale:5,caesar:3,vigenere:key,morse")
+     * @return 연쇄
+     * @throws IllegalArgumentException 단계가 없거나, 알 수 없는 엔진이거나, 키가 잘못된 경우
+     */
+    public static CipherChain parse(String spec) {
+        List<Stage> stages = new ArrayList<>();
+        if (spec != null) {
+            for (String part : spec.split(",")) {
+                if (!part.isBlank()) {
+                    stages.add(Stage.parse(part.trim()));
+                }
+            }
+        }
+        if (stages.isEmpty()) {
+            throw new IllegalArgumentException("The chain has no stages");
+        }
+        return new CipherChain(stages);
+    }
+
+    /**
+     * 단계 목록으로 연쇄를 만듭니다.
+     * @throws IllegalArgumentException 단계가 없는 경우
+     */
+    public static CipherChain of(List<Stage> stages) {
+        if (stages.isEmpty()) {
+            throw new IllegalArgumentException("The chain has no stages");
+        }
+        return new CipherChain(new ArrayList<>(stages));
+    }
+
+    /**
+     * 연쇄 빌더와 도움말에 보여줄 엔진 이름들입니다.
+     */
+    public static String[] engineNames() {
+        String[] names = new String[ENGINES.length];
+        for (int i = 0; i < ENGINES.length; i++) {
+            names[i] = ENGINES[i][0];
+        }
+        return names;
+    }
+
+    public List<Stage> stages() {
+        return stages;
+    }
+
+    /**
+     * 이 연쇄를 되돌리는 연쇄입니다. 단계 순서를 뒤집고 단계마다 역방향 엔진을 씁니다.
+     * {@link Stage#invertible()}이 아닌 단계가 있으면 되돌린 결과가 원문과 다를 수 있습니다.
+     */
+    public CipherChain inverse() {
+        List<Stage> inverted = new ArrayList<>();
+        for (int i = stages.size() - 1; i >= 0; i--) {
+            inverted.add(stages.get(i).inverse());
+        }
+        return new CipherChain(inverted);
+    }
+
+    /**
+     * {@link #parse}로 다시 읽을 수 있는 명세 문자열입니다. 키는 정규화됩니다(예: "caesar:03" -&gt; "caesar:3").
+     */
+    public String spec() {
+        StringBuilder spec = new StringBuilder();
+        for (Stage stage : stages) {
+            if (spec.length() > 0) {
+                spec.append(',');
+            }
+            spec.append(stage.spec());
+        }
+        return spec.toString();
+    }
+
+    @Override
+    public String toString() {
+        return spec();
+    }
+
+    /**
+     * 텍스트 전체를 변환합니다. 프로세서가 둘 이상이면 긴 텍스트는 {@link #run}과 같이 단계별 스레드로 처리합니다.
+     */
+    public String transform(String text) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        // With one processor the stage threads only take turns, so the plain loop is faster.
+        if (stages.size() < 2 || text.length() < PIPELINE_THRESHOLD || Runtime.getRuntime().availableProcessors() < 2) {
+            for (Stage stage : stages) {
+                long start = PerfRecorder.start();
+                String input = text;
+                text = stage.engine.apply(input);
+                PerfRecorder.record("chain." + stage.name, start, 2L * input.length());
+            }
+            return text;
+        }
+        StringWriter out = new StringWriter(text.length());
+        try {
+            run(new StringReader(text), out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // String I/O only fails when interrupted.
+        }
+        return out.toString();
+    }
+
+    /**
+     * 입력을 끝까지 읽어 변환하여 씁니다. 입력을 읽는 스레드와 단계마다 스레드 하나를 띄우고, 호출한 스레드는 마지막 단계의
+     * 출력을 씁니다. 어느 스레드에서든 예외가 나면 모든 스레드를 멈추고 그 예외를 던집니다.
+     * @param in 읽을 입력, 닫지 않습니다.
+     * @param out 쓸 출력, 닫지 않습니다.
+     * @throws IOException 입출력 실패, 또는 호출한 스레드가 인터럽트된 경우 {@link InterruptedIOException}
+     */
+    public void run(Reader in, Writer out) throws IOException {
+        run(in, out, Long.MAX_VALUE);
+    }
+
+    /**
+     * {@link #run(Reader, Writer)}와 같지만, 입력 전체가 필요한 단계가 모아 둘 수 있는 글자 수를 제한합니다.
+     * 서버처럼 여러 요청이 한 JVM을 나눠 쓸 때 요청 하나가 힙을 다 쓰지 않게 합니다.
+     * @param maxBuffered 단계 하나가 모아 둘 수 있는 최대 글자 수
+     * @throws InputTooLargeException 어느 단계의 입력이 maxBuffered를 넘는 경우
+     */
+    public void run(Reader in, Writer out, long maxBuffered) throws IOException {
+        List<BlockingQueue<String>> queues = new ArrayList<>();
+        for (int i = 0; i <= stages.size(); i++) {
+            queues.add(new ArrayBlockingQueue<>(QUEUE_CAPACITY));
+        }
+        Pipeline pipeline = new Pipeline();
+        pipeline.addReader("chain-reader", () -> readChunks(in, queues.get(0), pipeline));
+        for (int i = 0; i < stages.size(); i++) {
+            Stage stage = stages.get(i);
+            BlockingQueue<String> from = queues.get(i);
+            BlockingQueue<String> to = queues.get(i + 1);
+            pipeline.add("chain-" + i + "-" + stage.name, () -> runStage(stage, maxBuffered, from, to));
+        }
+        pipeline.start();
+        BlockingQueue<String> last = queues.get(stages.size());
+        Throwable cause;
+        try {
+            String chunk;
+            while ((chunk = poll(last, pipeline)) != END && chunk != null) {
+                out.write(chunk);
+            }
+            if (chunk == END) {
+                out.flush();
+                return;
+            }
+            cause = pipeline.failure.get();
+        } catch (InterruptedException e) {
+            pipeline.fail(e); // Interrupted from outside: stop the stages and keep the interrupt.
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Cipher chain interrupted");
+        } catch (IOException | RuntimeException e) {
+            pipeline.fail(e);
+            pipeline.awaitStopped();
+            throw e;
+        }
+        pipeline.awaitStopped();
+        if (cause instanceof IOException) {
+            throw (IOException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new IOException(cause);
+    }
+
+    /**
+     * 마지막 단계의 다음 조각을 기다립니다. 호출한 스레드는 인터럽트하지 않으므로(응답 채널에 쓰는 중이면 채널이 닫히므로)
+     * 기다리는 동안 주기적으로, 그리고 조각마다 실패했는지 확인합니다.
+     * @return 다음 조각 또는 {@link #END}, 어느 단계가 실패했으면 null
+     */
+    private static String poll(BlockingQueue<String> queue, Pipeline pipeline) throws InterruptedException {
+        String chunk;
+        do {
+            if (pipeline.failure.get() != null) {
+                return null;
+            }
+            chunk = queue.poll(STOP_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        } while (chunk == null);
+        return chunk;
+    }
+
+    /**
+     * 입력을 조각으로 읽어 첫 단계에 넘깁니다. 이 스레드는 인터럽트하지 않으므로, 읽을 때마다, 그리고 큐가 찬 동안
+     * 주기적으로 실패했는지 확인해 멈춥니다.
+     */
+    private static void readChunks(Reader in, BlockingQueue<String> queue, Pipeline pipeline)
+            throws IOException, InterruptedException {
+        char[] buffer = new char[CHUNK_SIZE];
+        int length = 0;
+        int n;
+        while ((n = in.read(buffer, length, buffer.length - length)) >= 0) {
+            length += n;
+            if (pipeline.failure.get() != null) {
+                return;
+            }
+            if (length == buffer.length) {
+                if (!offer(queue, new String(buffer, 0, length), pipeline)) {
+                    return;
+                }
+                length = 0;
+            }
+        }
+        if (length > 0 && !offer(queue, new String(buffer, 0, length), pipeline)) {
+            return;
+        }
+        offer(queue, END, pipeline);
+    }
+
+    /**
+     * 큐에 자리가 날 때까지 기다리며 넣습니다.
+     * @return 넣었으면 true, 그 전에 다른 스레드가 실패했으면 false
+     */
+    private static boolean offer(BlockingQueue<String> queue, String chunk, Pipeline pipeline) throws InterruptedException {
+        while (!queue.offer(chunk, STOP_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (pipeline.failure.get() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 단계 하나를 끝까지 실행합니다. 소요 시간은 큐를 기다린 시간을 빼고 변환한 시간만 더해, 실행 한 번을 한 건으로 기록합니다.
+     */
+    private static void runStage(Stage stage, long maxBuffered, BlockingQueue<String> from, BlockingQueue<String> to)
+            throws InterruptedException {
+        Processor processor = stage.newProcessor(maxBuffered);
+        long busyNanos = 0;
+        long volume = 0;
+        for (String chunk = from.take(); chunk != END; chunk = from.take()) {
+            long start = PerfRecorder.start();
+            String output = processor.apply(chunk);
+            busyNanos += System.nanoTime() - start;
+            volume += 2L * chunk.length();
+            putChunks(to, output);
+        }
+        long start = PerfRecorder.start();
+        String rest = processor.finish();
+        busyNanos += System.nanoTime() - start;
+        PerfRecorder.recordElapsed("chain." + stage.name, busyNanos, volume);
+        putChunks(to, rest);
+        to.put(END);
+    }
+
+    /**
+     * 긴 출력(전체 텍스트 엔진의 결과)은 조각으로 나눠 넘겨, 다음 단계가 나머지를 기다리지 않고 바로 시작하게 합니다.
+     */
+    private static void putChunks(BlockingQueue<String> queue, String text) throws InterruptedException {
+        if (text.length() <= CHUNK_SIZE) {
+            if (!text.isEmpty()) {
+                queue.put(text);
+            }
+            return;
+        }
+        for (int i = 0; i < text.length(); i += CHUNK_SIZE) {
+            queue.put(text.substring(i, Math.min(text.length(), i + CHUNK_SIZE)));
+        }
+    }
+
+    private interface Task {
+        void run() throws Exception;
+    }
+
+    /**
+     * 연쇄 한 번의 실행에 쓰는 스레드들과, 처음 난 예외입니다. 호출한 스레드와 입력을 읽는 스레드는 인터럽트하지 않고,
+     * 스스로 {@link #failure}를 확인해 멈춥니다.
+     */
+    private static final class Pipeline {
+        private final List<Thread> threads = new ArrayList<>();
+        /** 실패했을 때 인터럽트할 스레드입니다. 입력을 읽는 스레드는 빠집니다. */
+        private final List<Thread> interruptible = new ArrayList<>();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        void add(String name, Task task) {
+            interruptible.add(newThread(name, task));
+        }
+
+        /**
+         * 입력을 읽는 스레드를 더합니다. 채널에서 읽는 중에 인터럽트하면 채널이 닫히므로(서버라면 클라이언트 연결이 끊겨
+         * 오류 응답을 보낼 수 없으므로) 인터럽트하지 않습니다.
+         */
+        void addReader(String name, Task task) {
+            newThread(name, task);
+        }
+
+        private Thread newThread(String name, Task task) {
+            Thread thread = new Thread(() -> {
+                try {
+                    task.run();
+                } catch (InterruptedException e) {
+                    // Stopped because another thread failed; that failure is what gets reported.
+                } catch (Throwable e) {
+                    fail(e);
+                }
+            }, name);
+            thread.setDaemon(true);
+            threads.add(thread);
+            return thread;
+        }
+
+        void start() {
+            for (Thread thread : threads) {
+                thread.start();
+            }
+        }
+
+        /**
+         * 처음 난 예외를 기록하고 모든 단계 스레드를 멈춥니다. 이미 기록된 예외가 있으면 아무 일도 하지 않습니다.
+         */
+        void fail(Throwable e) {
+            if (!failure.compareAndSet(null, e)) {
+                return;
+            }
+            for (Thread thread : interruptible) {
+                thread.interrupt();
+            }
+        }
+
+        /**
+         * 실패한 뒤 모든 스레드가 끝날 때까지 기다립니다. 입력을 읽는 스레드가 멈춘 뒤에야 호출한 쪽이 같은 입력을
+         * 이어 읽을 수 있습니다(서버는 오류 응답 전에 남은 요청 본문을 읽어 버립니다).
+         */
+        void awaitStopped() {
+            boolean interrupted = false;
+            for (Thread thread : threads) {
+                while (thread.isAlive()) {
+                    try {
+                        thread.join();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 단계 하나를 실행하는 동안의 상태입니다. 실행마다 새로 만듭니다.
+     */
+    private interface Processor {
+        /**
+         * 조각 하나를 변환합니다. 입력 전체가 필요한 엔진은 모아 두고 빈 문자열을 반환합니다.
+         */
+        String apply(String chunk);
+
+        /**
+         * 입력이 끝났을 때 남은 출력을 반환합니다.
+         */
+        default String finish() {
+            return "";
+        }
+    }
+
+    /**
+     * 연쇄의 단계 하나입니다. 엔진 이름과 정규화된 키로 이루어집니다.
+     */
+    public static final class Stage {
+        private final String name;
+        /** 키, 키가 없는 엔진은 빈 문자열입니다. */
+        private final String key;
+        /** 텍스트 전체에 적용하는 변환입니다. */
+        private final UnaryOperator<String> engine;
+        /** 조각마다 따로 변환해도 결과가 같으면 true입니다. */
+        private final boolean streaming;
+        /** 비즈네르 단계의 엔진, 다른 단계는 null입니다. */
+        private final VigenereCipher vigenere;
+        /** 자모 단위 단계의 이동 값과 종류입니다. */
+        private final int jamoShift;
+        private final boolean jamoAtbash;
+
+        private Stage(String name, String key, UnaryOperator<String> engine, boolean streaming,
+                      VigenereCipher vigenere, int jamoShift, boolean jamoAtbash) {
+            this.name = name;
+            this.key = key;
+            this.engine = engine;
+            this.streaming = streaming;
+            this.vigenere = vigenere;
+            this.jamoShift = jamoShift;
+            this.jamoAtbash = jamoAtbash;
+        }
+
+        private Stage(String name, String key, UnaryOperator<String> engine, boolean streaming) {
+            this(name, key, engine, streaming, null, 0, false);
+        }
+
+        /**
+         * "이름" 또는 "이름:키" 형태의 단계 하나를 읽습니다.
+         * @throws IllegalArgumentException 알 수 없는 엔진이거나 키가 잘못된 경우
+         */
+        public static Stage parse(String spec) {
+            int colon = spec.indexOf(':');
+            String name = (colon < 0 ? spec : spec.substring(0, colon)).trim().toLowerCase(Locale.ROOT);
+            String key = colon < 0 ? "" : spec.substring(colon + 1).trim();
+            return of(name, key);
+        }
+
+        /**
+         * @param name 엔진 이름 ({@link #engineNames()} 중 하나)
+         * @param key 키, 없으면 빈 문자열 (카이사르는 이동 값 3, 스퀴탈레는 지름 5가 기본값입니다)
+         * @throws IllegalArgumentException 알 수 없는 엔진이거나 키가 잘못된 경우
+         */
+        public static Stage of(String name, String key) {
+            switch (name) {
+                case "caesar":
+                case "caesar-decrypt": {
+                    int shift = intKey(name, key, DEFAULT_SHIFT);
+                    int signed = name.equals("caesar") ? shift : -shift;
+                    return new Stage(name, Integer.toString(shift), text -> CaesarCipher.encrypt(text, signed), true);
+                }
+                case "jamo-caesar":
+                case "jamo-caesar-decrypt": {
+                    int shift = intKey(name, key, DEFAULT_SHIFT);
+                    int signed = name.equals("jamo-caesar") ? shift : -shift;
+                    return new Stage(name, Integer.toString(shift), text -> HangulJamo.caesar(HangulJamo.compose(text), signed),
+                            true, null, signed, false);
+                }
+                case "scytale":
+                case "scytale-decrypt": {
+                    int diameter = intKey(name, key, DEFAULT_DIAMETER);
+                    if (diameter < 1) {
+                        throw new IllegalArgumentException("The diameter of " + name + " must be at least 1");
+                    }
+                    UnaryOperator<String> engine = name.equals("scytale")
+                            ? text -> ScytaleCipher.encrypt(text, diameter)
+                            : text -> ScytaleCipher.decrypt(text, diameter);
+                    return new Stage(name, Integer.toString(diameter), engine, false);
+                }
+                case "vigenere":
+                case "vigenere-decrypt": {
+                    if (key.indexOf(',') >= 0) {
+                        throw new IllegalArgumentException("The key of " + name + " cannot contain ',' because ',' separates chain stages");
+                    }
+                    VigenereCipher cipher = VigenereCipher.of(key, name.equals("vigenere-decrypt"));
+                    if (cipher == null) {
+                        throw new IllegalArgumentException("The key of " + name + " needs at least one letter, digit or Hangul syllable");
+                    }
+                    return new Stage(name, key, cipher::transform, true, cipher, 0, false);
+                }
+                default:
+                    break;
+            }
+            if (!key.isEmpty()) {
+                throw new IllegalArgumentException(name + " takes no key");
+            }
+            switch (name) {
+                case "atbash":
+                    return new Stage(name, key, AtbashCipher::transform, true);
+                case "jamo-atbash":
+                    return new Stage(name, key, text -> HangulJamo.atbash(HangulJamo.compose(text)), true, null, 0, true);
+                case "morse":
+                    return new Stage(name, key, MorseCode::toMorse, false);
+                case "morse-decode":
+                    return new Stage(name, key, MorseCode::fromMorse, false);
+                default:
+                    break;
+            }
+            boolean decode = name.endsWith("-decode");
+            String formatName = decode ? name.substring(0, name.length() - "-decode".length()) : name;
+            for (BinaryFormat format : BinaryFormat.values()) {
+                if (format.cliName().equals(formatName)) {
+                    UnaryOperator<String> engine = decode
+                            ? text -> BinaryCipher.fromBinary(text, format)
+                            : text -> BinaryCipher.toBinary(text, format);
+                    return new Stage(name, key, engine, false);
+                }
+            }
+            throw new IllegalArgumentException("Unknown chain stage: " + name);
+        }
+
+        private static int intKey(String name, String key, int defaultValue) {
+            if (key.isEmpty()) {
+                return defaultValue;
+            }
+            try {
+                return Integer.parseInt(key);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("The key of " + name + " must be a number: " + key);
+            }
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        /**
+         * 이 단계를 되돌리는 단계입니다.
+         */
+        public Stage inverse() {
+            for (String[] engine : ENGINES) {
+                if (engine[0].equals(name)) {
+                    return of(engine[1], key);
+                }
+            }
+            throw new IllegalStateException(name); // Every stage name comes from ENGINES.
+        }
+
+        /**
+         * 이 단계 뒤에 {@link #inverse()}를 적용하면 어떤 텍스트든 그대로 돌아오는지 여부입니다. 스퀴탈레(공백 제거, 'X' 채움),
+         * 모스 부호(대문자로 바꿈, 표에 없는 글자 제거), 자모 단계(자모 조합), 이진수 계열의 복호화(형식에 맞지 않는 입력)는
+         * 텍스트에 따라 원래대로 돌아오지 않습니다.
+         */
+        public boolean invertible() {
+            switch (name) {
+                case "atbash":
+                case "caesar":
+                case "caesar-decrypt":
+                case "vigenere":
+                case "vigenere-decrypt":
+                case "binary":
+                case "octal":
+                case "hex":
+                case "base64":
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        public String spec() {
+            return key.isEmpty() ? name : name + ":" + key;
+        }
+
+        @Override
+        public String toString() {
+            return spec();
+        }
+
+        /**
+         * @param maxBuffered 입력 전체가 필요한 엔진이 모아 둘 수 있는 최대 글자 수
+         */
+        private Processor newProcessor(long maxBuffered) {
+            if (vigenere != null) {
+                return new Processor() {
+                    private long position;
+
+                    @Override
+                    public String apply(String chunk) {
+                        char[] chars = chunk.toCharArray();
+                        vigenere.transform(chars, 0, chars.length, position);
+                        position += chars.length;
+                        return new String(chars);
+                    }
+                };
+            }
+            if (name.startsWith("jamo-")) {
+                // Conjoining jamo may straddle a chunk boundary, so the composer carries the unfinished syllable over.
+                return new Processor() {
+                    private final HangulJamo.Composer composer = new HangulJamo.Composer();
+
+                    @Override
+                    public String apply(String chunk) {
+                        char[] source = chunk.toCharArray();
+                        char[] target = new char[source.length + 1];
+                        int n = composer.process(source, 0, source.length, target, 0);
+                        HangulJamo.transform(target, 0, n, jamoShift, jamoAtbash);
+                        return new String(target, 0, n);
+                    }
+
+                    @Override
+                    public String finish() {
+                        char[] target = new char[1];
+                        int n = composer.finish(target, 0);
+                        HangulJamo.transform(target, 0, n, jamoShift, jamoAtbash);
+                        return new String(target, 0, n);
+                    }
+                };
+            }
+            if (streaming) {
+                return engine::apply;
+            }
+            return new Processor() {
+                private final StringBuilder buffer = new StringBuilder();
+
+                @Override
+                public String apply(String chunk) {
+                    if (buffer.length() + (long) chunk.length() > maxBuffered) {
+                        throw new InputTooLargeException("Chain stage " + name + " needs its whole input in memory, which is limited to "
+                                + maxBuffered + " characters");
+                    }
+                    buffer.append(chunk);
+                    return "";
+                }
+
+                @Override
+                public String finish() {
+                    String text = buffer.toString();
+                    buffer.setLength(0);
+                    return engine.apply(text);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,292 @@
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * 암호 선택 상자의 모드 순서와 CLI 모드 이름을 한 곳에서 관리하고, 선택된 모드로 변환을 수행하는 클래스입니다.
+ * Swing 클래스에 의존하지 않으므로 CLI 경로에서 GUI 클래스를 로드하지 않고 사용할 수 있습니다.
+ */
+public class CipherModes {
+
+    public static final int ATBASH = 0;
+    public static final int MORSE = 1;
+    public static final int BINARY = 2;
+    public static final int CAESAR_ENCRYPT = 3;
+    public static final int CAESAR_DECRYPT = 4;
+    public static final int SCYTALE_ENCRYPT = 5;
+    public static final int SCYTALE_DECRYPT = 6;
+    public static final int CHAINED = 7;
+    public static final int CHAINED_DECRYPT = 8;
+    public static final int CAESAR_CRACK = 9;
+    public static final int SCYTALE_CRACK = 10;
+    public static final int CHAINED_CRACK = 11;
+    public static final int JAMO_ATBASH = 12;
+    public static final int JAMO_CAESAR_ENCRYPT = 13;
+    public static final int JAMO_CAESAR_DECRYPT = 14;
+    public static final int OCTAL = 15;
+    public static final int HEX = 16;
+    public static final int BASE64 = 17;
+    public static final int PACKED = 18;
+    public static final int VIGENERE_ENCRYPT = 19;
+    public static final int VIGENERE_DECRYPT = 20;
+    public static final int CHAIN_ENCRYPT = 21;
+    public static final int CHAIN_DECRYPT = 22;
+    public static final int BINARY_DECODE = 23;
+    public static final int OCTAL_DECODE = 24;
+    public static final int HEX_DECODE = 25;
+    public static final int BASE64_DECODE = 26;
+
+    /** CLI에서 사용하는 모드 이름입니다. 배열 인덱스가 암호 선택 상자의 인덱스와 같습니다. */
+    private static final String[] CLI_NAMES = {
+        "atbash", "morse", "binary",
+        "caesar-encrypt", "caesar-decrypt",
+        "scytale-encrypt", "scytale-decrypt",
+        "chained", "chained-decrypt",
+        "caesar-crack", "scytale-crack", "chained-crack",
+        "jamo-atbash", "jamo-caesar-encrypt", "jamo-caesar-decrypt",
+        "octal", "hex", "base64", "packed",
+        "vigenere-encrypt", "vigenere-decrypt",
+        "chain-encrypt", "chain-decrypt",
+        "binary-decode", "octal-decode", "hex-decode", "base64-decode"
+    };
+
+    /**
+     * CLI 모드 이름을 암호 선택 상자 인덱스로 변환합니다.
+     * @param name 모드 이름 (대소문자 무시)
+     * @return 모드 인덱스, 알 수 없는 이름이면 -1
+     */
+    public static int indexOf(String name) {
+        for (int i = 0; i < CLI_NAMES.length; i++) {
+            if (CLI_NAMES[i].equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static String[] cliNames() {
+        return CLI_NAMES.clone();
+    }
+
+    /**
+     * 선택된 모드로 텍스트를 변환합니다. 자동 감지와 각 암호 단계의 소요 시간은 {@link PerfRecorder}에 기록됩니다.
+     * @param inputText 변환할 원본 텍스트
+     * @param selectedCipherIndex 암호 선택 상자 인덱스
+     * @param key 첫 번째 매개변수 (카이사르 이동 값, 스퀴탈레 지름 또는 구분 없는 이진수의 줄 너비)
+     * @param key2 두 번째 매개변수 (연쇄 모드의 카이사르 이동 값)
+     * @return 변환된 텍스트
+     */
+    public static String transform(String inputText, int selectedCipherIndex, int key, int key2) {
+        return transform(inputText, selectedCipherIndex, key, key2, "");
+    }
+
+    /**
+     * 선택된 모드로 텍스트를 변환합니다. 문자열 키를 쓰는 모드(비즈네르, 사용자 정의 연쇄)를 위한 형태입니다.
+     * @param keyword 문자열 키 (비즈네르 키 또는 {@link CipherChain} 명세 문자열), 다른 모드는 무시합니다.
+     * @throws IllegalArgumentException 연쇄 명세가 잘못된 경우
+     * @see #transform(String, int, int, int)
+     */
+    public static String transform(String inputText, int selectedCipherIndex, int key, int key2, String keyword) {
+        String transformedText = "";
+        long start;
+        switch (selectedCipherIndex) {
+            case ATBASH: // 아트배쉬
+                transformedText = timed("atbash", 0, "", inputText, AtbashCipher::transform);
+                break;
+            case MORSE: // 모스 부호 (자동 감지)
+                start = PerfRecorder.start();
+                boolean isMorse = MorseCode.isMorseCode(inputText);
+                PerfRecorder.record("morse.detect", start, volume(inputText));
+                if (isMorse) {
+                    transformedText = timed("morse.decode", 0, "morse", inputText, MorseCode::fromMorse); // 모스 부호 -> 텍스트
+                } else {
+                    transformedText = timed("morse.encode", 0, "text", inputText, MorseCode::toMorse); // 텍스트 -> 모스 부호
+                }
+                break;
+            case BINARY: // 이진수 (자동 감지)
+            case OCTAL: // 8진수 (자동 감지)
+            case HEX: // 16진수 (자동 감지)
+            case BASE64: // Base64 (자동 감지)
+                BinaryFormat format = binaryFormat(selectedCipherIndex);
+                start = PerfRecorder.start();
+                // Each mode decodes anything valid in its own format, and nothing else.
+                boolean encoded = format.matches(inputText);
+                PerfRecorder.record("binary.detect", start, volume(inputText));
+                if (encoded) {
+                    transformedText = timed(format.cliName() + ".decode", 0, format.cliName(), inputText, text -> BinaryCipher.fromBinary(text, format));
+                } else {
+                    transformedText = timed(format.cliName() + ".encode", 0, "text", inputText, text -> BinaryCipher.toBinary(text, format));
+                }
+                break;
+            case PACKED: // 이진수 (구분 없음, 자동 감지)
+                start = PerfRecorder.start();
+                boolean isBinary = BinaryFormat.BINARY.matches(inputText);
+                PerfRecorder.record("binary.detect", start, volume(inputText));
+                if (isBinary) {
+                    transformedText = timed("packed.decode", 0, "packed", inputText, text -> BinaryCipher.fromBinary(text, BinaryFormat.BINARY));
+                } else {
+                    transformedText = timed("packed.encode", key, "text", inputText, text -> BinaryCipher.toPackedBinary(text, key)); // key is line width
+                }
+                break;
+            case BINARY_DECODE: // 이진수 (디코딩)
+            case OCTAL_DECODE: // 8진수 (디코딩)
+            case HEX_DECODE: // 16진수 (디코딩)
+            case BASE64_DECODE: // Base64 (디코딩)
+                BinaryFormat decodeFormat = binaryFormat(selectedCipherIndex);
+                transformedText = timed(decodeFormat.cliName() + ".decode", 0, "", inputText, text -> BinaryCipher.fromBinary(text, decodeFormat));
+                break;
+            case VIGENERE_ENCRYPT: // 비즈네르 (암호화)
+                transformedText = timed("vigenere.encrypt", keyword.length(), "", inputText, text -> VigenereCipher.encrypt(text, keyword));
+                break;
+            case VIGENERE_DECRYPT: // 비즈네르 (복호화)
+                transformedText = timed("vigenere.decrypt", keyword.length(), "", inputText, text -> VigenereCipher.decrypt(text, keyword));
+                break;
+            case CHAIN_ENCRYPT: // 사용자 정의 연쇄 (암호화)
+                CipherChain chain = CipherChain.parse(keyword);
+                transformedText = timed("chain.encrypt", chain.stages().size(), "", inputText, chain::transform);
+                break;
+            case CHAIN_DECRYPT: // 사용자 정의 연쇄 (복호화, 단계를 거꾸로 되돌림)
+                chain = CipherChain.parse(keyword).inverse();
+                transformedText = timed("chain.decrypt", chain.stages().size(), "", inputText, chain::transform);
+                break;
+            case CAESAR_ENCRYPT: // 카이사르 (암호화)
+                transformedText = timed("caesar.encrypt", key, "", inputText, text -> CaesarCipher.encrypt(text, key));
+                break;
+            case CAESAR_DECRYPT: // 카이사르 (복호화)
+                transformedText = timed("caesar.decrypt", key, "", inputText, text -> CaesarCipher.decrypt(text, key));
+                break;
+            case SCYTALE_ENCRYPT: // 스퀴탈레 (암호화)
+                transformedText = timed("scytale.encrypt", key, "", inputText, text -> ScytaleCipher.encrypt(text, key));
+                break;
+            case SCYTALE_DECRYPT: // 스퀴탈레 (복호화)
+                transformedText = timed("scytale.decrypt", key, "", inputText, text -> ScytaleCipher.decrypt(text, key));
+                break;
+            case CHAINED: // Chained
+                String atbashResult = timed("chained.atbash", 0, "", inputText, AtbashCipher::transform);
+                String scytaleResult = timed("chained.scytale", key, "", atbashResult, text -> ScytaleCipher.encrypt(text, key)); // key is diameter
+                String caesarResult = timed("chained.caesar", key2, "", scytaleResult, text -> CaesarCipher.encrypt(text, key2)); // key2 is shift
+                transformedText = timed("chained.morse", 0, "", caesarResult, MorseCode::toMorse);
+                break;
+            case CHAINED_DECRYPT: // Chained Decrypt
+                String morseResult = timed("chained-decrypt.morse", 0, "", inputText, MorseCode::fromMorse);
+                String caesarDecryptResult = timed("chained-decrypt.caesar", key2, "", morseResult, text -> CaesarCipher.decrypt(text, key2)); // key2 is shift
+                String scytaleDecryptResult = timed("chained-decrypt.scytale", key, "", caesarDecryptResult, text -> ScytaleCipher.decrypt(text, key)); // key is diameter
+                transformedText = timed("chained-decrypt.atbash", 0, "", scytaleDecryptResult, AtbashCipher::transform); // Atbash is its own inverse
+                break;
+            case CAESAR_CRACK: // 카이사르 (키 찾기)
+                transformedText = timed("caesar.crack", CaesarCracker.DEFAULT_TOP_K, "", inputText, CipherModes::crackCaesar);
+                break;
+            case SCYTALE_CRACK: // 스퀴탈레 (키 찾기)
+                transformedText = timed("scytale.crack", ScytaleCracker.DEFAULT_TOP_K, "", inputText, CipherModes::crackScytale);
+                break;
+            case CHAINED_CRACK: // Chained Decrypt (키 찾기)
+                transformedText = timed("chained-decrypt.crack", ScytaleCracker.DEFAULT_TOP_K, "", inputText, CipherModes::crackChained);
+                break;
+            case JAMO_ATBASH: // 아트배쉬 (자모 단위)
+                String composedText = timed("hangul.nfc", 0, "", inputText, HangulJamo::compose);
+                transformedText = timed("jamo-atbash", 0, "", composedText, HangulJamo::atbash);
+                break;
+            case JAMO_CAESAR_ENCRYPT: // 카이사르 (자모 단위, 암호화)
+                composedText = timed("hangul.nfc", 0, "", inputText, HangulJamo::compose);
+                transformedText = timed("jamo-caesar.encrypt", key, "", composedText, text -> HangulJamo.caesar(text, key));
+                break;
+            case JAMO_CAESAR_DECRYPT: // 카이사르 (자모 단위, 복호화)
+                composedText = timed("hangul.nfc", 0, "", inputText, HangulJamo::compose);
+                transformedText = timed("jamo-caesar.decrypt", key, "", composedText, text -> HangulJamo.caesar(text, -key));
+                break;
+        }
+        return transformedText;
+    }
+
+    /**
+     * 이진수 계열 모드(자동 감지, 디코딩)가 다루는 형식입니다.
+     * @return 형식, 이진수 계열 모드가 아니면 null
+     */
+    static BinaryFormat binaryFormat(int mode) {
+        switch (mode) {
+            case BINARY:
+            case BINARY_DECODE:
+                return BinaryFormat.BINARY;
+            case OCTAL:
+            case OCTAL_DECODE:
+                return BinaryFormat.OCTAL;
+            case HEX:
+            case HEX_DECODE:
+                return BinaryFormat.HEX;
+            case BASE64:
+            case BASE64_DECODE:
+                return BinaryFormat.BASE64;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 방향이 디코딩으로 정해진 모드인지 확인합니다. 자동 감지 모드와 달리 입력이 형식에 맞지 않으면 오류입니다.
+     */
+    static boolean isDecode(int mode) {
+        return mode == BINARY_DECODE || mode == OCTAL_DECODE || mode == HEX_DECODE || mode == BASE64_DECODE;
+    }
+
+    /**
+     * 이동 값 후보 순위표와, 가장 점수가 높은 키로 복호화한 전체 텍스트를 반환합니다.
+     */
+    private static String crackCaesar(String text) {
+        List<KeyCandidate> candidates = CaesarCracker.crack(text, CaesarCracker.DEFAULT_TOP_K);
+        if (candidates.isEmpty()) {
+            return text; // Nothing to shift.
+        }
+        return KeyCandidate.format(candidates, "shift") + "\n" + CaesarCipher.decrypt(text, candidates.get(0).key);
+    }
+
+    /**
+     * 지름 후보 순위표와, 가장 점수가 높은 지름으로 복호화한 전체 텍스트를 반환합니다.
+     */
+    private static String crackScytale(String text) {
+        List<KeyCandidate> candidates = ScytaleCracker.crack(text, ScytaleCracker.DEFAULT_TOP_K);
+        if (candidates.isEmpty()) {
+            return text;
+        }
+        return KeyCandidate.format(candidates, "diameter") + "\n" + ScytaleCipher.decrypt(text, candidates.get(0).key);
+    }
+
+    /**
+     * 지름 x 이동 값 후보 순위표와, 가장 점수가 높은 키로 연쇄 복호화한 전체 텍스트를 반환합니다.
+     */
+    private static String crackChained(String text) {
+        List<KeyCandidate> candidates = ScytaleCracker.crackChained(text, ScytaleCracker.DEFAULT_TOP_K);
+        if (candidates.isEmpty()) {
+            return text;
+        }
+        KeyCandidate best = candidates.get(0);
+        return KeyCandidate.format(candidates, "diameter", "shift") + "\n" + transform(text, CHAINED_DECRYPT, best.key, best.key2);
+    }
+
+    /**
+     * 암호 엔진 호출 하나를 실행하고, 소요 시간을 {@link PerfRecorder}에, 기록 중이면 JFR 이벤트로도 남깁니다.
+     * @param stage 단계 이름
+     * @param key 엔진에 전달한 키 (키가 없는 엔진은 0)
+     * @param detectedMode 자동 감지 결과 (고정 모드는 빈 문자열)
+     */
+    private static String timed(String stage, int key, String detectedMode, String input, UnaryOperator<String> engine) {
+        JfrEvents.CipherEvent event = new JfrEvents.CipherEvent();
+        event.begin();
+        long start = PerfRecorder.start();
+        String output = engine.apply(input);
+        PerfRecorder.record(stage, start, volume(input));
+        event.end();
+        if (event.shouldCommit()) {
+            event.engine = stage;
+            event.key = key;
+            event.inputLength = input == null ? 0 : input.length();
+            event.outputLength = output == null ? 0 : output.length();
+            event.detectedMode = detectedMode;
+            event.commit();
+        }
+        return output;
+    }
+
+    /** 처리량 계산에 쓰는 입력 크기입니다. (UTF-16 바이트 수) */
+    private static long volume(String text) {
+        return text == null ? 0 : 2L * text.length();
+    }
+}
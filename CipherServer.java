@@ -0,0 +1,331 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 암호 엔진을 로컬 HTTP로 제공하는 서버입니다. {@code CipherCLI --serve[=port]}로 실행하며 루프백 주소에만 바인딩합니다.
+ *
+ * <ul>
+ *   <li>POST /cipher/&lt;mode&gt;?key=..&amp;key2=..&amp;block=..: CLI와 같은 모드 이름과 매개변수로 요청 본문을 변환합니다.</li>
+ *   <li>POST /chain/encrypt?spec=.., POST /chain/decrypt?spec=..: {@link CipherChain} 명세로 연쇄 변환합니다.</li>
+ *   <li>GET /metrics: 요청과 변환 단계의 횟수, 지연 시간 백분위수, 처리량 (Prometheus 텍스트 형식)</li>
+ *   <li>GET /: 엔드포인트와 모드 목록</li>
+ * </ul>
+ *
+ * 변환은 CLI와 같은 경로({@link CipherCLI#transform})를 타므로, 스트리밍할 수 있는 모드는 요청 본문을 조각 단위로 읽으면서
+ * 응답을 청크 전송으로 바로 내보냅니다. 입력 전체가 필요한 모드(모스 부호, 스퀴탈레 전체 텍스트 방식 등)만 본문을 모두 읽으며,
+ * 그 크기는 시스템 속성 artbash.serveMaxBufferedBytes(기본 64MB)로 제한합니다. 연쇄에서 입력 전체가 필요한 단계도
+ * 같은 값(글자 수)까지만 모으며, 넘으면 413으로 응답합니다.
+ * 응답 헤더는 첫 출력이 나올 때 보내므로, 출력 전에 난 오류는 400 응답이 됩니다. 출력 도중에 난 오류는 마지막 청크 없이
+ * 연결을 끊어 클라이언트가 잘린 응답을 성공으로 받지 않게 합니다.
+ *
+ * 요청은 가상 스레드(JDK 21 이상) 또는 캐시 스레드 풀에서 하나씩 처리합니다.
+ */
+public final class CipherServer {
+
+    public static final int DEFAULT_PORT = 8765;
+    private static final String TEXT_TYPE = "text/plain; charset=utf-8";
+    private static final String BINARY_TYPE = "application/octet-stream";
+    /** 입력 전체가 필요한 모드가 메모리에 읽어 들일 수 있는 요청 본문 크기입니다. 넘으면 413으로 응답합니다. */
+    private static final long MAX_BUFFERED_BYTES = Long.getLong("artbash.serveMaxBufferedBytes", 64L << 20);
+
+    private CipherServer() {
+    }
+
+    /**
+     * 서버를 시작합니다. 서버의 디스패처 스레드는 데몬이 아니므로 {@link HttpServer#stop}을 부를 때까지 JVM이 살아 있습니다.
+     * @param port 포트, 0이면 빈 포트를 고릅니다.
+     */
+    public static HttpServer start(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/cipher/", exchange -> handle(exchange, CipherServer::transform));
+        server.createContext("/chain/", exchange -> handle(exchange, CipherServer::transform));
+        server.createContext("/metrics", exchange -> handle(exchange, CipherServer::metrics));
+        server.createContext("/", exchange -> handle(exchange, CipherServer::index));
+        server.setExecutor(newExecutor());
+        server.start();
+        return server;
+    }
+
+    /**
+     * 요청마다 가상 스레드를 하나씩 쓰는 실행기를 만듭니다. 가상 스레드가 없는 JDK(21 미만)에서는 캐시 스레드 풀을 씁니다.
+     * 컴파일 대상이 JDK 17이므로 리플렉션으로 찾습니다.
+     */
+    static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger count = new AtomicInteger();
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "cipher-http-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private interface Handler {
+        /**
+         * @return 지연 시간을 기록할 경로 이름
+         */
+        String handle(HttpExchange exchange, CountingInputStream body) throws IOException;
+    }
+
+    /** 요청 본문에서 읽은 바이트 수를 셉니다. 처리량 기록에 씁니다. */
+    private static final class CountingInputStream extends FilterInputStream {
+        long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+
+    /**
+     * 처음 쓸 때 200 응답 헤더(청크 전송)를 보내는 응답 본문입니다. 아무것도 쓰기 전이면 다른 상태 코드로 응답할 수 있습니다.
+     */
+    private static final class ResponseStream extends OutputStream {
+        private final HttpExchange exchange;
+        private OutputStream body;
+
+        ResponseStream(HttpExchange exchange) {
+            this.exchange = exchange;
+        }
+
+        boolean committed() {
+            return body != null;
+        }
+
+        private OutputStream body() throws IOException {
+            if (body == null) {
+                exchange.sendResponseHeaders(200, 0);
+                body = exchange.getResponseBody();
+            }
+            return body;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            body().write(b);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            if (length > 0) {
+                body().write(buffer, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            body().flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            body().close();
+        }
+    }
+
+    /**
+     * 응답을 보내지 못할 잘못된 요청입니다. 상태 코드와 메시지를 담습니다.
+     */
+    private static final class HttpError extends Exception {
+        final int status;
+
+        HttpError(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    private static void handle(HttpExchange exchange, Handler handler) throws IOException {
+        long start = PerfRecorder.start();
+        CountingInputStream body = new CountingInputStream(exchange.getRequestBody());
+        String route;
+        try {
+            route = handler.handle(exchange, body);
+        } catch (IOException | RuntimeException | Error e) {
+            // The client went away or the transform failed mid-stream. Closing the exchange would still send the
+            // final chunk, so the exception goes back to the server, which drops the connection instead.
+            PerfRecorder.record("http.error", start, body.count);
+            throw e instanceof IOException ? (IOException) e : new IOException(e);
+        }
+        PerfRecorder.record(route, start, body.count);
+        exchange.close();
+    }
+
+    private static String transform(HttpExchange exchange, CountingInputStream body) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String modeName = path.startsWith("/chain/") ? "chain-" + path.substring("/chain/".length()) : path.substring("/cipher/".length());
+        String route = "http." + path.substring(1).replace('/', '.');
+        ResponseStream out = new ResponseStream(exchange);
+        try {
+            int mode = CipherModes.indexOf(modeName);
+            if (mode < 0) {
+                throw new HttpError(404, "Unknown mode: " + modeName);
+            }
+            if (!exchange.getRequestMethod().equals("POST")) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                throw new HttpError(405, "Use POST with the text as the request body");
+            }
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            boolean usesKeyword = CipherCLI.usesKeyword(mode);
+            String keyword = query.getOrDefault(path.startsWith("/chain/") ? "spec" : "key", "");
+            int key = usesKeyword ? 0 : intParam(query, "key", CipherCLI.defaultKey(mode));
+            int key2 = intParam(query, "key2", CipherCLI.DEFAULT_SHIFT);
+            int blockRows = 0;
+            if (query.containsKey("block")) {
+                if (mode != CipherModes.SCYTALE_ENCRYPT && mode != CipherModes.SCYTALE_DECRYPT) {
+                    throw new HttpError(400, "block only applies to scytale-encrypt and scytale-decrypt");
+                }
+                blockRows = query.get("block").isEmpty() ? ScytaleCipher.defaultBlockRows(key) : intParam(query, "block", 0);
+            }
+            boolean binary = mode == CipherModes.PACKED || blockRows != 0;
+            exchange.getResponseHeaders().set("Content-Type", binary ? BINARY_TYPE : TEXT_TYPE);
+            try {
+                CipherCLI.transform(mode, key, key2, keyword, blockRows, MAX_BUFFERED_BYTES, body, out);
+            } catch (InputTooLargeException e) {
+                throw new HttpError(413, e.getMessage());
+            } catch (IllegalArgumentException e) {
+                throw new HttpError(400, e.getMessage());
+            } catch (RuntimeException | Error e) {
+                if (out.committed()) {
+                    throw e;
+                }
+                throw new HttpError(500, "Internal error: " + e);
+            }
+            out.close();
+        } catch (HttpError e) {
+            if (out.committed()) {
+                // The status line is gone; failing the exchange drops the connection before the final chunk.
+                throw new IOException(e.getMessage());
+            }
+            // Read the rest of the body (without keeping it) so the client gets the status instead of a reset upload.
+            body.transferTo(OutputStream.nullOutputStream());
+            sendText(exchange, e.status, e.getMessage() + "\n");
+            return "http.error";
+        }
+        return route;
+    }
+
+    private static String metrics(HttpExchange exchange, CountingInputStream body) throws IOException {
+        StringBuilder text = new StringBuilder();
+        text.append("# HELP artbash_stage_count_total Completed HTTP requests (kind=\"request\") and cipher stage runs (kind=\"stage\").\n");
+        text.append("# TYPE artbash_stage_count_total counter\n");
+        List<Object[]> rows = PerfRecorder.stageRows();
+        for (Object[] row : rows) {
+            text.append("artbash_stage_count_total{").append(labels(row[0])).append("} ").append(row[1]).append('\n');
+        }
+        text.append("# HELP artbash_stage_latency_seconds Latency percentiles per request route and cipher stage.\n");
+        text.append("# TYPE artbash_stage_latency_seconds summary\n");
+        for (Object[] row : rows) {
+            String stage = labels(row[0]);
+            text.append("artbash_stage_latency_seconds{").append(stage).append(",quantile=\"0.5\"} ").append(seconds(row[2])).append('\n');
+            text.append("artbash_stage_latency_seconds{").append(stage).append(",quantile=\"0.99\"} ").append(seconds(row[3])).append('\n');
+            text.append("artbash_stage_latency_seconds{").append(stage).append(",quantile=\"1\"} ").append(seconds(row[4])).append('\n');
+        }
+        text.append("# HELP artbash_stage_throughput_megabytes_per_second Input volume over busy time.\n");
+        text.append("# TYPE artbash_stage_throughput_megabytes_per_second gauge\n");
+        for (Object[] row : rows) {
+            text.append("artbash_stage_throughput_megabytes_per_second{").append(labels(row[0])).append("} ")
+                    .append(String.format(Locale.ROOT, "%.3f", (Double) row[5])).append('\n');
+        }
+        sendText(exchange, 200, text.toString());
+        return "http.metrics";
+    }
+
+    /**
+     * 지표 한 줄의 레이블입니다. 같은 표에 모인 요청 경로(http.*)와 변환 단계를 kind 레이블로 나눕니다.
+     */
+    private static String labels(Object stage) {
+        String kind = stage.toString().startsWith("http.") ? "request" : "stage";
+        return "kind=\"" + kind + "\",stage=\"" + stage + "\"";
+    }
+
+    private static String index(HttpExchange exchange, CountingInputStream body) throws IOException {
+        if (!exchange.getRequestURI().getPath().equals("/")) {
+            sendText(exchange, 404, "Not found\n");
+            return "http.error";
+        }
+        String text = "POST /cipher/<mode>?key=..&key2=..   modes: " + String.join(", ", CipherModes.cliNames()) + "\n"
+                + "POST /cipher/scytale-encrypt?key=5&block[=rows]\n"
+                + "POST /chain/encrypt?spec=..   POST /chain/decrypt?spec=..   stages: " + String.join(", ", CipherChain.engineNames()) + "\n"
+                + "GET /metrics\n";
+        sendText(exchange, 200, text);
+        return "http.index";
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", TEXT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static int intParam(Map<String, String> query, String name, int defaultValue) throws HttpError {
+        String value = query.get(name);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new HttpError(400, "Invalid " + name + ": " + value);
+        }
+    }
+
+    private static String seconds(Object nanos) {
+        return String.format(Locale.ROOT, "%.6f", ((Number) nanos).longValue() / 1e9);
+    }
+}
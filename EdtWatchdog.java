@@ -0,0 +1,198 @@
+import java.awt.EventQueue;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Swing 이벤트 디스패치 스레드(EDT)가 멈추는 구간을 찾아내는 감시기입니다.
+ * 백그라운드 스레드가 주기적으로 EDT에 심장 박동 작업을 올리고, 그 작업이 임계값 안에 실행되지 않으면
+ * 그 순간의 EDT 스택을 잡아 애플리케이션 쪽 호출 위치별로 횟수와 멈춘 시간을 모읍니다.
+ * 모달 대화상자는 이벤트 큐를 계속 처리하므로 파일 선택 창 등을 열어 둔 시간은 멈춤으로 세지 않습니다.
+ */
+public class EdtWatchdog {
+
+    /** 심장 박동을 확인하는 간격입니다. */
+    private static final long POLL_MILLIS = 50;
+    /** 보고서에 남기는 스택 프레임 수입니다. */
+    private static final int STACK_DEPTH = 30;
+
+    /** 호출 위치 하나의 누적 통계입니다. */
+    public static class SiteStats {
+        public final String site;
+        public int count;
+        public long totalMillis;
+        public long maxMillis;
+        /** 가장 길었던 멈춤의 EDT 스택입니다. */
+        public StackTraceElement[] sampleStack;
+
+        SiteStats(String site) {
+            this.site = site;
+        }
+    }
+
+    /** 기록된 멈춤 하나입니다. 심장 박동이 처리되면 길이가 확정됩니다. */
+    private static class Stall {
+        final String site;
+        final StackTraceElement[] stack;
+
+        Stall(String site, StackTraceElement[] stack) {
+            this.site = site;
+            this.stack = stack;
+        }
+    }
+
+    /** 처리되었음을 나타내는 표식입니다. 이 뒤에 잡은 스택은 이미 끝난 멈춤의 것이므로 버립니다. */
+    private static final Stall HANDLED = new Stall("", new StackTraceElement[0]);
+
+    /**
+     * EDT에 올린 심장 박동 작업 하나입니다. 멈춤은 이 작업에만 붙으므로, 감시 스레드가 늦게 잡은 스택이 다음 심장 박동에
+     * 붙지 않습니다. 감시 스레드와 EDT는 stall을 compareAndSet으로 한 번씩만 바꾸므로, 먼저 바꾼 쪽의 결과만 남습니다.
+     */
+    private static final class Beat implements Runnable {
+        final long since = System.nanoTime();
+        final AtomicReference<Stall> stall = new AtomicReference<>();
+
+        @Override
+        public void run() {
+            heartbeat(this);
+        }
+    }
+
+    private static final Map<String, SiteStats> SITES = new LinkedHashMap<>();
+    private static volatile Thread edt;
+    /** 아직 처리되지 않은 심장 박동입니다. 감시 스레드만 새로 만들고, EDT가 처리하면서 비웁니다. */
+    private static volatile Beat pending;
+    private static Thread watcher;
+    private static long thresholdNanos;
+
+    /**
+     * 감시를 시작합니다. 이미 시작되었으면 아무 일도 하지 않습니다.
+     * @param thresholdMillis 이 시간 이상 EDT가 응답하지 않으면 멈춤으로 기록합니다.
+     */
+    public static synchronized void start(long thresholdMillis) {
+        if (watcher != null) {
+            return;
+        }
+        thresholdNanos = Math.max(1, thresholdMillis) * 1_000_000L;
+        if (EventQueue.isDispatchThread()) {
+            edt = Thread.currentThread(); // Otherwise the first stall looks the thread up by name.
+        }
+        watcher = new Thread(EdtWatchdog::watch, "EDT-Watchdog");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private static void watch() {
+        while (true) {
+            try {
+                Thread.sleep(POLL_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            Beat beat = pending;
+            if (beat == null) {
+                beat = new Beat();
+                pending = beat;
+                EventQueue.invokeLater(beat);
+            } else if (beat.stall.get() == null && System.nanoTime() - beat.since >= thresholdNanos) {
+                Thread thread = edt != null ? edt : findEventDispatchThread();
+                if (thread != null) {
+                    StackTraceElement[] stack = thread.getStackTrace();
+                    // Fails when the heartbeat ran while the stack was being taken; that stack shows an idle EDT.
+                    beat.stall.compareAndSet(null, new Stall(callSite(stack), stack));
+                }
+            }
+        }
+    }
+
+    /**
+     * 심장 박동을 아직 한 번도 처리하지 못해 EDT를 모를 때 이름으로 찾습니다.
+     */
+    private static Thread findEventDispatchThread() {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("AWT-EventQueue-")) {
+                return thread;
+            }
+        }
+        return null;
+    }
+
+    /** EDT에서 실행됩니다. */
+    private static void heartbeat(Beat beat) {
+        edt = Thread.currentThread();
+        Stall stall = beat.stall.getAndSet(HANDLED);
+        pending = null;
+        if (stall != null) {
+            PerfRecorder.record("edt.stall", beat.since, 0);
+            long millis = (System.nanoTime() - beat.since) / 1_000_000L;
+            synchronized (SITES) {
+                SiteStats stats = SITES.get(stall.site);
+                if (stats == null) {
+                    stats = new SiteStats(stall.site);
+                    SITES.put(stall.site, stats);
+                }
+                stats.count++;
+                stats.totalMillis += millis;
+                if (millis >= stats.maxMillis) {
+                    stats.maxMillis = millis;
+                    stats.sampleStack = stall.stack;
+                }
+            }
+        }
+    }
+
+    /**
+     * 스택에서 JDK 바깥의 첫 프레임을 호출 위치로 삼습니다. 그런 프레임이 없으면 맨 위 프레임을 씁니다.
+     */
+    static String callSite(StackTraceElement[] stack) {
+        if (stack.length == 0) {
+            return "(unknown)";
+        }
+        for (StackTraceElement frame : stack) {
+            String cls = frame.getClassName();
+            if (!cls.startsWith("java.") && !cls.startsWith("javax.") && !cls.startsWith("sun.")
+                    && !cls.startsWith("jdk.") && !cls.startsWith("com.sun.")) {
+                return frame.toString();
+            }
+        }
+        return stack[0].toString();
+    }
+
+    /** 누적 멈춤 시간이 긴 순서로 호출 위치별 통계를 반환합니다. */
+    public static List<SiteStats> sites() {
+        List<SiteStats> sites;
+        synchronized (SITES) {
+            sites = new ArrayList<>(SITES.values());
+        }
+        sites.sort((a, b) -> Long.compare(b.totalMillis, a.totalMillis));
+        return sites;
+    }
+
+    public static void reset() {
+        synchronized (SITES) {
+            SITES.clear();
+        }
+    }
+
+    /**
+     * 사람이 읽을 수 있는 보고서를 만듭니다. 기록된 멈춤이 없으면 빈 문자열을 반환합니다.
+     */
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        for (SiteStats stats : sites()) {
+            sb.append(String.format("%s%n  stalls: %d, total: %d ms, max: %d ms%n",
+                    stats.site, stats.count, stats.totalMillis, stats.maxMillis));
+            StackTraceElement[] stack = stats.sampleStack;
+            for (int i = 0; i < Math.min(stack.length, STACK_DEPTH); i++) {
+                sb.append("    at ").append(stack[i]).append(System.lineSeparator());
+            }
+            if (stack.length > STACK_DEPTH) {
+                sb.append("    ... ").append(stack.length - STACK_DEPTH).append(" more").append(System.lineSeparator());
+            }
+            sb.append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,348 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
+
+/**
+ * 문자, 바이그램, 한글 자모의 출현 횟수를 모으는 빈도 분석기입니다.
+ * 모든 횟수는 기본형 배열(문자는 UTF-16 코드 단위마다 long 하나, 바이그램은 기본형 해시 표)에 저장하므로
+ * 문자를 박싱하지 않습니다. 텍스트 조각마다 따로 센 결과를 {@link #merge(FrequencyCounts)}로 합칠 수 있어
+ * 큰 텍스트와 파일을 병렬로 분석할 수 있습니다.
+ *
+ * 바이그램은 공백이 아닌 두 문자가 이어진 쌍만 셉니다. 한글 음절은 초성/중성/종성으로 나누어 자모 빈도에도 더하고,
+ * 이미 분해된 자모(U+1100 영역)는 그대로 자모 빈도에 더합니다.
+ */
+public class FrequencyCounts {
+
+    public static final int INITIAL_COUNT = 19;
+    public static final int MEDIAL_COUNT = 21;
+    public static final int FINAL_COUNT = 28; // index 0 = no final consonant
+    /** 병렬로 셀 때 한 조각의 글자 수입니다. */
+    static final int CHUNK_SIZE = 1 << 20;
+    /** 이어지는 글자가 없음을 나타내는 이전 글자 값입니다. */
+    public static final int NO_CHAR = -1;
+
+    private final long[] chars = new long[Character.MAX_VALUE + 1];
+    private final long[] initials = new long[INITIAL_COUNT];
+    private final long[] medials = new long[MEDIAL_COUNT];
+    private final long[] finals = new long[FINAL_COUNT];
+    private final PairCounter bigrams = new PairCounter();
+    private long total;
+
+    /**
+     * 텍스트 일부를 셉니다.
+     * @param text 텍스트
+     * @param start 시작 위치 (포함)
+     * @param end 끝 위치 (제외)
+     * @param previous start 바로 앞 글자, 없으면 {@link #NO_CHAR}. 조각 경계를 넘는 바이그램을 세는 데 씁니다.
+     */
+    public void add(CharSequence text, int start, int end, int previous) {
+        int prev = previous;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            count(c, prev);
+            prev = c;
+        }
+    }
+
+    /** 배열 일부를 셉니다. 의미는 {@link #add(CharSequence, int, int, int)}와 같습니다. */
+    public void add(char[] text, int start, int end, int previous) {
+        int prev = previous;
+        for (int i = start; i < end; i++) {
+            char c = text[i];
+            count(c, prev);
+            prev = c;
+        }
+    }
+
+    private void count(char c, int prev) {
+        chars[c]++;
+        total++;
+        if (prev >= 0 && !Character.isWhitespace(c) && !Character.isWhitespace((char) prev)) {
+            bigrams.add((prev << 16) | c, 1);
+        }
+        if (c >= '가' && c <= '힣') {
+            int index = c - '가';
+            initials[index / (MEDIAL_COUNT * FINAL_COUNT)]++;
+            medials[(index / FINAL_COUNT) % MEDIAL_COUNT]++;
+            finals[index % FINAL_COUNT]++;
+        } else if (c >= 'ᄀ' && c < 'ᄀ' + INITIAL_COUNT) {
+            initials[c - 'ᄀ']++;
+        } else if (c >= 'ᅡ' && c < 'ᅡ' + MEDIAL_COUNT) {
+            medials[c - 'ᅡ']++;
+        } else if (c >= 'ᆨ' && c < 'ᆨ' + FINAL_COUNT - 1) {
+            finals[c - 'ᆧ']++;
+        }
+    }
+
+    /**
+     * 바이그램 (a, b)의 횟수를 조정합니다. 문서에 글자가 삽입될 때의 증분 갱신에 씁니다:
+     * 삽입 위치 양옆의 쌍은 끊어지고(-1), 삽입된 마지막 글자와 뒤 글자의 쌍이 새로 생깁니다(+1).
+     * @param a 앞 글자, 없으면 {@link #NO_CHAR}
+     * @param b 뒷 글자, 없으면 {@link #NO_CHAR}
+     */
+    public void adjustBigram(int a, int b, long delta) {
+        if (a >= 0 && b >= 0 && !Character.isWhitespace((char) a) && !Character.isWhitespace((char) b)) {
+            bigrams.add((a << 16) | b, delta);
+        }
+    }
+
+    /**
+     * 다른 조각의 횟수를 더합니다.
+     * @return 이 객체
+     */
+    public FrequencyCounts merge(FrequencyCounts other) {
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] += other.chars[i];
+        }
+        for (int i = 0; i < INITIAL_COUNT; i++) {
+            initials[i] += other.initials[i];
+        }
+        for (int i = 0; i < MEDIAL_COUNT; i++) {
+            medials[i] += other.medials[i];
+        }
+        for (int i = 0; i < FINAL_COUNT; i++) {
+            finals[i] += other.finals[i];
+        }
+        other.bigrams.forEach(bigrams::add);
+        total += other.total;
+        return this;
+    }
+
+    /**
+     * 텍스트 전체를 셉니다. 큰 텍스트는 {@link #CHUNK_SIZE} 조각으로 나누어 병렬로 센 뒤 합칩니다.
+     */
+    public static FrequencyCounts count(CharSequence text) {
+        int length = text.length();
+        if (length <= CHUNK_SIZE) {
+            FrequencyCounts counts = new FrequencyCounts();
+            counts.add(text, 0, length, NO_CHAR);
+            return counts;
+        }
+        List<CompletableFuture<FrequencyCounts>> parts = new ArrayList<>();
+        for (int start = 0; start < length; start += CHUNK_SIZE) {
+            int from = start;
+            int to = Math.min(length, start + CHUNK_SIZE);
+            parts.add(CompletableFuture.supplyAsync(() -> {
+                FrequencyCounts counts = new FrequencyCounts();
+                counts.add(text, from, to, from > 0 ? text.charAt(from - 1) : NO_CHAR);
+                return counts;
+            }));
+        }
+        FrequencyCounts result = parts.get(0).join();
+        for (int i = 1; i < parts.size(); i++) {
+            result.merge(parts.get(i).join());
+        }
+        return result;
+    }
+
+    /**
+     * UTF-8 파일을 스트리밍으로 셉니다. 파일을 조각 단위로 읽어 병렬로 세며, 동시에 처리 중인 조각 수를
+     * 사용 가능한 프로세서 수로 제한하므로 파일 크기와 관계없이 메모리 사용량이 일정합니다.
+     * @param file 분석할 파일
+     * @param progress 지금까지 읽은 글자 수를 받을 콜백
+     * @param cancelled 취소 여부를 확인할 콜백
+     * @return 횟수, 취소되면 null
+     */
+    public static FrequencyCounts countFile(Path file, LongConsumer progress, BooleanSupplier cancelled) throws IOException {
+        int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+        List<CompletableFuture<FrequencyCounts>> inFlight = new ArrayList<>();
+        FrequencyCounts result = new FrequencyCounts();
+        long read = 0;
+        int previous = NO_CHAR;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            while (true) {
+                if (cancelled.getAsBoolean()) {
+                    return null;
+                }
+                char[] chunk = new char[CHUNK_SIZE];
+                int length = 0;
+                int n;
+                while (length < chunk.length && (n = reader.read(chunk, length, chunk.length - length)) > 0) {
+                    length += n;
+                }
+                if (length == 0) {
+                    break;
+                }
+                int chunkLength = length;
+                int chunkPrevious = previous;
+                previous = chunk[length - 1];
+                inFlight.add(CompletableFuture.supplyAsync(() -> {
+                    FrequencyCounts counts = new FrequencyCounts();
+                    counts.add(chunk, 0, chunkLength, chunkPrevious);
+                    return counts;
+                }));
+                if (inFlight.size() >= parallelism) {
+                    result.merge(inFlight.remove(0).join());
+                }
+                read += length;
+                progress.accept(read);
+            }
+        }
+        for (CompletableFuture<FrequencyCounts> part : inFlight) {
+            result.merge(part.join());
+        }
+        return result;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    public long charCount(char c) {
+        return chars[c];
+    }
+
+    public long[] initials() {
+        return initials.clone();
+    }
+
+    public long[] medials() {
+        return medials.clone();
+    }
+
+    public long[] finals() {
+        return finals.clone();
+    }
+
+    /**
+     * 가장 많이 나온 글자를 반환합니다.
+     * @param limit 최대 개수
+     * @param includeWhitespace 공백 문자를 포함할지 여부
+     * @return {글자, 횟수} 쌍의 목록, 횟수 내림차순
+     */
+    public List<long[]> topChars(int limit, boolean includeWhitespace) {
+        TopCounts top = new TopCounts(limit);
+        for (int c = 0; c < chars.length; c++) {
+            if (chars[c] > 0 && (includeWhitespace || !Character.isWhitespace((char) c))) {
+                top.offer(c, chars[c]);
+            }
+        }
+        return top.toList();
+    }
+
+    /**
+     * 가장 많이 나온 바이그램을 반환합니다.
+     * @return {앞 글자 << 16 | 뒷 글자, 횟수} 쌍의 목록, 횟수 내림차순
+     */
+    public List<long[]> topBigrams(int limit) {
+        TopCounts top = new TopCounts(limit);
+        bigrams.forEach((key, count) -> {
+            if (count > 0) {
+                top.offer(key, count);
+            }
+        });
+        return top.toList();
+    }
+
+    /**
+     * 횟수가 큰 항목 k개를 유지하는 정렬 배열입니다.
+     */
+    private static class TopCounts {
+        private final int[] keys;
+        private final long[] counts;
+        private int size;
+
+        TopCounts(int capacity) {
+            keys = new int[Math.max(1, capacity)];
+            counts = new long[keys.length];
+        }
+
+        void offer(int key, long count) {
+            if (size == keys.length && count <= counts[size - 1]) {
+                return;
+            }
+            int i = size < keys.length ? size++ : size - 1;
+            while (i > 0 && count > counts[i - 1]) {
+                keys[i] = keys[i - 1];
+                counts[i] = counts[i - 1];
+                i--;
+            }
+            keys[i] = key;
+            counts[i] = count;
+        }
+
+        List<long[]> toList() {
+            List<long[]> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(new long[]{keys[i], counts[i]});
+            }
+            return list;
+        }
+    }
+
+    /**
+     * int 키와 long 값을 저장하는 개방 주소법 해시 표입니다. 바이그램 키는 두 UTF-16 코드 단위를 붙인 값입니다.
+     */
+    static class PairCounter {
+        // The key of the pair (U+FFFF, U+FFFF); both are noncharacters, so that pair is simply not counted.
+        private static final int EMPTY = -1;
+
+        interface Visitor {
+            void visit(int key, long count);
+        }
+
+        private int[] keys = newKeys(1024);
+        private long[] values = new long[1024];
+        private int size;
+
+        private static int[] newKeys(int capacity) {
+            int[] keys = new int[capacity];
+            java.util.Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+
+        void add(int key, long delta) {
+            if (key == EMPTY) {
+                return;
+            }
+            int mask = keys.length - 1;
+            int slot = mix(key) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                size++;
+                values[slot] = delta;
+                if (size * 2 > keys.length) {
+                    resize();
+                }
+            } else {
+                values[slot] += delta;
+            }
+        }
+
+        void forEach(Visitor visitor) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) {
+                    visitor.visit(keys[i], values[i]);
+                }
+            }
+        }
+
+        private void resize() {
+            int[] oldKeys = keys;
+            long[] oldValues = values;
+            keys = newKeys(oldKeys.length * 2);
+            values = new long[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    add(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int mix(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
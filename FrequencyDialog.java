@@ -0,0 +1,392 @@
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GridLayout;
+import java.awt.RenderingHints;
+import java.awt.Window;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JComboBox;
+import javax.swing.JComponent;
+import javax.swing.JDialog;
+import javax.swing.JFileChooser;
+import javax.swing.JLabel;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTabbedPane;
+import javax.swing.JTextArea;
+import javax.swing.ProgressMonitor;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+
+/**
+ * 입력 또는 출력 텍스트의 글자, 바이그램, 한글 자모 빈도를 막대그래프로 보여주는 창입니다.
+ * 문서에 글자가 조금씩 삽입되면 그 부분만 세어 더하고, 삭제나 큰 삽입이 있으면 백그라운드에서 다시 셉니다.
+ * 파일은 {@link FrequencyCounts#countFile}로 스트리밍 분석하므로 텍스트 영역에 올릴 수 없는 크기도 다룰 수 있습니다.
+ */
+public class FrequencyDialog extends JDialog {
+
+    private static final int TOP_ENTRIES = 60;
+    /** 이보다 긴 삽입은 EDT에서 세지 않고 백그라운드에서 다시 셉니다. */
+    private static final int INCREMENTAL_LIMIT = 4096;
+    private static final String[] INITIAL_NAMES = {
+        "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] MEDIAL_NAMES = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅘ", "ㅙ", "ㅚ", "ㅛ", "ㅜ", "ㅝ", "ㅞ", "ㅟ", "ㅠ", "ㅡ", "ㅢ", "ㅣ"
+    };
+    private static final String[] FINAL_NAMES = {
+        "-", "ㄱ", "ㄲ", "ㄳ", "ㄴ", "ㄵ", "ㄶ", "ㄷ", "ㄹ", "ㄺ", "ㄻ", "ㄼ", "ㄽ", "ㄾ",
+        "ㄿ", "ㅀ", "ㅁ", "ㅂ", "ㅄ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private final LanguageManager languageManager;
+    private final JTextArea[] sources;
+    private final JComboBox<String> sourceSelector = new JComboBox<>();
+    private final JLabel totalLabel = new JLabel();
+    private final HistogramPanel charPanel = new HistogramPanel();
+    private final HistogramPanel bigramPanel = new HistogramPanel();
+    private final HistogramPanel initialPanel = new HistogramPanel();
+    private final HistogramPanel medialPanel = new HistogramPanel();
+    private final HistogramPanel finalPanel = new HistogramPanel();
+
+    private final DocumentListener documentListener = new DocumentListener() {
+        @Override
+        public void insertUpdate(DocumentEvent e) {
+            documentInserted(e);
+        }
+
+        @Override
+        public void removeUpdate(DocumentEvent e) {
+            requestRecount();
+        }
+
+        @Override
+        public void changedUpdate(DocumentEvent e) {
+            // Attribute changes do not affect the counts.
+        }
+    };
+
+    // All of the following state is only touched on the EDT.
+    private Document trackedDocument;
+    private FrequencyCounts counts;
+    private boolean updatingSelector;
+    private boolean recountRunning;
+    private boolean recountNeeded;
+    private final Timer recountTimer;
+    private final Timer refreshTimer;
+
+    /**
+     * @param input 입력 텍스트 영역
+     * @param output 출력 텍스트 영역
+     */
+    public FrequencyDialog(Window owner, LanguageManager languageManager, JTextArea input, JTextArea output) {
+        super(owner, languageManager.get("FREQ_TITLE"), ModalityType.MODELESS);
+        this.languageManager = languageManager;
+        this.sources = new JTextArea[]{input, output};
+
+        sourceSelector.addItem(languageManager.get("FREQ_SOURCE_INPUT"));
+        sourceSelector.addItem(languageManager.get("FREQ_SOURCE_OUTPUT"));
+        sourceSelector.addActionListener(e -> {
+            if (!updatingSelector) {
+                trackSelectedSource();
+            }
+        });
+        JButton fileButton = new JButton(languageManager.get("FREQ_ANALYZE_FILE"));
+        fileButton.addActionListener(e -> analyzeFile());
+        JPanel top = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        top.add(sourceSelector);
+        top.add(fileButton);
+        top.add(totalLabel);
+
+        JPanel jamoPanel = new JPanel(new GridLayout(1, 3, 10, 0));
+        jamoPanel.add(initialPanel);
+        jamoPanel.add(medialPanel);
+        jamoPanel.add(finalPanel);
+        JTabbedPane tabs = new JTabbedPane();
+        tabs.addTab(languageManager.get("FREQ_TAB_CHARS"), new JScrollPane(charPanel));
+        tabs.addTab(languageManager.get("FREQ_TAB_BIGRAMS"), new JScrollPane(bigramPanel));
+        tabs.addTab(languageManager.get("FREQ_TAB_JAMO"), new JScrollPane(jamoPanel));
+
+        JPanel content = new JPanel(new BorderLayout(0, 10));
+        content.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        content.add(top, BorderLayout.NORTH);
+        content.add(tabs, BorderLayout.CENTER);
+        setContentPane(content);
+        setPreferredSize(new Dimension(640, 560));
+        pack();
+        setLocationRelativeTo(owner);
+
+        recountTimer = new Timer(200, e -> startRecount());
+        recountTimer.setRepeats(false);
+        refreshTimer = new Timer(250, e -> refresh());
+        refreshTimer.setRepeats(false);
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosed(java.awt.event.WindowEvent e) {
+                detach();
+                recountTimer.stop();
+                refreshTimer.stop();
+            }
+        });
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        trackSelectedSource();
+    }
+
+    private void trackSelectedSource() {
+        detach();
+        int index = sourceSelector.getSelectedIndex();
+        if (index < 0 || index >= sources.length) {
+            return; // A file result is shown; it does not follow any document.
+        }
+        // Going back to a live source drops the file entry.
+        updatingSelector = true;
+        while (sourceSelector.getItemCount() > sources.length) {
+            sourceSelector.removeItemAt(sources.length);
+        }
+        updatingSelector = false;
+        trackedDocument = sources[index].getDocument();
+        trackedDocument.addDocumentListener(documentListener);
+        counts = null;
+        requestRecount();
+    }
+
+    private void detach() {
+        if (trackedDocument != null) {
+            trackedDocument.removeDocumentListener(documentListener);
+            trackedDocument = null;
+        }
+    }
+
+    private void documentInserted(DocumentEvent e) {
+        int length = e.getLength();
+        if (counts == null || recountRunning || recountNeeded || length > INCREMENTAL_LIMIT) {
+            requestRecount();
+            return;
+        }
+        Document document = e.getDocument();
+        int offset = e.getOffset();
+        try {
+            String inserted = document.getText(offset, length);
+            int before = offset > 0 ? document.getText(offset - 1, 1).charAt(0) : FrequencyCounts.NO_CHAR;
+            int afterOffset = offset + length;
+            int after = afterOffset < document.getLength() ? document.getText(afterOffset, 1).charAt(0) : FrequencyCounts.NO_CHAR;
+            counts.adjustBigram(before, after, -1);
+            counts.add(inserted, 0, length, before);
+            counts.adjustBigram(inserted.charAt(length - 1), after, 1);
+        } catch (BadLocationException ex) {
+            requestRecount();
+            return;
+        }
+        if (!refreshTimer.isRunning()) {
+            refreshTimer.start();
+        }
+    }
+
+    private void requestRecount() {
+        recountNeeded = true;
+        if (!recountRunning && !recountTimer.isRunning()) {
+            recountTimer.start();
+        }
+    }
+
+    private void startRecount() {
+        if (trackedDocument == null || recountRunning) {
+            return;
+        }
+        recountNeeded = false;
+        recountRunning = true;
+        String text;
+        try {
+            text = trackedDocument.getText(0, trackedDocument.getLength());
+        } catch (BadLocationException e) {
+            text = "";
+        }
+        final String snapshot = text;
+        new SwingWorker<FrequencyCounts, Void>() {
+            @Override
+            protected FrequencyCounts doInBackground() {
+                long start = PerfRecorder.start();
+                FrequencyCounts result = FrequencyCounts.count(snapshot);
+                PerfRecorder.record("frequency.count", start, 2L * snapshot.length());
+                return result;
+            }
+
+            @Override
+            protected void done() {
+                recountRunning = false;
+                if (trackedDocument == null) {
+                    return; // Closed, or a file result is shown now.
+                }
+                try {
+                    counts = get();
+                } catch (Exception e) {
+                    counts = null;
+                }
+                refresh();
+                if (recountNeeded) {
+                    recountTimer.start(); // The document changed while counting.
+                }
+            }
+        }.execute();
+    }
+
+    private void analyzeFile() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle(languageManager.get("FREQ_ANALYZE_FILE"));
+        if (fileChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File file = fileChooser.getSelectedFile();
+        long size = Math.max(1, file.length());
+        ProgressMonitor monitor = new ProgressMonitor(this, languageManager.get("FREQ_ANALYZE_FILE"), file.getName(), 0, 100);
+        monitor.setMillisToDecideToPopup(200);
+        SwingWorker<FrequencyCounts, Void> worker = new SwingWorker<>() {
+            @Override
+            protected FrequencyCounts doInBackground() throws Exception {
+                // Characters read versus bytes on disk is only an estimate for non-ASCII text.
+                return FrequencyCounts.countFile(file.toPath(),
+                        read -> setProgress((int) Math.min(99, read * 100 / size)), monitor::isCanceled);
+            }
+
+            @Override
+            protected void done() {
+                monitor.close();
+                FrequencyCounts result;
+                try {
+                    result = get();
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    JOptionPane.showMessageDialog(FrequencyDialog.this,
+                            languageManager.get("LOAD_ERROR_MESSAGE") + cause.getMessage(),
+                            languageManager.get("LOAD_ERROR_TITLE"),
+                            JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                if (result == null) {
+                    return; // Cancelled
+                }
+                detach();
+                updatingSelector = true;
+                while (sourceSelector.getItemCount() > sources.length) {
+                    sourceSelector.removeItemAt(sources.length);
+                }
+                sourceSelector.addItem(file.getName());
+                sourceSelector.setSelectedIndex(sources.length);
+                updatingSelector = false;
+                counts = result;
+                refresh();
+            }
+        };
+        worker.addPropertyChangeListener(evt -> {
+            if ("progress".equals(evt.getPropertyName())) {
+                monitor.setProgress((Integer) evt.getNewValue());
+            }
+        });
+        worker.execute();
+    }
+
+    private void refresh() {
+        FrequencyCounts current = counts;
+        if (current == null) {
+            return;
+        }
+        totalLabel.setText(languageManager.get("FREQ_TOTAL") + current.total());
+
+        List<String> labels = new ArrayList<>();
+        List<long[]> top = current.topChars(TOP_ENTRIES, false);
+        long[] values = new long[top.size()];
+        for (int i = 0; i < top.size(); i++) {
+            labels.add(String.valueOf((char) top.get(i)[0]));
+            values[i] = top.get(i)[1];
+        }
+        charPanel.setData(labels, values, current.total());
+
+        labels = new ArrayList<>();
+        top = current.topBigrams(TOP_ENTRIES);
+        values = new long[top.size()];
+        long bigramTotal = 0;
+        for (int i = 0; i < top.size(); i++) {
+            int key = (int) top.get(i)[0];
+            labels.add(new String(new char[]{(char) (key >>> 16), (char) key}));
+            values[i] = top.get(i)[1];
+            bigramTotal += values[i];
+        }
+        bigramPanel.setData(labels, values, bigramTotal);
+
+        setJamo(initialPanel, INITIAL_NAMES, current.initials());
+        setJamo(medialPanel, MEDIAL_NAMES, current.medials());
+        setJamo(finalPanel, FINAL_NAMES, current.finals());
+    }
+
+    private static void setJamo(HistogramPanel panel, String[] names, long[] values) {
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        panel.setData(List.of(names), values, total);
+    }
+
+    /**
+     * 가로 막대그래프입니다. 항목마다 이름, 막대, 횟수와 비율을 한 줄에 그립니다.
+     */
+    private static class HistogramPanel extends JComponent {
+        private static final int ROW_HEIGHT = 18;
+        private static final int LABEL_WIDTH = 40;
+        private static final int VALUE_WIDTH = 110;
+
+        private List<String> labels = List.of();
+        private long[] values = new long[0];
+        private long total;
+
+        void setData(List<String> labels, long[] values, long total) {
+            this.labels = labels;
+            this.values = values;
+            this.total = total;
+            revalidate();
+            repaint();
+        }
+
+        @Override
+        public Dimension getPreferredSize() {
+            return new Dimension(LABEL_WIDTH + VALUE_WIDTH + 100, Math.max(1, values.length) * ROW_HEIGHT + 4);
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            Graphics2D g2d = (Graphics2D) g.create();
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            long max = 1;
+            for (long value : values) {
+                max = Math.max(max, value);
+            }
+            FontMetrics metrics = g2d.getFontMetrics();
+            int barSpace = Math.max(10, getWidth() - LABEL_WIDTH - VALUE_WIDTH);
+            for (int i = 0; i < values.length; i++) {
+                int y = i * ROW_HEIGHT + 2;
+                int baseline = y + (ROW_HEIGHT + metrics.getAscent() - metrics.getDescent()) / 2;
+                g2d.setColor(getForeground());
+                g2d.drawString(labels.get(i), 4, baseline);
+                int width = (int) (values[i] * barSpace / max);
+                g2d.setColor(new Color(0, 123, 255));
+                g2d.fillRect(LABEL_WIDTH, y + 3, width, ROW_HEIGHT - 6);
+                g2d.setColor(getForeground());
+                double percent = total > 0 ? values[i] * 100.0 / total : 0;
+                g2d.drawString(String.format("%d (%.2f%%)", values[i], percent), LABEL_WIDTH + width + 6, baseline);
+            }
+            g2d.dispose();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * 한글을 자모 단위로 다루는 카이사르/아트배쉬 변환과, 분해된 한글을 음절로 합치는 NFC 전처리를 제공합니다.
+ *
+ * 음절(U+AC00~U+D7A3)은 (초성 * 21 + 중성) * 28 + 종성 공식으로 산술 분해하여, 초성은 19자, 중성은 21자,
+ * 받침은 27자(받침 없음은 그대로) 안에서 각각 변환한 뒤 다시 합칩니다. 첫가끝 자모(U+1100 영역)는 같은 종류 안에서,
+ * 호환 자모(U+3131~U+3163)는 자음 30자와 모음 21자 안에서 변환합니다. 한글이 아닌 문자는 기존 음절 단위 모드와 같이
+ * {@link CaesarCipher}, {@link AtbashCipher}의 규칙을 따릅니다. 변환은 char 배열 안에서 제자리로 이루어지며
+ * 문자마다 객체를 만들지 않습니다.
+ */
+public class HangulJamo {
+
+    static final int SYLLABLE_BASE = 0xAC00;
+    static final int SYLLABLE_COUNT = 11172;
+    static final int INITIAL_BASE = 0x1100;
+    static final int MEDIAL_BASE = 0x1161;
+    /** 받침 인덱스 t의 첫가끝 자모는 FINAL_BASE + t 입니다. (t = 1..27) */
+    static final int FINAL_BASE = 0x11A7;
+    static final int INITIAL_COUNT = 19;
+    static final int MEDIAL_COUNT = 21;
+    static final int FINAL_COUNT = 28;
+    private static final int MEDIAL_FINAL_COUNT = MEDIAL_COUNT * FINAL_COUNT;
+    private static final int COMPAT_CONSONANT_BASE = 0x3131;
+    private static final int COMPAT_CONSONANT_COUNT = 30;
+    private static final int COMPAT_VOWEL_BASE = 0x314F;
+
+    /**
+     * 자모 단위 카이사르 변환을 적용합니다.
+     * @param text 변환할 텍스트
+     * @param shift 이동 값 (복호화는 음수)
+     */
+    public static String caesar(String text, int shift) {
+        if (text == null) {
+            return null;
+        }
+        char[] chars = text.toCharArray();
+        transform(chars, 0, chars.length, shift, false);
+        return new String(chars);
+    }
+
+    /**
+     * 자모 단위 아트배쉬 변환을 적용합니다. 암호화와 복호화에 동일하게 사용됩니다.
+     */
+    public static String atbash(String text) {
+        if (text == null) {
+            return null;
+        }
+        char[] chars = text.toCharArray();
+        transform(chars, 0, chars.length, 0, true);
+        return new String(chars);
+    }
+
+    /**
+     * 배열 일부를 제자리에서 변환합니다. 글자 수는 바뀌지 않으므로 임의의 위치에서 잘라 조각 단위로 처리해도 결과가 같습니다.
+     * @param atbash true면 아트배쉬, false면 shift만큼 카이사르 이동
+     */
+    public static void transform(char[] chars, int offset, int length, int shift, boolean atbash) {
+        // Per-class substitution tables, built once per call.
+        int[] initialMap = new int[INITIAL_COUNT];
+        int[] medialMap = new int[MEDIAL_COUNT];
+        int[] finalMap = new int[FINAL_COUNT];
+        int[] compatMap = new int[COMPAT_CONSONANT_COUNT];
+        fillMap(initialMap, 0, shift, atbash);
+        fillMap(medialMap, 0, shift, atbash);
+        fillMap(finalMap, 1, shift, atbash); // index 0 (no final consonant) stays as is
+        fillMap(compatMap, 0, shift, atbash);
+
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            char c = chars[i];
+            if (c >= SYLLABLE_BASE && c < SYLLABLE_BASE + SYLLABLE_COUNT) {
+                int s = c - SYLLABLE_BASE;
+                int initial = s / MEDIAL_FINAL_COUNT;
+                int medial = (s % MEDIAL_FINAL_COUNT) / FINAL_COUNT;
+                int fin = s % FINAL_COUNT;
+                chars[i] = (char) (SYLLABLE_BASE
+                        + (initialMap[initial] * MEDIAL_COUNT + medialMap[medial]) * FINAL_COUNT + finalMap[fin]);
+            } else if (c < 0x1100) {
+                chars[i] = atbash ? AtbashCipher.transformChar(c) : CaesarCipher.shift(c, shift);
+            } else if (c < INITIAL_BASE + INITIAL_COUNT) {
+                chars[i] = (char) (INITIAL_BASE + initialMap[c - INITIAL_BASE]);
+            } else if (c >= MEDIAL_BASE && c < MEDIAL_BASE + MEDIAL_COUNT) {
+                chars[i] = (char) (MEDIAL_BASE + medialMap[c - MEDIAL_BASE]);
+            } else if (c > FINAL_BASE && c < FINAL_BASE + FINAL_COUNT) {
+                chars[i] = (char) (FINAL_BASE + finalMap[c - FINAL_BASE]);
+            } else if (c >= COMPAT_CONSONANT_BASE && c < COMPAT_CONSONANT_BASE + COMPAT_CONSONANT_COUNT) {
+                chars[i] = (char) (COMPAT_CONSONANT_BASE + compatMap[c - COMPAT_CONSONANT_BASE]);
+            } else if (c >= COMPAT_VOWEL_BASE && c < COMPAT_VOWEL_BASE + MEDIAL_COUNT) {
+                chars[i] = (char) (COMPAT_VOWEL_BASE + medialMap[c - COMPAT_VOWEL_BASE]);
+            }
+            // Archaic jamo and everything else above U+1100 that is not a syllable is left unchanged.
+        }
+    }
+
+    /**
+     * map[first..]를 이동 또는 뒤집기 치환표로 채웁니다. first 앞의 인덱스는 자기 자신으로 둡니다.
+     */
+    private static void fillMap(int[] map, int first, int shift, boolean atbash) {
+        int size = map.length - first;
+        for (int i = 0; i < first; i++) {
+            map[i] = i;
+        }
+        for (int i = 0; i < size; i++) {
+            map[first + i] = first + (atbash ? size - 1 - i : Math.floorMod(i + shift, size));
+        }
+    }
+
+    /**
+     * 첫가끝 자모로 분해된 한글을 음절로 합칩니다(한글에 대한 NFC). 합칠 자모가 없으면 입력을 그대로 반환합니다.
+     */
+    public static String compose(String text) {
+        if (text == null || !containsConjoiningJamo(text)) {
+            return text;
+        }
+        char[] source = text.toCharArray();
+        char[] target = new char[source.length + 1];
+        Composer composer = new Composer();
+        int n = composer.process(source, 0, source.length, target, 0);
+        n += composer.finish(target, n);
+        return new String(target, 0, n);
+    }
+
+    private static boolean containsConjoiningJamo(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= INITIAL_BASE && c <= FINAL_BASE + FINAL_COUNT - 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 조각 단위로 입력을 받아 첫가끝 자모를 음절로 합치는 스트리밍 조합기입니다.
+     * 조각 끝에서 아직 완성되지 않은 음절은 다음 조각이나 {@link #finish}까지 보류합니다.
+     */
+    public static class Composer {
+        private int pending = -1;
+
+        /**
+         * @param target 결과를 쓸 배열. length + 1 글자의 공간이 있어야 합니다.
+         * @return 쓴 글자 수
+         */
+        public int process(char[] source, int offset, int length, char[] target, int targetOffset) {
+            int out = targetOffset;
+            int end = offset + length;
+            for (int i = offset; i < end; i++) {
+                char c = source[i];
+                if (pending >= INITIAL_BASE && pending < INITIAL_BASE + INITIAL_COUNT
+                        && c >= MEDIAL_BASE && c < MEDIAL_BASE + MEDIAL_COUNT) {
+                    // L + V -> LV syllable; it may still take a final consonant.
+                    pending = SYLLABLE_BASE + ((pending - INITIAL_BASE) * MEDIAL_COUNT + (c - MEDIAL_BASE)) * FINAL_COUNT;
+                    continue;
+                }
+                if (pending >= SYLLABLE_BASE && (pending - SYLLABLE_BASE) % FINAL_COUNT == 0
+                        && c > FINAL_BASE && c < FINAL_BASE + FINAL_COUNT) {
+                    // LV + T -> LVT syllable
+                    target[out++] = (char) (pending + (c - FINAL_BASE));
+                    pending = -1;
+                    continue;
+                }
+                if (pending >= 0) {
+                    target[out++] = (char) pending;
+                    pending = -1;
+                }
+                if ((c >= INITIAL_BASE && c < INITIAL_BASE + INITIAL_COUNT)
+                        || (c >= SYLLABLE_BASE && c < SYLLABLE_BASE + SYLLABLE_COUNT && (c - SYLLABLE_BASE) % FINAL_COUNT == 0)) {
+                    pending = c;
+                } else {
+                    target[out++] = c;
+                }
+            }
+            return out - targetOffset;
+        }
+
+        /**
+         * 보류 중인 글자를 내보냅니다.
+         * @return 쓴 글자 수 (0 또는 1)
+         */
+        public int finish(char[] target, int targetOffset) {
+            if (pending < 0) {
+                return 0;
+            }
+            target[targetOffset] = (char) pending;
+            pending = -1;
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * 입력 전체를 메모리에 모아야 하는 변환에서 입력이 허용된 크기를 넘을 때 던집니다.
+ * {@link CipherServer}는 이 예외를 413 응답으로 바꿉니다.
+ */
+public class InputTooLargeException extends IllegalArgumentException {
+
+    public InputTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,100 @@
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 이 도구가 내보내는 Java Flight Recorder 이벤트 모음입니다.
+ * 모든 이벤트는 기본적으로 꺼져 있으며, 함께 배포되는 artbash.jfc 설정으로 켭니다.
+ * 기록 중이 아닐 때 begin()/commit()은 아무 일도 하지 않고, 필드 설정은 shouldCommit() 뒤에서만 하므로 비용이 사실상 없습니다.
+ *
+ * 예: java -XX:StartFlightRecording:settings=default,settings=artbash.jfc,filename=artbash.jfr -jar AtbashCipherApp.jar
+ */
+public class JfrEvents {
+
+    @Name("artbash.Cipher")
+    @Label("Cipher Invocation")
+    @Description("One cipher engine call of a transform")
+    @Category({"ArtBash", "Cipher"})
+    @Enabled(false)
+    @StackTrace(false)
+    public static class CipherEvent extends Event {
+        @Label("Engine")
+        public String engine;
+
+        @Label("Key")
+        public int key;
+
+        @Label("Input Length")
+        @Description("Input length in characters")
+        public int inputLength;
+
+        @Label("Output Length")
+        @Description("Output length in characters")
+        public int outputLength;
+
+        @Label("Detected Mode")
+        @Description("Result of format auto-detection, or empty if the mode was fixed")
+        public String detectedMode;
+    }
+
+    @Name("artbash.FileIO")
+    @Label("File Load/Save")
+    @Category({"ArtBash", "I/O"})
+    @Enabled(false)
+    public static class FileIOEvent extends Event {
+        @Label("Operation")
+        public String operation;
+
+        @Label("Path")
+        public String path;
+
+        @Label("Bytes")
+        @DataAmount
+        public long bytes;
+    }
+
+    @Name("artbash.LanguageLoad")
+    @Label("Language Pack Load")
+    @Category({"ArtBash", "UI"})
+    @Enabled(false)
+    @StackTrace(false)
+    public static class LanguageLoadEvent extends Event {
+        @Label("Language")
+        public String language;
+
+        @Label("Entries")
+        public int entries;
+
+        @Label("From Cache")
+        public boolean cached;
+    }
+
+    @Name("artbash.ThemeApply")
+    @Label("Theme Application")
+    @Category({"ArtBash", "UI"})
+    @Enabled(false)
+    @StackTrace(false)
+    public static class ThemeEvent extends Event {
+        @Label("Theme")
+        public String theme;
+    }
+
+    @Name("artbash.OutputAnimation")
+    @Label("Output Animation")
+    @Description("From the start of the output animation until its last character is shown or it is replaced")
+    @Category({"ArtBash", "UI"})
+    @Enabled(false)
+    @StackTrace(false)
+    public static class AnimationEvent extends Event {
+        @Label("Characters")
+        public int characters;
+
+        @Label("Completed")
+        public boolean completed;
+    }
+}
@@ -0,0 +1,42 @@
+import java.util.List;
+
+/**
+ * 키 탐색기가 찾은 후보 키 하나입니다. 점수가 높을수록 평문일 가능성이 큽니다.
+ */
+public class KeyCandidate {
+    /** 첫 번째 키 (카이사르 이동 값 또는 스퀴탈레 지름) */
+    public final int key;
+    /** 두 번째 키 (연쇄 모드의 카이사르 이동 값), 없으면 0 */
+    public final int key2;
+    /** 평가한 문자 하나당 평균 로그 우도 */
+    public final double score;
+    /** 이 키로 복호화한 앞부분 */
+    public final String preview;
+
+    public KeyCandidate(int key, int key2, double score, String preview) {
+        this.key = key;
+        this.key2 = key2;
+        this.score = score;
+        this.preview = preview;
+    }
+
+    /**
+     * 후보 목록을 순위표 텍스트로 만듭니다.
+     * @param candidates 점수 순으로 정렬된 후보
+     * @param keyNames 키 이름 (예: "shift", 또는 "diameter", "shift")
+     */
+    public static String format(List<KeyCandidate> candidates, String... keyNames) {
+        StringBuilder sb = new StringBuilder();
+        int rank = 1;
+        for (KeyCandidate candidate : candidates) {
+            sb.append('#').append(rank++);
+            sb.append("  ").append(keyNames[0]).append('=').append(candidate.key);
+            if (keyNames.length > 1) {
+                sb.append("  ").append(keyNames[1]).append('=').append(candidate.key2);
+            }
+            sb.append(String.format(java.util.Locale.ROOT, "  score=%.3f  ", candidate.score));
+            sb.append(candidate.preview.replace('\r', ' ').replace('\n', ' ')).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -1,24 +1,89 @@
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
-import java.util.prefs.Preferences;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.swing.SwingUtilities;
 
 /**
  * JSON 형식의 언어팩 파일을 로드하고 관리하는 클래스입니다.
+ * 현재 언어의 문자열은 변경 불가능한 맵 스냅샷으로 보관되며, 새 언어팩이 완전히 로드된 뒤
+ * 참조 하나를 교체하는 방식으로 공개됩니다. 따라서 EDT는 언어 전환 도중에도 항상 완전한 맵을 읽습니다.
  */
 public class LanguageManager {
-    private final Map<String, String> strings = new HashMap<>();
+    private final AtomicReference<Map<String, String>> strings = new AtomicReference<>(Collections.emptyMap());
+    // 내장 언어팩은 한 번 파싱한 뒤 재사용합니다. EDT와 로더 스레드가 함께 접근하므로 동기화합니다.
+    private final Map<AtbashCipherGUI.Language, Map<String, String>> cache =
+            Collections.synchronizedMap(new EnumMap<>(AtbashCipherGUI.Language.class));
+    // 마지막으로 요청된 로드만 적용되도록 요청마다 번호를 올립니다.
+    private final AtomicLong loadSequence = new AtomicLong();
+    // 사용자 정의 언어팩은 파일 하나로 저장되며, 한 번 읽은 뒤에는 캐시에서 바로 적용합니다.
+    private final LanguagePackStore customStore = LanguagePackStore.openDefault();
+    private final Map<String, Map<String, String>> customCache = new ConcurrentHashMap<>();
 
     /**
-     * 지정된 언어에 해당하는 JSON 파일을 로드합니다.
+     * 지정된 언어에 해당하는 JSON 파일을 로드합니다. 호출한 스레드에서 바로 로드하고 적용합니다.
      * @param lang 로드할 언어
      */
     public void loadLanguage(AtbashCipherGUI.Language lang) {
-        strings.clear();
+        if (lang == AtbashCipherGUI.Language.CUSTOM) {
+            return; // Custom is handled by loadCustomLanguage
+        }
+        loadSequence.incrementAndGet();
+        strings.set(getPack(lang));
+    }
+
+    /**
+     * 지정된 언어팩을 백그라운드 스레드에서 로드한 뒤, EDT에서 현재 언어로 교체하고 onApplied를 실행합니다.
+     * 이미 캐시된 언어는 호출한 스레드(EDT)에서 즉시 교체됩니다. 그 사이에 다른 언어가 요청되면 이 요청은 버려집니다.
+     * @param lang 로드할 언어
+     * @param onApplied 교체 후 EDT에서 실행할 작업 (UI 텍스트 갱신)
+     */
+    public void loadLanguageAsync(AtbashCipherGUI.Language lang, Runnable onApplied) {
+        if (lang == AtbashCipherGUI.Language.CUSTOM) {
+            return;
+        }
+        long ticket = loadSequence.incrementAndGet();
+        Map<String, String> cached = cache.get(lang);
+        if (cached != null) {
+            strings.set(cached);
+            onApplied.run();
+            return;
+        }
+        CompletableFuture.supplyAsync(() -> getPack(lang))
+                .thenAccept(pack -> SwingUtilities.invokeLater(() -> {
+                    if (loadSequence.get() != ticket) {
+                        return; // A newer language request has been made in the meantime.
+                    }
+                    strings.set(pack);
+                    onApplied.run();
+                }))
+                .exceptionally(e -> {
+                    e.printStackTrace();
+                    return null;
+                });
+    }
+
+    /**
+     * 캐시에서 언어팩을 찾고, 없으면 리소스에서 파싱하여 캐시에 저장합니다. 현재 언어는 바뀌지 않습니다.
+     */
+    private Map<String, String> getPack(AtbashCipherGUI.Language lang) {
+        JfrEvents.LanguageLoadEvent event = new JfrEvents.LanguageLoadEvent();
+        event.begin();
+        Map<String, String> pack = cache.get(lang);
+        if (pack != null) {
+            commitLoadEvent(event, lang.name(), pack, true);
+            return pack;
+        }
         String fileName;
         switch (lang) {
             case KOREAN:
@@ -34,51 +99,358 @@ public class LanguageManager {
             default:
                 fileName = "en.json";
                 break;
-            case CUSTOM: // Custom is handled by loadCustomLanguage
-                return;
         }
+        pack = Collections.emptyMap();
         try (InputStream is = getClass().getResourceAsStream(fileName)) {
-            loadLanguageFromStream(is);
+            pack = parseStream(is);
         } catch (Exception e) {
             e.printStackTrace();
         }
+        // Failed loads are not cached so that a later attempt can retry.
+        if (!pack.isEmpty()) {
+            cache.put(lang, pack);
+        }
+        commitLoadEvent(event, lang.name(), pack, false);
+        return pack;
+    }
+
+    private static void commitLoadEvent(JfrEvents.LanguageLoadEvent event, String language, Map<String, String> pack, boolean cached) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.language = language;
+            event.entries = pack.size();
+            event.cached = cached;
+            event.commit();
+        }
     }
 
     public void loadLanguageFromStream(InputStream is) {
-        strings.clear();
+        loadSequence.incrementAndGet();
+        strings.set(parseStream(is));
+    }
+
+    /**
+     * 스트림의 JSON 언어팩을 파싱만 하고 현재 언어는 바꾸지 않습니다.
+     * @return 변경 불가능한 키-값 맵, 실패하면 빈 맵
+     */
+    public static Map<String, String> parseStream(InputStream is) {
         if (is == null) {
             System.err.println("Language input stream is null.");
-            return;
+            return Collections.emptyMap();
         }
         try {
-            String content = new String(is.readAllBytes(), StandardCharsets.UTF_8);
-            Pattern pattern = Pattern.compile("\"(.*?)\"\\s*:\\s*\"(.*?)\"");
-            Matcher matcher = pattern.matcher(content);
-            while (matcher.find()) {
-                strings.put(matcher.group(1), matcher.group(2).replace("\\\"", "\""));
-            }
+            return parse(new String(is.readAllBytes(), StandardCharsets.UTF_8));
         } catch (Exception e) {
             e.printStackTrace();
+            return Collections.emptyMap();
         }
     }
 
-    public void loadCustomLanguage(Preferences prefs, String langName) {
-        strings.clear();
-        try {
-            String[] keys = prefs.node("custom.lang." + langName).keys();
-            for (String key : keys) {
-                strings.put(key, prefs.get("custom.lang." + langName + "." + key, ""));
+    /**
+     * 사용자 정의 언어팩을 적용합니다. 언어팩 파일을 한 번 읽어 캐시하며, 이전 버전에서 Preferences 키마다
+     * 저장된 언어팩이면 한 번만 파일로 옮긴 뒤 기존 키를 삭제합니다.
+     * @param prefs 이전 형식의 언어팩을 찾을 설정 저장소
+     * @param langName 언어팩 이름
+     */
+    public void loadCustomLanguage(SettingsStore prefs, String langName) {
+        JfrEvents.LanguageLoadEvent event = new JfrEvents.LanguageLoadEvent();
+        event.begin();
+        Map<String, String> pack = customCache.get(langName);
+        boolean cached = pack != null;
+        if (pack == null) {
+            try {
+                pack = customStore.load(langName);
+                if (pack == null) {
+                    pack = migrateLegacyCustomLanguage(prefs, langName);
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+                pack = Collections.emptyMap();
             }
+            if (!pack.isEmpty()) {
+                customCache.put(langName, pack);
+            }
+        }
+        commitLoadEvent(event, "CUSTOM:" + langName, pack, cached);
+        loadSequence.incrementAndGet();
+        strings.set(pack);
+    }
+
+    /**
+     * 사용자 정의 언어팩을 하나의 파일로 저장하고 캐시를 갱신합니다.
+     * @param langName 언어팩 이름
+     * @param pack 저장할 키-값 맵
+     * @throws IOException 저장 실패
+     */
+    public void saveCustomLanguage(String langName, Map<String, String> pack) throws IOException {
+        Map<String, String> snapshot = Collections.unmodifiableMap(new HashMap<>(pack));
+        customStore.save(langName, snapshot);
+        customCache.put(langName, snapshot);
+    }
+
+    public void deleteCustomLanguage(SettingsStore prefs, String langName) {
+        customCache.remove(langName);
+        try {
+            customStore.delete(langName);
+            removeLegacyCustomLanguage(prefs, langName);
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
+    private Map<String, String> migrateLegacyCustomLanguage(SettingsStore prefs, String langName) throws IOException {
+        int prefixLength = legacyPrefix(langName).length();
+        Map<String, String> legacy = new HashMap<>();
+        for (String key : legacyKeys(prefs, langName)) {
+            legacy.put(key.substring(prefixLength), prefs.get(key, ""));
+        }
+        if (legacy.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        saveCustomLanguage(langName, legacy);
+        removeLegacyCustomLanguage(prefs, langName);
+        return customCache.get(langName);
+    }
+
+    private void removeLegacyCustomLanguage(SettingsStore prefs, String langName) {
+        for (String key : legacyKeys(prefs, langName)) {
+            prefs.remove(key);
+        }
+    }
+
+    private static String legacyPrefix(String langName) {
+        return "custom.lang." + langName + ".";
+    }
+
+    /**
+     * 이전 형식으로 저장된 언어팩의 설정 키들입니다. 이름에 '.'이 들어갈 수 있으므로 "a"의 접두사는 "a.b" 언어팩의 키
+     * ("custom.lang.a.b.KEY")와도 겹칩니다. 문자열 키에는 '.'이 없으므로 접두사 뒤에 '.'이 더 있는 키는 다른 언어팩의 것입니다.
+     */
+    private static List<String> legacyKeys(SettingsStore prefs, String langName) {
+        String prefix = legacyPrefix(langName);
+        List<String> keys = new ArrayList<>();
+        for (String key : prefs.keys()) {
+            if (key.startsWith(prefix) && key.indexOf('.', prefix.length()) < 0) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
     public String get(String key) {
-        return strings.getOrDefault(key, "!" + key + "!"); // 키가 없는 경우 눈에 띄게 표시
+        return strings.get().getOrDefault(key, "!" + key + "!"); // 키가 없는 경우 눈에 띄게 표시
     }
 
     public TreeMap<String, String> getAllStrings() {
-        return new TreeMap<>(this.strings);
+        return new TreeMap<>(this.strings.get());
+    }
+
+    /**
+     * 최상위 JSON 객체를 한 번의 순회로 파싱하여 변경 불가능한 키-값 맵을 반환합니다.
+     * 문자열 값은 모든 이스케이프(\" \\ \/ \b \f \n \r \t \\uXXXX)를 해석하고,
+     * 숫자·true·false 값은 그 표기 그대로 저장합니다. null, 중첩 객체와 배열은 건너뜁니다.
+     * @param json 파싱할 JSON 텍스트
+     * @return 키-값 맵
+     * @throws IllegalArgumentException JSON 형식이 올바르지 않은 경우
+     */
+    public static Map<String, String> parse(String json) {
+        Map<String, String> result = new HashMap<>();
+        JsonCursor cursor = new JsonCursor(json);
+        cursor.skipWhitespace();
+        if (cursor.peek() == '\uFEFF') { // UTF-8 BOM
+            cursor.pos++;
+            cursor.skipWhitespace();
+        }
+        cursor.expect('{');
+        cursor.skipWhitespace();
+        if (cursor.peek() == '}') {
+            return Collections.emptyMap();
+        }
+        while (true) {
+            cursor.skipWhitespace();
+            String key = cursor.readString();
+            cursor.skipWhitespace();
+            cursor.expect(':');
+            cursor.skipWhitespace();
+            char c = cursor.peek();
+            if (c == '"') {
+                result.put(key, cursor.readString());
+            } else if (c == '{' || c == '[') {
+                cursor.skipNested();
+            } else {
+                String literal = cursor.readLiteral();
+                if (!literal.equals("null")) {
+                    result.put(key, literal);
+                }
+            }
+            cursor.skipWhitespace();
+            char next = cursor.next();
+            if (next == '}') {
+                break;
+            }
+            if (next != ',') {
+                throw cursor.error("Expected ',' or '}'");
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * 문자열을 JSON 문자열 값으로 쓸 수 있도록 이스케이프합니다. (따옴표는 포함하지 않음)
+     */
+    public static String escapeJson(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                case '\b': sb.append("\\b"); break;
+                case '\f': sb.append("\\f"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * JSON 텍스트 위의 읽기 위치를 관리하는 작은 커서입니다.
+     */
+    private static class JsonCursor {
+        private final String text;
+        private int pos;
+
+        JsonCursor(String text) {
+            this.text = text;
+        }
+
+        char peek() {
+            if (pos >= text.length()) {
+                throw error("Unexpected end of input");
+            }
+            return text.charAt(pos);
+        }
+
+        char next() {
+            char c = peek();
+            pos++;
+            return c;
+        }
+
+        void expect(char expected) {
+            if (next() != expected) {
+                pos--;
+                throw error("Expected '" + expected + "'");
+            }
+        }
+
+        void skipWhitespace() {
+            while (pos < text.length()) {
+                char c = text.charAt(pos);
+                if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                    break;
+                }
+                pos++;
+            }
+        }
+
+        String readString() {
+            expect('"');
+            int start = pos;
+            // Fast path: no escapes, return a plain substring.
+            while (pos < text.length()) {
+                char c = text.charAt(pos);
+                if (c == '"') {
+                    return text.substring(start, pos++);
+                }
+                if (c == '\\') {
+                    break;
+                }
+                pos++;
+            }
+            StringBuilder sb = new StringBuilder(pos - start + 16);
+            sb.append(text, start, pos);
+            while (true) {
+                char c = next();
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                char esc = next();
+                switch (esc) {
+                    case '"': sb.append('"'); break;
+                    case '\\': sb.append('\\'); break;
+                    case '/': sb.append('/'); break;
+                    case 'b': sb.append('\b'); break;
+                    case 'f': sb.append('\f'); break;
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'u':
+                        if (pos + 4 > text.length()) {
+                            throw error("Truncated unicode escape");
+                        }
+                        int code = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digit = Character.digit(text.charAt(pos++), 16);
+                            if (digit < 0) {
+                                throw error("Invalid unicode escape");
+                            }
+                            code = (code << 4) | digit;
+                        }
+                        sb.append((char) code);
+                        break;
+                    default:
+                        throw error("Invalid escape '\\" + esc + "'");
+                }
+            }
+        }
+
+        String readLiteral() {
+            int start = pos;
+            while (pos < text.length()) {
+                char c = text.charAt(pos);
+                if (c == ',' || c == '}' || c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                    break;
+                }
+                pos++;
+            }
+            if (start == pos) {
+                throw error("Expected a value");
+            }
+            return text.substring(start, pos);
+        }
+
+        void skipNested() {
+            int depth = 0;
+            do {
+                char c = peek();
+                if (c == '"') {
+                    readString();
+                    continue;
+                }
+                if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+                pos++;
+            } while (depth > 0);
+        }
+
+        IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at position " + pos);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자 정의 언어팩을 언어팩마다 하나의 파일로 저장하고 읽는 클래스입니다.
+ * 파일은 버전 헤더 뒤에 키-값 쌍을 이어 붙인 간단한 바이너리 형식이므로, 언어팩 하나를 적용하는 데 읽기 한 번이면 충분합니다.
+ *
+ * 형식: "ABLP" 매직 4바이트, 버전(short), 항목 수(int), 이후 (키, 값) 쌍을 각각 modified UTF-8로 기록
+ */
+public class LanguagePackStore {
+
+    private static final byte[] MAGIC = {'A', 'B', 'L', 'P'};
+    private static final short FORMAT_VERSION = 1;
+    private static final String FILE_EXTENSION = ".lang";
+
+    private final Path directory;
+
+    public LanguagePackStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 운영체제별 애플리케이션 데이터 디렉터리 아래의 languages 폴더를 사용하는 저장소를 만듭니다.
+     * Windows에서는 %APPDATA%\ArtBash, 그 외에는 ~/.artbash 를 사용합니다.
+     */
+    public static LanguagePackStore openDefault() {
+        String appData = System.getenv("APPDATA");
+        Path base = (appData != null && !appData.isBlank())
+                ? Paths.get(appData, "ArtBash")
+                : Paths.get(System.getProperty("user.home"), ".artbash");
+        return new LanguagePackStore(base.resolve("languages"));
+    }
+
+    /**
+     * 언어팩 파일을 읽습니다.
+     * @param name 언어팩 이름
+     * @return 변경 불가능한 키-값 맵, 파일이 없으면 null
+     * @throws IOException 읽기 실패 또는 형식 오류
+     */
+    public Map<String, String> load(String name) throws IOException {
+        byte[] data;
+        try {
+            data = Files.readAllBytes(fileFor(name));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            for (int i = 0; i < MAGIC.length; i++) {
+                if (magic[i] != MAGIC[i]) {
+                    throw new IOException("Not a language pack file: " + name);
+                }
+            }
+            short version = in.readShort();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported language pack version " + version + ": " + name);
+            }
+            int count = in.readInt();
+            Map<String, String> strings = new HashMap<>(count * 4 / 3 + 1);
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                strings.put(key, in.readUTF());
+            }
+            return Collections.unmodifiableMap(strings);
+        }
+    }
+
+    /**
+     * 언어팩 전체를 하나의 파일로 저장합니다. 임시 파일에 쓴 뒤 교체하므로 중간에 실패해도 기존 파일은 손상되지 않습니다.
+     * @param name 언어팩 이름
+     * @param strings 저장할 키-값 맵
+     * @throws IOException 쓰기 실패
+     */
+    public void save(String name, Map<String, String> strings) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(strings.size() * 48 + 16);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.write(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeInt(strings.size());
+            for (Map.Entry<String, String> entry : strings.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeUTF(entry.getValue());
+            }
+        }
+        Files.createDirectories(directory);
+        Path target = fileFor(name);
+        Path temp = Files.createTempFile(directory, "pack", ".tmp");
+        try {
+            Files.write(temp, buffer.toByteArray());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public void delete(String name) throws IOException {
+        Files.deleteIfExists(fileFor(name));
+    }
+
+    /**
+     * 언어팩 이름을 파일 이름으로 바꿉니다. 영문자, 숫자, '-', '_' 외의 문자는 UTF-8 바이트 단위로 %XX 인코딩합니다.
+     */
+    private Path fileFor(String name) {
+        StringBuilder fileName = new StringBuilder();
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_') {
+                fileName.append(c);
+            } else {
+                fileName.append('%').append(String.format("%02X", b & 0xFF));
+            }
+        }
+        return directory.resolve(fileName.append(FILE_EXTENSION).toString());
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * 나노초 단위 지연 시간을 기록하는 로그-선형 히스토그램입니다.
+ * 2의 거듭제곱 구간마다 16개의 선형 버킷을 두므로 상대 오차는 약 6% 이내이며,
+ * 버킷 배열은 생성 시 한 번만 할당되어 기록할 때는 메모리를 할당하지 않습니다.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BITS + 1) * SUB_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long max;
+
+    /**
+     * 값 하나를 기록합니다. 음수는 0으로 기록됩니다.
+     * @param value 기록할 값 (나노초)
+     */
+    public synchronized void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts[bucketOf(value)]++;
+        totalCount++;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    public synchronized long count() {
+        return totalCount;
+    }
+
+    public synchronized long max() {
+        return max;
+    }
+
+    /**
+     * 백분위 값을 추정합니다. 해당 버킷의 상한값을 반환하되 실제 최댓값을 넘지 않습니다.
+     * @param percentile 0~100 사이의 백분위
+     * @return 추정값 (나노초), 기록이 없으면 0
+     */
+    public synchronized long percentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * totalCount);
+        if (rank < 1) {
+            rank = 1;
+        }
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    public synchronized void reset() {
+        java.util.Arrays.fill(counts, 0);
+        totalCount = 0;
+        max = 0;
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        int sub = (int) ((value >>> shift) & (SUB_COUNT - 1));
+        return (shift + 1) * SUB_COUNT + sub;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_COUNT - 1;
+        long sub = bucket % SUB_COUNT;
+        long lower = (SUB_COUNT + sub) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
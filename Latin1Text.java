@@ -0,0 +1,48 @@
+import java.nio.charset.StandardCharsets;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 결과가 Latin-1(U+0000~U+00FF)만으로 이루어지는 변환을 char 배열이나 StringBuilder 없이 byte[]로 처리하는 도구입니다.
+ * ISO-8859-1 바이트로 만든 String은 압축 문자열(글자당 1바이트)이 되므로, 입력 복사 한 번과 결과 복사 한 번으로 끝납니다.
+ */
+final class Latin1Text {
+
+    private Latin1Text() {
+    }
+
+    /**
+     * 텍스트의 모든 글자가 Latin-1 범위인지 확인합니다.
+     */
+    static boolean isLatin1(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Latin-1 텍스트의 각 글자를 256칸 치환표로 바꿉니다.
+     * @param text {@link #isLatin1(CharSequence)}가 true인 텍스트
+     * @param table 글자 값을 인덱스로 하는 치환표
+     */
+    static String map(String text, byte[] table) {
+        byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = table[bytes[i] & 0xFF];
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 글자 하나를 바꾸는 함수로 치환표를 만듭니다. 함수는 Latin-1 글자를 Latin-1 글자로 바꿔야 합니다.
+     */
+    static byte[] table(IntUnaryOperator mapping) {
+        byte[] table = new byte[256];
+        for (int c = 0; c < 256; c++) {
+            table[c] = (byte) mapping.applyAsInt(c);
+        }
+        return table;
+    }
+}
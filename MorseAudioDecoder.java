@@ -0,0 +1,418 @@
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+
+/**
+ * PCM WAV 파일의 모스 부호 소리를 모스 부호 텍스트와 일반 텍스트로 해독하는 클래스입니다.
+ *
+ * 파일은 조각 단위로 읽으며, 최근 10밀리초 창에 대한 Goertzel 필터를 2.5밀리초마다 다시 계산해(슬라이딩 창)
+ * 소리의 세기를 구합니다. 최근 최대 세기를 천천히 줄어드는 값으로 따라가며 그 비율로 켜짐/꺼짐을 판정하고(히스테리시스),
+ * 켜짐/꺼짐 구간의 길이를 점(dit) 길이 단위로 분류합니다. 점 길이와 간격 단위는 처음 몇 구간으로 추정한 뒤
+ * 분류된 구간마다 지수 이동 평균으로 갱신하므로 녹음 중 속도가 변해도 따라갑니다.
+ * 메모리는 창 크기와 읽기 버퍼에 비례하며, 녹음 길이와 관계없습니다(결과 텍스트 제외).
+ */
+public class MorseAudioDecoder {
+
+    private static final double WINDOW_SECONDS = 0.010;
+    private static final int HOPS_PER_WINDOW = 4;
+    /** 주파수를 자동으로 찾을 때 살펴보는 앞부분 길이와 범위입니다. */
+    private static final double DETECT_SECONDS = 10.0;
+    private static final int DETECT_MIN_FREQUENCY = 200;
+    private static final int DETECT_MAX_FREQUENCY = 2000;
+    private static final int DETECT_STEP = 10;
+    /** 최근 최대 세기가 절반으로 줄어드는 시간 (초)입니다. */
+    private static final double PEAK_HALF_LIFE = 5.0;
+    private static final double ON_RATIO = 0.5;
+    private static final double OFF_RATIO = 0.35;
+    /** 이보다 약한 소리는 무음으로 봅니다. (표본 최대값을 1로 본 진폭) */
+    private static final double SILENCE_LEVEL = 0.01;
+    /** 이보다 짧은 켜짐/꺼짐 변화는 잡음으로 보고 무시합니다. (홉 수) */
+    private static final int DEBOUNCE_HOPS = 2;
+    /** 점 길이와 간격 단위를 추정하기 위해 모아 두는 처음 구간 수입니다. */
+    private static final int INITIAL_RUNS = 24;
+    private static final double SMOOTHING = 0.2;
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * 해독 결과입니다.
+     */
+    public static class Result {
+        /** 모스 부호 텍스트 ({@link MorseCode#toMorse(String)} 형식) */
+        public final String morse;
+        /** 해독된 텍스트 */
+        public final String text;
+        /** 사용한 소리 높이 (Hz) */
+        public final int frequency;
+        /** 마지막으로 추정한 글자 속도 (WPM), 소리가 없었으면 0 */
+        public final double wpm;
+
+        Result(String morse, String text, int frequency, double wpm) {
+            this.morse = morse;
+            this.text = text;
+            this.frequency = frequency;
+            this.wpm = wpm;
+        }
+    }
+
+    /**
+     * WAV 파일을 해독합니다.
+     * @param file 8비트 또는 16비트 PCM WAV 파일 (여러 채널이면 평균)
+     * @param frequency 소리 높이 (Hz), 0 이하면 파일 앞부분에서 찾습니다.
+     * @param progress 진행률(0~100)을 받을 콜백
+     * @param cancelled 취소 여부를 확인할 콜백
+     * @throws IOException 읽기 실패, 지원하지 않는 형식, 또는 취소
+     */
+    public static Result decode(File file, int frequency, IntConsumer progress, BooleanSupplier cancelled) throws IOException {
+        if (frequency <= 0) {
+            try (WavReader reader = new WavReader(file)) {
+                frequency = detectFrequency(reader);
+            }
+        }
+        try (WavReader reader = new WavReader(file)) {
+            int window = Math.max(8, (int) Math.round(reader.sampleRate * WINDOW_SECONDS));
+            int hop = Math.max(1, window / HOPS_PER_WINDOW);
+            double hopSeconds = (double) hop / reader.sampleRate;
+            double coefficient = 2 * Math.cos(2 * Math.PI * frequency / reader.sampleRate);
+            double decay = Math.pow(0.5, hopSeconds / PEAK_HALF_LIFE);
+
+            float[] ring = new float[window];
+            float[] samples = new float[READ_BUFFER_SIZE];
+            int ringPosition = 0;
+            int sinceHop = 0;
+            long filled = 0;
+            double peak = 0;
+            boolean tone = false;
+            int pendingHops = 0; // consecutive hops that disagree with the current state
+            long runHops = 0;
+            RunClassifier classifier = new RunClassifier();
+            int lastPercent = -1;
+
+            int n;
+            while ((n = reader.read(samples, 0, samples.length)) > 0) {
+                if (cancelled.getAsBoolean()) {
+                    throw new InterruptedIOException("Audio decoding cancelled");
+                }
+                for (int i = 0; i < n; i++) {
+                    ring[ringPosition] = samples[i];
+                    ringPosition = ringPosition + 1 == window ? 0 : ringPosition + 1;
+                    filled++;
+                    if (++sinceHop < hop || filled < window) {
+                        continue;
+                    }
+                    sinceHop = 0;
+
+                    // Goertzel over the window, oldest sample first.
+                    double s1 = 0;
+                    double s2 = 0;
+                    for (int k = 0, index = ringPosition; k < window; k++) {
+                        double s0 = ring[index] + coefficient * s1 - s2;
+                        s2 = s1;
+                        s1 = s0;
+                        index = index + 1 == window ? 0 : index + 1;
+                    }
+                    double power = s1 * s1 + s2 * s2 - coefficient * s1 * s2;
+                    double amplitude = 2 * Math.sqrt(Math.max(0, power)) / window;
+
+                    peak = Math.max(amplitude, peak * decay);
+                    boolean raw = peak >= SILENCE_LEVEL
+                            && amplitude >= peak * (tone ? OFF_RATIO : ON_RATIO);
+                    runHops++;
+                    if (raw != tone) {
+                        if (++pendingHops >= DEBOUNCE_HOPS) {
+                            // The state changed pendingHops ago; move those hops to the new run.
+                            classifier.add(tone, (runHops - pendingHops) * hopSeconds);
+                            tone = raw;
+                            runHops = pendingHops;
+                            pendingHops = 0;
+                        }
+                    } else {
+                        pendingHops = 0;
+                    }
+                }
+                int percent = reader.percent();
+                if (percent != lastPercent) {
+                    progress.accept(percent);
+                    lastPercent = percent;
+                }
+            }
+            if (tone) {
+                classifier.add(true, runHops * hopSeconds); // trailing silence says nothing
+            }
+            String morse = classifier.finish();
+            progress.accept(100);
+            return new Result(morse, MorseCode.fromMorse(morse), frequency, classifier.wpm());
+        }
+    }
+
+    /**
+     * 파일 앞부분에서 가장 센 소리 높이를 찾습니다. 후보 주파수마다 Goertzel 세기를 더해 가장 큰 것을 고릅니다.
+     */
+    private static int detectFrequency(WavReader reader) throws IOException {
+        int candidates = (DETECT_MAX_FREQUENCY - DETECT_MIN_FREQUENCY) / DETECT_STEP + 1;
+        double[] coefficients = new double[candidates];
+        for (int c = 0; c < candidates; c++) {
+            coefficients[c] = 2 * Math.cos(2 * Math.PI * (DETECT_MIN_FREQUENCY + c * DETECT_STEP) / reader.sampleRate);
+        }
+        double[] energy = new double[candidates];
+        // 50 ms blocks: a bin width of 20 Hz, fine enough for a 10 Hz grid.
+        int block = Math.max(16, reader.sampleRate / 20);
+        float[] samples = new float[block];
+        long limit = (long) (reader.sampleRate * DETECT_SECONDS);
+        for (long read = 0; read < limit; read += block) {
+            int n = reader.readFully(samples);
+            if (n == 0) {
+                break;
+            }
+            for (int c = 0; c < candidates; c++) {
+                double coefficient = coefficients[c];
+                double s1 = 0;
+                double s2 = 0;
+                for (int i = 0; i < n; i++) {
+                    double s0 = samples[i] + coefficient * s1 - s2;
+                    s2 = s1;
+                    s1 = s0;
+                }
+                energy[c] += s1 * s1 + s2 * s2 - coefficient * s1 * s2;
+            }
+        }
+        int best = 0;
+        for (int c = 1; c < candidates; c++) {
+            if (energy[c] > energy[best]) {
+                best = c;
+            }
+        }
+        return DETECT_MIN_FREQUENCY + best * DETECT_STEP;
+    }
+
+    /**
+     * 켜짐/꺼짐 구간을 점, 선, 글자 사이, 단어 사이로 분류하여 모스 부호 텍스트를 만듭니다.
+     */
+    private static class RunClassifier {
+        private final StringBuilder morse = new StringBuilder();
+        private final boolean[] initialTones = new boolean[INITIAL_RUNS];
+        private final double[] initialSeconds = new double[INITIAL_RUNS];
+        private int initialCount;
+        private boolean started;
+        /** 점 길이 (초), 추정 전에는 0 */
+        private double unit;
+        /** 글자 사이/단어 사이 간격의 단위 (초). Farnsworth 간격이면 unit보다 깁니다. */
+        private double spacing;
+        private String pendingSeparator = "";
+
+        void add(boolean tone, double seconds) {
+            if (seconds <= 0 || (!started && !tone)) {
+                return; // Leading silence.
+            }
+            started = true;
+            if (unit == 0) {
+                initialTones[initialCount] = tone;
+                initialSeconds[initialCount] = seconds;
+                if (++initialCount == INITIAL_RUNS) {
+                    estimate();
+                }
+                return;
+            }
+            classify(tone, seconds);
+        }
+
+        /**
+         * 모아 둔 처음 구간으로 단위를 추정합니다. 가장 짧은 구간(점 또는 글자 안의 간격)을 점 길이로,
+         * 점 길이의 두 배보다 긴 간격 중 가장 짧은 것(글자 사이 간격)의 1/3을 간격 단위로 봅니다.
+         */
+        private void estimate() {
+            unit = Double.MAX_VALUE;
+            for (int i = 0; i < initialCount; i++) {
+                unit = Math.min(unit, initialSeconds[i]);
+            }
+            spacing = Double.MAX_VALUE;
+            for (int i = 0; i < initialCount; i++) {
+                if (!initialTones[i] && initialSeconds[i] >= 2 * unit) {
+                    spacing = Math.min(spacing, initialSeconds[i] / 3);
+                }
+            }
+            if (spacing == Double.MAX_VALUE) {
+                spacing = unit;
+            }
+            for (int i = 0; i < initialCount; i++) {
+                classify(initialTones[i], initialSeconds[i]);
+            }
+        }
+
+        private void classify(boolean tone, double seconds) {
+            if (tone) {
+                morse.append(pendingSeparator);
+                pendingSeparator = "";
+                if (seconds < 2 * unit) {
+                    morse.append('.');
+                    unit += SMOOTHING * (seconds - unit);
+                } else {
+                    morse.append('-');
+                    unit += SMOOTHING * (seconds / 3 - unit);
+                }
+            } else if (seconds < 2 * unit) {
+                unit += SMOOTHING * (seconds - unit); // gap between elements of one letter
+            } else if (seconds < 5 * Math.max(spacing, unit)) {
+                if (pendingSeparator.isEmpty()) {
+                    pendingSeparator = " ";
+                }
+                spacing += SMOOTHING * (seconds / 3 - spacing);
+            } else {
+                pendingSeparator = " / ";
+                if (seconds < 10 * spacing) {
+                    spacing += SMOOTHING * (seconds / 7 - spacing); // longer pauses say nothing about the speed
+                }
+            }
+        }
+
+        String finish() {
+            if (unit == 0 && initialCount > 0) {
+                estimate();
+            }
+            return morse.toString();
+        }
+
+        double wpm() {
+            return unit > 0 ? 1.2 / unit : 0;
+        }
+    }
+
+    /**
+     * PCM WAV 파일의 표본을 -1~1 범위의 float로 조각 단위로 읽습니다.
+     */
+    private static class WavReader implements AutoCloseable {
+        final int sampleRate;
+        private final int channels;
+        private final int bytesPerSample;
+        private final long dataBytes;
+        private long dataRead;
+        private final InputStream in;
+        private final byte[] buffer;
+
+        WavReader(File file) throws IOException {
+            in = new BufferedInputStream(Files.newInputStream(file.toPath()), READ_BUFFER_SIZE);
+            try {
+                byte[] riff = readBytes(12);
+                if (!tag(riff, 0, "RIFF") || !tag(riff, 8, "WAVE")) {
+                    throw new IOException("Not a WAV file");
+                }
+                int rate = 0;
+                int channelCount = 0;
+                int bits = 0;
+                while (true) {
+                    byte[] chunk = readBytes(8);
+                    long size = intAt(chunk, 4) & 0xFFFFFFFFL;
+                    if (tag(chunk, 0, "fmt ")) {
+                        byte[] fmt = readBytes((int) size);
+                        int format = shortAt(fmt, 0);
+                        channelCount = shortAt(fmt, 2);
+                        rate = intAt(fmt, 4);
+                        bits = shortAt(fmt, 14);
+                        if (format != 1 || (bits != 8 && bits != 16) || channelCount < 1 || rate <= 0) {
+                            throw new IOException("Only 8-bit or 16-bit PCM WAV files are supported");
+                        }
+                        skip(size & 1);
+                    } else if (tag(chunk, 0, "data")) {
+                        if (rate == 0) {
+                            throw new IOException("WAV file has no format chunk");
+                        }
+                        dataBytes = size;
+                        break;
+                    } else {
+                        skip(size + (size & 1)); // Chunks are padded to an even size.
+                    }
+                }
+                sampleRate = rate;
+                channels = channelCount;
+                bytesPerSample = bits / 8;
+                int frameBytes = channels * bytesPerSample;
+                buffer = new byte[READ_BUFFER_SIZE / frameBytes * frameBytes];
+            } catch (IOException e) {
+                in.close();
+                throw e;
+            }
+        }
+
+        /**
+         * 표본을 읽습니다. 채널이 여러 개면 평균을 냅니다.
+         * @return 읽은 표본 수, 끝이면 0
+         */
+        int read(float[] samples, int offset, int length) throws IOException {
+            int frameBytes = channels * bytesPerSample;
+            long remaining = dataBytes - dataRead;
+            int want = (int) Math.min(Math.min(buffer.length, (long) length * frameBytes), remaining);
+            want -= want % frameBytes;
+            int got = in.readNBytes(buffer, 0, want);
+            got -= got % frameBytes;
+            dataRead += got;
+            int frames = got / frameBytes;
+            for (int f = 0, p = 0; f < frames; f++) {
+                float sum = 0;
+                for (int c = 0; c < channels; c++, p += bytesPerSample) {
+                    sum += bytesPerSample == 2
+                            ? (short) ((buffer[p] & 0xFF) | (buffer[p + 1] << 8)) / 32768f
+                            : ((buffer[p] & 0xFF) - 128) / 128f;
+                }
+                samples[offset + f] = sum / channels;
+            }
+            return frames;
+        }
+
+        /** 배열이 찰 때까지 읽습니다. 파일 끝이면 더 적게 채웁니다. */
+        int readFully(float[] samples) throws IOException {
+            int total = 0;
+            while (total < samples.length) {
+                int n = read(samples, total, samples.length - total);
+                if (n == 0) {
+                    break;
+                }
+                total += n;
+            }
+            return total;
+        }
+
+        int percent() {
+            return dataBytes == 0 ? 100 : (int) (100 * dataRead / dataBytes);
+        }
+
+        private byte[] readBytes(int count) throws IOException {
+            byte[] bytes = in.readNBytes(count);
+            if (bytes.length < count) {
+                throw new EOFException("Truncated WAV header");
+            }
+            return bytes;
+        }
+
+        private void skip(long count) throws IOException {
+            in.skipNBytes(count);
+        }
+
+        private static boolean tag(byte[] bytes, int offset, String tag) {
+            for (int i = 0; i < 4; i++) {
+                if (bytes[offset + i] != tag.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int intAt(byte[] bytes, int offset) {
+            return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8
+                    | (bytes[offset + 2] & 0xFF) << 16 | (bytes[offset + 3] & 0xFF) << 24;
+        }
+
+        private static int shortAt(byte[] bytes, int offset) {
+            return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
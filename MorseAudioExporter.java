@@ -0,0 +1,244 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+
+/**
+ * 모스 부호 텍스트('.', '-', 글자 사이 공백, 단어 사이 "/")를 16비트 모노 PCM WAV 파일로 내보내는 클래스입니다.
+ *
+ * 점(dit)과 선(dah)의 소리는 시작과 끝에 올림 코사인 경사를 넣어 한 번만 미리 만들어 두고, 간격은 무음 버퍼 하나를
+ * 필요한 길이만큼 잘라 씁니다. 파일은 이 버퍼들을 모음 버퍼에 복사하여 {@link FileChannel}로 한 번에 이어 씁니다.
+ * 데이터 크기는 쓰기 전에 모스 부호를 한 번 훑어 계산하므로, WAV 크기 제한을 넘는 입력은 파일을 만들기 전에 거절합니다.
+ * 사용 메모리는 오디오 길이와 관계없이 일정합니다.
+ *
+ * 속도는 PARIS 기준 WPM(점 하나 = 1200 / WPM 밀리초)이며, Farnsworth 속도를 더 낮게 주면 글자 안의 속도는 그대로 두고
+ * 글자 사이와 단어 사이 간격만 늘립니다. (ARRL 공식)
+ */
+public class MorseAudioExporter {
+
+    public static final int DEFAULT_WPM = 20;
+    public static final int DEFAULT_FREQUENCY = 600;
+    public static final int DEFAULT_SAMPLE_RATE = 44100;
+    /** 소리의 시작과 끝 경사 길이 (밀리초)입니다. 클릭음을 막습니다. */
+    private static final double RAMP_MILLIS = 5.0;
+    private static final double AMPLITUDE = 0.8 * Short.MAX_VALUE;
+    private static final int HEADER_SIZE = 44;
+    private static final int STAGING_SIZE = 1 << 20;
+
+    private final int sampleRate;
+    private final ByteBuffer dit;
+    private final ByteBuffer dah;
+    private final ByteBuffer silence;
+    private final int elementGapBytes;
+    private final int letterGapBytes;
+    private final int wordGapBytes;
+
+    /**
+     * @param wpm 글자 속도 (분당 단어 수)
+     * @param farnsworthWpm 전체 속도, wpm보다 크면 wpm으로 맞춥니다.
+     * @param frequency 소리 높이 (Hz)
+     * @param sampleRate 표본화 주파수 (Hz)
+     */
+    public MorseAudioExporter(int wpm, int farnsworthWpm, int frequency, int sampleRate) {
+        if (wpm <= 0 || farnsworthWpm <= 0 || frequency <= 0 || sampleRate <= 0) {
+            throw new IllegalArgumentException("Speed, frequency and sample rate must be positive");
+        }
+        this.sampleRate = sampleRate;
+        double unit = 1.2 / wpm; // seconds per dit
+        double spacingUnit = unit;
+        if (farnsworthWpm < wpm) {
+            spacingUnit = (60.0 * wpm - 37.2 * farnsworthWpm) / (farnsworthWpm * wpm) / 19.0;
+        }
+        int unitSamples = samples(unit);
+        dit = tone(unitSamples, frequency);
+        dah = tone(unitSamples * 3, frequency);
+        elementGapBytes = unitSamples * 2;
+        letterGapBytes = samples(spacingUnit * 3) * 2;
+        wordGapBytes = samples(spacingUnit * 7) * 2;
+        silence = ByteBuffer.allocate(Math.max(elementGapBytes, Math.max(letterGapBytes, wordGapBytes)));
+    }
+
+    private int samples(double seconds) {
+        return Math.max(1, (int) Math.round(seconds * sampleRate));
+    }
+
+    /**
+     * 올림 코사인 경사가 들어간 사인파 한 조각을 만듭니다.
+     */
+    private ByteBuffer tone(int count, int frequency) {
+        ByteBuffer buffer = ByteBuffer.allocate(count * 2).order(ByteOrder.LITTLE_ENDIAN);
+        int ramp = Math.min(count / 2, (int) Math.round(RAMP_MILLIS / 1000.0 * sampleRate));
+        double step = 2 * Math.PI * frequency / sampleRate;
+        for (int i = 0; i < count; i++) {
+            double gain = 1.0;
+            int edge = Math.min(i, count - 1 - i);
+            if (edge < ramp) {
+                gain = 0.5 - 0.5 * Math.cos(Math.PI * edge / ramp);
+            }
+            buffer.putShort((short) Math.round(AMPLITUDE * gain * Math.sin(step * i)));
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * 모스 부호를 WAV 파일로 저장합니다. '.', '-', 공백, '/' 외의 글자는 무시합니다.
+     * @param morse 모스 부호 텍스트 ({@link MorseCode#toMorse(String)} 형식)
+     * @param target 저장할 파일 (.wav)
+     * @param progress 진행률(0~100)을 받을 콜백
+     * @param cancelled 취소 여부를 확인할 콜백
+     * @return 파일 크기 (바이트)
+     * @throws IOException 쓰기 실패, 취소, 또는 WAV 크기 제한(4GB) 초과. 쓰던 파일은 지웁니다.
+     */
+    public long export(String morse, File target, IntConsumer progress, BooleanSupplier cancelled) throws IOException {
+        long expectedBytes = dataBytes(morse);
+        if (expectedBytes > 0xFFFFFFFFL - (HEADER_SIZE - 8)) {
+            throw new IOException("Audio is too long for a WAV file");
+        }
+        try {
+            return write(morse, expectedBytes, target, progress, cancelled);
+        } catch (IOException | RuntimeException e) {
+            target.delete(); // Do not leave a truncated WAV behind.
+            throw e;
+        }
+    }
+
+    /**
+     * 모스 부호가 만들 표본 데이터의 크기(바이트)를 계산합니다. {@link #write}와 같은 규칙으로 간격을 셉니다.
+     */
+    private long dataBytes(String morse) {
+        long dataBytes = 0;
+        int pendingGap = 0;
+        boolean inLetter = false;
+        for (int i = 0, length = morse.length(); i < length; i++) {
+            char c = morse.charAt(i);
+            if (c == '.' || c == '-') {
+                dataBytes += (inLetter ? elementGapBytes : pendingGap) + (c == '.' ? dit : dah).remaining();
+                inLetter = true;
+                pendingGap = 0;
+            } else if (c == '/') {
+                pendingGap = dataBytes > 0 ? wordGapBytes : 0;
+                inLetter = false;
+            } else if (Character.isWhitespace(c)) {
+                if (inLetter) {
+                    pendingGap = letterGapBytes;
+                }
+                inLetter = false;
+            }
+        }
+        return dataBytes;
+    }
+
+    private long write(String morse, long expectedBytes, File target, IntConsumer progress, BooleanSupplier cancelled) throws IOException {
+        try (FileChannel channel = FileChannel.open(target.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer staging = ByteBuffer.allocateDirect(STAGING_SIZE);
+            staging.put(header(expectedBytes));
+
+            long dataBytes = 0;
+            int pendingGap = 0; // bytes of silence owed before the next element
+            boolean inLetter = false;
+            int length = morse.length();
+            int lastPercent = -1;
+            for (int i = 0; i < length; i++) {
+                char c = morse.charAt(i);
+                if (c == '.' || c == '-') {
+                    int gap = inLetter ? elementGapBytes : pendingGap;
+                    dataBytes += gap;
+                    putSilence(channel, staging, gap);
+                    ByteBuffer element = c == '.' ? dit : dah;
+                    dataBytes += element.remaining();
+                    put(channel, staging, element.duplicate());
+                    inLetter = true;
+                    pendingGap = 0;
+                } else if (c == '/') {
+                    pendingGap = dataBytes > 0 ? wordGapBytes : 0;
+                    inLetter = false;
+                } else if (Character.isWhitespace(c)) {
+                    if (inLetter) {
+                        pendingGap = letterGapBytes;
+                    }
+                    inLetter = false;
+                }
+                if ((i & 0xFFF) == 0) {
+                    if (cancelled.getAsBoolean()) {
+                        throw new InterruptedIOException("Audio export cancelled");
+                    }
+                    int percent = (int) (100L * i / length);
+                    if (percent != lastPercent) {
+                        progress.accept(percent);
+                        lastPercent = percent;
+                    }
+                }
+            }
+            if (dataBytes != expectedBytes) {
+                throw new IllegalStateException("Audio size changed while writing: " + dataBytes + " != " + expectedBytes);
+            }
+            flush(channel, staging);
+            progress.accept(100);
+            return HEADER_SIZE + dataBytes;
+        }
+    }
+
+    private void putSilence(FileChannel channel, ByteBuffer staging, int bytes) throws IOException {
+        if (bytes > 0) {
+            ByteBuffer gap = silence.duplicate();
+            gap.limit(bytes);
+            put(channel, staging, gap);
+        }
+    }
+
+    /**
+     * 미리 만든 버퍼를 모음 버퍼에 복사하고, 모음 버퍼가 차면 파일에 씁니다.
+     */
+    private static void put(FileChannel channel, ByteBuffer staging, ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            if (!staging.hasRemaining()) {
+                flush(channel, staging);
+            }
+            if (source.remaining() <= staging.remaining()) {
+                staging.put(source);
+            } else {
+                int limit = source.limit();
+                source.limit(source.position() + staging.remaining());
+                staging.put(source);
+                source.limit(limit);
+            }
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer staging) throws IOException {
+        staging.flip();
+        while (staging.hasRemaining()) {
+            channel.write(staging);
+        }
+        staging.clear();
+    }
+
+    /**
+     * 16비트 모노 PCM WAV 헤더를 만듭니다.
+     * @param dataBytes 표본 데이터 크기
+     */
+    private ByteBuffer header(long dataBytes) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(new byte[]{'R', 'I', 'F', 'F'});
+        header.putInt((int) (HEADER_SIZE - 8 + dataBytes));
+        header.put(new byte[]{'W', 'A', 'V', 'E', 'f', 'm', 't', ' '});
+        header.putInt(16);                 // fmt chunk size
+        header.putShort((short) 1);        // PCM
+        header.putShort((short) 1);        // mono
+        header.putInt(sampleRate);
+        header.putInt(sampleRate * 2);     // byte rate
+        header.putShort((short) 2);        // block align
+        header.putShort((short) 16);       // bits per sample
+        header.put(new byte[]{'d', 'a', 't', 'a'});
+        header.putInt((int) dataBytes);
+        header.flip();
+        return header;
+    }
+}
@@ -1,64 +1,176 @@
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
 
 /**
  * 텍스트와 모스 부호 간의 변환을 처리하는 유틸리티 클래스입니다.
+ *
+ * ITU 부호(영문자, 숫자, 문장 부호, É)와 약부호(&lt;AR&gt;, &lt;SK&gt; 등), 한글 모스 부호(SKATS, {@link SkatsMorse}),
+ * 일본어 와분(Wabun) 부호를 지원합니다. 한글과 와분 부호는 영문 부호와 겹치므로 전환 부호로 모드를 바꿉니다:
+ * 와분은 관례대로 ホレ(-..---)로 시작하고 ラタ(...-.)로 영문에 돌아오며, 한글은 이 프로그램의 약속으로 --.-.-로 시작합니다.
+ * 한글/와분 모드에서도 그 모드의 부호와 겹치지 않는 숫자와 문장 부호는 모드를 바꾸지 않고 영문 부호로 보냅니다.
+ *
+ * 부호는 점을 0, 선을 1로 하고 앞에 1을 붙인 2진수(부호 인덱스)로 바꾸면 길이 {@value #MAX_CODE_LENGTH} 이하의
+ * 모든 부호가 {@value #CODE_INDEX_LIMIT}보다 작은 서로 다른 수가 됩니다. 해독은 이 인덱스로, 부호화는 글자 값으로
+ * 배열을 바로 찾으므로 해시 계산이나 충돌 없이 글자당 배열 접근 한 번입니다.
  */
 public class MorseCode {
 
-    private static final Map<Character, String> CHAR_TO_MORSE = new HashMap<>();
-    private static final Map<String, Character> MORSE_TO_CHAR;
+    /** 표에 있는 가장 긴 부호(&lt;SOS&gt;)의 길이입니다. */
+    static final int MAX_CODE_LENGTH = 9;
+    /** 부호 인덱스의 상한입니다. */
+    static final int CODE_INDEX_LIMIT = 1 << (MAX_CODE_LENGTH + 1);
+
+    private static final int LATIN = 0;
+    private static final int KOREAN = 1;
+    private static final int WABUN = 2;
+    /** 각 모드로 바꾸는 부호입니다. 영문으로 돌아오는 부호는 와분의 ラタ(SN)입니다. */
+    private static final String[] SHIFT_CODES = {"...-.", "--.-.-", "-..---"};
+
+    private static final String LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789.,?'!/()&:;=+-_\"$@É";
+    private static final String[] LETTER_CODES = {
+        ".-", "-...", "-.-.", "-..", ".", "..-.", "--.", "....", "..", ".---", "-.-", ".-..", "--",
+        "-.", "---", ".--.", "--.-", ".-.", "...", "-", "..-", "...-", ".--", "-..-", "-.--", "--..",
+        "-----", ".----", "..---", "...--", "....-", ".....", "-....", "--...", "---..", "----.",
+        ".-.-.-", "--..--", "..--..", ".----.", "-.-.--", "-..-.", "-.--.", "-.--.-", ".-...", "---...", "-.-.-.",
+        "-...-", ".-.-.", "-....-", "..--.-", ".-..-.", "...-..-", ".--.-.", "..-.."
+    };
+    /**
+     * 텍스트에 &lt;이름&gt;으로 쓰는 약부호입니다. AR, AS, BT, KN은 각각 +, &amp;, =, (와 부호가 같아 해독하면 그 글자가 됩니다.
+     */
+    private static final String[] PROSIGNS = {"AR", "AS", "BT", "KN", "SK", "CT", "SOS", "HH"};
+    private static final String[] PROSIGN_CODES = {".-.-.", ".-...", "-...-", "-.--.", "...-.-", "-.-.-", "...---...", "........"};
+
+    /** 와분 부호입니다. 탁점(゛)과 반탁점(゜)은 앞 가나 뒤에 따로 보냅니다. */
+    private static final String WABUN_LETTERS = "イロハニホヘトチリヌルヲワカヨタレソツネナラムウヰノオクヤマケフコエテアサキユメミシヱヒモセスン゛゜ー、。（）";
+    private static final String[] WABUN_CODES = {
+        ".-", ".-.-", "-...", "-.-.", "-..", ".", "..-..", "..-.", "--.", "....", "-.--.", ".---", "-.-", ".-..",
+        "--", "-.", "---", "---.", ".--.", "--.-", ".-.", "...", "-", "..-", ".-..-", "..--", ".-...", "...-",
+        ".--", "-..-", "-.--", "--..", "----", "-.---", ".-.--", "--.--", "-.-.-", "-.-..", "-..--", "-...-",
+        "..-.-", "--.-.", ".--..", "--..-", "-..-.", ".---.", "---.-", ".-.-.", "..", "..--.", ".--.-",
+        ".-.-.-", ".-.-..", "-.--.-", ".-..-."
+    };
+    /** 작은 가나와 그 부호로 쓰는 큰 가나입니다. 와분에는 작은 가나가 없습니다. */
+    private static final String SMALL_KANA = "ァアィイゥウェエォオッツャヤュユョヨヮワヵカヶケ";
+    private static final char KATAKANA_FIRST = '゠';
+    private static final char KATAKANA_LAST = 'ヿ';
+    private static final char DAKUTEN = '゛';
+    private static final char HANDAKUTEN = '゜';
+
+    /** Latin-1 글자(대소문자 모두)의 모스 부호 바이트입니다. 부호가 없는 글자는 null입니다. */
+    private static final byte[][] LATIN1_TO_MORSE = new byte[256][];
+    private static final int[] LATIN1_CODE_INDEXES = new int[256];
+    private static final byte[][] PROSIGN_BYTES = new byte[PROSIGNS.length][];
+    /** 가타카나 블록 글자의 부호 바이트입니다. 탁음은 "가나 부호 + 공백 + 탁점 부호"입니다. */
+    private static final byte[][] KATAKANA_TO_MORSE = new byte[KATAKANA_LAST - KATAKANA_FIRST + 1][];
+    /** 부호 인덱스를 영문 글자(또는 약부호 이름)와 와분 가나로 바꾸는 표입니다. */
+    private static final String[] LATIN_DECODE = new String[CODE_INDEX_LIMIT];
+    private static final char[] WABUN_DECODE = new char[CODE_INDEX_LIMIT];
+    /** 가나에 탁점/반탁점을 붙인 글자입니다. 붙일 수 없으면 0입니다. */
+    private static final char[] VOICED = new char[KATAKANA_LAST - KATAKANA_FIRST + 1];
+    private static final char[] SEMI_VOICED = new char[KATAKANA_LAST - KATAKANA_FIRST + 1];
+    /** 부호 인덱스가 각 모드에서 그 모드의 글자로 해독되는지 여부입니다. 이런 부호의 영문 글자는 모드를 바꿔 보냅니다. */
+    private static final boolean[][] CLAIMED = new boolean[SHIFT_CODES.length][CODE_INDEX_LIMIT];
+    private static final int[] SHIFT_INDEXES = new int[SHIFT_CODES.length];
+    private static final byte[][] SHIFT_BYTES = new byte[SHIFT_CODES.length][];
+    private static final int BREAK_INDEX = codeIndex(SkatsMorse.BREAK);
+    private static final byte[] BREAK_BYTES = bytes(SkatsMorse.BREAK);
+    private static final byte[] WORD_SEPARATOR = {' ', '/', ' '};
 
     static {
-        CHAR_TO_MORSE.put('A', ".-");
-        CHAR_TO_MORSE.put('B', "-...");
-        CHAR_TO_MORSE.put('C', "-.-.");
-        CHAR_TO_MORSE.put('D', "-..");
-        CHAR_TO_MORSE.put('E', ".");
-        CHAR_TO_MORSE.put('F', "..-.");
-        CHAR_TO_MORSE.put('G', "--.");
-        CHAR_TO_MORSE.put('H', "....");
-        CHAR_TO_MORSE.put('I', "..");
-        CHAR_TO_MORSE.put('J', ".---");
-        CHAR_TO_MORSE.put('K', "-.-");
-        CHAR_TO_MORSE.put('L', ".-..");
-        CHAR_TO_MORSE.put('M', "--");
-        CHAR_TO_MORSE.put('N', "-.");
-        CHAR_TO_MORSE.put('O', "---");
-        CHAR_TO_MORSE.put('P', ".--.");
-        CHAR_TO_MORSE.put('Q', "--.-");
-        CHAR_TO_MORSE.put('R', ".-.");
-        CHAR_TO_MORSE.put('S', "...");
-        CHAR_TO_MORSE.put('T', "-");
-        CHAR_TO_MORSE.put('U', "..-");
-        CHAR_TO_MORSE.put('V', "...-");
-        CHAR_TO_MORSE.put('W', ".--");
-        CHAR_TO_MORSE.put('X', "-..-");
-        CHAR_TO_MORSE.put('Y', "-.--");
-        CHAR_TO_MORSE.put('Z', "--..");
-        CHAR_TO_MORSE.put('1', ".----");
-        CHAR_TO_MORSE.put('2', "..---");
-        CHAR_TO_MORSE.put('3', "...--");
-        CHAR_TO_MORSE.put('4', "....-");
-        CHAR_TO_MORSE.put('5', ".....");
-        CHAR_TO_MORSE.put('6', "-....");
-        CHAR_TO_MORSE.put('7', "--...");
-        CHAR_TO_MORSE.put('8', "---..");
-        CHAR_TO_MORSE.put('9', "----.");
-        CHAR_TO_MORSE.put('0', "-----");
-        CHAR_TO_MORSE.put('.', ".-.-.-");
-        CHAR_TO_MORSE.put(',', "--..--");
-        CHAR_TO_MORSE.put('?', "..--..");
-
-        // 역방향 맵 생성
-        MORSE_TO_CHAR = CHAR_TO_MORSE.entrySet()
-                .stream()
-                .collect(Collectors.toMap(Map.Entry::getValue, Map.Entry::getKey));
+        for (int i = 0; i < LETTERS.length(); i++) {
+            char letter = LETTERS.charAt(i);
+            byte[] code = bytes(LETTER_CODES[i]);
+            LATIN1_TO_MORSE[letter] = code;
+            LATIN1_TO_MORSE[Character.toLowerCase(letter)] = code;
+            LATIN1_CODE_INDEXES[letter] = codeIndex(LETTER_CODES[i]);
+            LATIN1_CODE_INDEXES[Character.toLowerCase(letter)] = codeIndex(LETTER_CODES[i]);
+            LATIN_DECODE[codeIndex(LETTER_CODES[i])] = String.valueOf(letter);
+        }
+        for (int i = 0; i < PROSIGNS.length; i++) {
+            PROSIGN_BYTES[i] = bytes(PROSIGN_CODES[i]);
+            int index = codeIndex(PROSIGN_CODES[i]);
+            if (LATIN_DECODE[index] == null) {
+                LATIN_DECODE[index] = "<" + PROSIGNS[i] + ">";
+            }
+        }
+
+        for (int i = 0; i < WABUN_LETTERS.length(); i++) {
+            char kana = WABUN_LETTERS.charAt(i);
+            int index = codeIndex(WABUN_CODES[i]);
+            WABUN_DECODE[index] = kana;
+            CLAIMED[WABUN][index] = true;
+            if (kana >= KATAKANA_FIRST && kana <= KATAKANA_LAST) {
+                KATAKANA_TO_MORSE[kana - KATAKANA_FIRST] = bytes(WABUN_CODES[i]);
+            }
+        }
+        for (int i = 0; i < SMALL_KANA.length(); i += 2) {
+            KATAKANA_TO_MORSE[SMALL_KANA.charAt(i) - KATAKANA_FIRST] = KATAKANA_TO_MORSE[SMALL_KANA.charAt(i + 1) - KATAKANA_FIRST];
+        }
+        // 탁음/반탁음(ガ, パ, ヴ ...)은 정준 분해로 가나와 결합 탁점을 찾습니다. 한 번만 계산합니다.
+        String voicedCode = WABUN_CODES[WABUN_LETTERS.indexOf(DAKUTEN)];
+        String semiVoicedCode = WABUN_CODES[WABUN_LETTERS.indexOf(HANDAKUTEN)];
+        for (char c = KATAKANA_FIRST; c <= KATAKANA_LAST; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            if (decomposed.length() != 2 || KATAKANA_TO_MORSE[decomposed.charAt(0) - KATAKANA_FIRST] == null) {
+                continue;
+            }
+            char base = decomposed.charAt(0);
+            String baseCode = WABUN_CODES[WABUN_LETTERS.indexOf(base)];
+            if (decomposed.charAt(1) == '\u3099') {
+                KATAKANA_TO_MORSE[c - KATAKANA_FIRST] = bytes(baseCode + " " + voicedCode);
+                VOICED[base - KATAKANA_FIRST] = c;
+            } else if (decomposed.charAt(1) == '\u309A') {
+                KATAKANA_TO_MORSE[c - KATAKANA_FIRST] = bytes(baseCode + " " + semiVoicedCode);
+                SEMI_VOICED[base - KATAKANA_FIRST] = c;
+            }
+        }
+
+        for (char jamo = 'ㄱ'; jamo <= 'ㅣ'; jamo++) {
+            byte[] code = SkatsMorse.code(jamo);
+            if (code != null) {
+                CLAIMED[KOREAN][codeIndex(new String(code, StandardCharsets.US_ASCII))] = true;
+            }
+        }
+        CLAIMED[KOREAN][BREAK_INDEX] = true;
+        for (int mode = 0; mode < SHIFT_CODES.length; mode++) {
+            SHIFT_INDEXES[mode] = codeIndex(SHIFT_CODES[mode]);
+            SHIFT_BYTES[mode] = bytes(SHIFT_CODES[mode]);
+        }
+    }
+
+    private static byte[] bytes(String code) {
+        return code.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 부호의 인덱스(앞에 1을 붙이고 점을 0, 선을 1로 읽은 2진수)를 계산합니다.
+     * @return 인덱스, 점과 선 외의 글자가 있거나 {@value #MAX_CODE_LENGTH}자보다 길면 -1
+     */
+    static int codeIndex(CharSequence code) {
+        return codeIndex(code, 0, code.length());
+    }
+
+    private static int codeIndex(CharSequence code, int from, int to) {
+        if (to - from > MAX_CODE_LENGTH) {
+            return -1;
+        }
+        int index = 1;
+        for (int i = from; i < to; i++) {
+            char c = code.charAt(i);
+            if (c == '.') {
+                index <<= 1;
+            } else if (c == '-') {
+                index = index << 1 | 1;
+            } else {
+                return -1;
+            }
+        }
+        return index;
     }
 
     /**
      * 텍스트를 모스 부호로 변환합니다. 단어 사이는 " / "로 구분됩니다.
+     * 부호가 없는 글자는 무시합니다. 소문자는 대문자로, 히라가나는 가타카나로 보냅니다.
      * @param text 변환할 원본 텍스트
      * @return 모스 부호로 변환된 문자열
      */
@@ -66,18 +178,152 @@ public class MorseCode {
         if (text == null || text.isEmpty()) {
             return "";
         }
-        // 1. 텍스트를 공백 기준으로 단어로 분리
-        return java.util.Arrays.stream(text.toUpperCase().split("\\s+"))
-            .map(word -> word.chars() // 2. 각 단어를 문자 스트림으로 변환
-                    .mapToObj(c -> (char) c)
-                    .map(CHAR_TO_MORSE::get) // 3. 각 문자를 모스 부호로 매핑
-                    .filter(java.util.Objects::nonNull) // 4. 매핑되지 않은 문자(null)는 무시
-                    .collect(Collectors.joining(" "))) // 5. 글자들을 공백으로 연결
-            .collect(Collectors.joining(" / ")); // 6. 단어들을 " / "로 연결
+        text = HangulJamo.compose(text);
+        // The result only contains '.', '-', '/' and spaces: build it as bytes, then one copy into a compact String.
+        byte[] morse = new byte[new MorseWriter(null).write(text)];
+        new MorseWriter(morse).write(text);
+        return new String(morse, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 모스 부호를 바이트로 쓰는 도구입니다. 같은 텍스트로 길이 계산과 쓰기를 두 번 실행합니다.
+     * 단어 구분은 {@code split("\\s+")}와 같습니다: 앞쪽 공백은 빈 단어 하나가 되고, 끝쪽 공백은 무시됩니다.
+     */
+    private static final class MorseWriter {
+        private final byte[] out;
+        private final char[] jamo = new char[6];
+        private int length;
+        private boolean wordStarted;
+        private int mode = LATIN;
+        /** 한글 묶음의 마지막 음절, 묶음이 비었으면 0, 낱자모 뒤라서 끊어야 하면 -1입니다. */
+        private int previousHangul;
+
+        MorseWriter(byte[] out) {
+            this.out = out;
+        }
+
+        int write(String text) {
+            int end = text.length();
+            while (end > 0 && isSplitWhitespace(text.charAt(end - 1))) {
+                end--;
+            }
+            for (int i = 0; i < end; i++) {
+                char c = text.charAt(i);
+                if (isSplitWhitespace(c)) {
+                    while (isSplitWhitespace(text.charAt(i + 1))) {
+                        i++;
+                    }
+                    put(WORD_SEPARATOR);
+                    wordStarted = false;
+                    previousHangul = 0;
+                } else if (c == '<' && prosign(text, i, end) >= 0) {
+                    int p = prosign(text, i, end);
+                    latin(PROSIGN_BYTES[p], codeIndex(PROSIGN_CODES[p]));
+                    i += PROSIGNS[p].length() + 1;
+                } else if (c < LATIN1_TO_MORSE.length) {
+                    byte[] code = LATIN1_TO_MORSE[c];
+                    if (code != null) {
+                        latin(code, LATIN1_CODE_INDEXES[c]);
+                    }
+                } else if (SkatsMorse.isHangul(c)) {
+                    hangul(c);
+                } else {
+                    byte[] code = kana(c);
+                    if (code != null) {
+                        shift(WABUN);
+                        letter(code);
+                    }
+                }
+            }
+            return length;
+        }
+
+        private void latin(byte[] code, int index) {
+            if (mode != LATIN && CLAIMED[mode][index]) {
+                shift(LATIN);
+            }
+            letter(code);
+            previousHangul = 0;
+        }
+
+        private void hangul(char c) {
+            shift(KOREAN);
+            boolean syllable = SkatsMorse.isSyllable(c);
+            if (previousHangul < 0 || (previousHangul > 0 && (!syllable || SkatsMorse.needsBreak((char) previousHangul, c)))) {
+                letter(BREAK_BYTES);
+            }
+            int count = SkatsMorse.decompose(c, jamo);
+            for (int j = 0; j < count; j++) {
+                letter(SkatsMorse.code(jamo[j]));
+            }
+            previousHangul = syllable ? c : -1;
+        }
+
+        private void shift(int target) {
+            if (mode != target) {
+                letter(SHIFT_BYTES[target]);
+                mode = target;
+                previousHangul = 0;
+            }
+        }
+
+        private void letter(byte[] code) {
+            if (wordStarted) {
+                put(SPACE);
+            }
+            put(code);
+            wordStarted = true;
+        }
+
+        private void put(byte[] bytes) {
+            if (out != null) {
+                System.arraycopy(bytes, 0, out, length, bytes.length);
+            }
+            length += bytes.length;
+        }
+    }
+
+    private static final byte[] SPACE = {' '};
+
+    /**
+     * text[position]의 '&lt;'에서 시작하는 약부호를 찾습니다.
+     * @return {@link #PROSIGNS}의 인덱스, 약부호가 아니면 -1
+     */
+    private static int prosign(String text, int position, int end) {
+        for (int p = 0; p < PROSIGNS.length; p++) {
+            int close = position + PROSIGNS[p].length() + 1;
+            if (close < end && text.charAt(close) == '>' && text.regionMatches(true, position + 1, PROSIGNS[p], 0, PROSIGNS[p].length())) {
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 가나, 장음 기호, 일본어 문장 부호의 와분 부호 바이트를 찾습니다. 히라가나는 같은 가타카나로 봅니다.
+     * @return 부호 바이트, 와분 글자가 아니면 null
+     */
+    private static byte[] kana(char c) {
+        if (c >= 'ぁ' && c <= 'ゖ') {
+            c += KATAKANA_FIRST - '぀';
+        }
+        if (c >= KATAKANA_FIRST && c <= KATAKANA_LAST) {
+            return KATAKANA_TO_MORSE[c - KATAKANA_FIRST];
+        }
+        int i = c == '゛' ? WABUN_LETTERS.indexOf(DAKUTEN)
+                : c == '゜' ? WABUN_LETTERS.indexOf(HANDAKUTEN)
+                : c < 0x3000 ? -1 : WABUN_LETTERS.indexOf(c);
+        return i < 0 ? null : bytes(WABUN_CODES[i]);
+    }
+
+    /** 정규 표현식 \s와 같은 공백 문자인지 확인합니다. */
+    private static boolean isSplitWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
     }
 
     /**
      * 모스 부호를 텍스트로 변환합니다. 글자 사이는 공백, 단어 사이는 " / "로 구분됩니다.
+     * 모드 전환 부호에 따라 한글(자모를 음절로 모음)이나 와분 가나로 해독하며, 알 수 없는 부호는 "?"가 됩니다.
      * @param morseText 변환할 모스 부호 문자열
      * @return 텍스트로 변환된 문자열
      */
@@ -85,13 +331,75 @@ public class MorseCode {
         if (morseText == null || morseText.isEmpty()) {
             return "";
         }
-        // 1. 모스 부호를 " / " 기준으로 단어로 분리
-        return java.util.Arrays.stream(morseText.trim().split(" / "))
-            .map(word -> java.util.Arrays.stream(word.trim().split(" ")) // 2. 각 단어를 공백 기준으로 글자로 분리
-                    .map(MORSE_TO_CHAR::get) // 3. 각 모스 부호를 문자로 매핑
-                    .map(c -> c == null ? "?" : c.toString()) // 4. 매핑되지 않으면 "?"로 처리
-                    .collect(Collectors.joining(""))) // 5. 글자들을 연결
-            .collect(Collectors.joining(" ")); // 6. 단어들을 공백으로 연결
+        StringBuilder text = new StringBuilder(morseText.length() / 3 + 16);
+        char[] group = new char[32];
+        int groupLength = 0;
+        int mode = LATIN;
+        int length = morseText.length();
+        int i = 0;
+        while (true) {
+            while (i < length && Character.isWhitespace(morseText.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            int start = i;
+            while (i < length && !Character.isWhitespace(morseText.charAt(i))) {
+                i++;
+            }
+            int index = codeIndex(morseText, start, i);
+            char jamo = mode == KOREAN ? SkatsMorse.decode(index) : 0;
+            if (jamo != 0) {
+                if (groupLength == group.length) {
+                    group = java.util.Arrays.copyOf(group, groupLength * 2);
+                }
+                group[groupLength++] = jamo;
+                continue;
+            }
+            if (groupLength > 0) {
+                SkatsMorse.compose(group, groupLength, text);
+                groupLength = 0;
+            }
+            if (i - start == 1 && morseText.charAt(start) == '/') {
+                text.append(' ');
+            } else if (index == SHIFT_INDEXES[LATIN]) {
+                mode = LATIN;
+            } else if (index == SHIFT_INDEXES[KOREAN]) {
+                mode = KOREAN;
+            } else if (index == SHIFT_INDEXES[WABUN]) {
+                mode = WABUN;
+            } else if (mode == KOREAN && index == BREAK_INDEX) {
+                continue;
+            } else if (mode == WABUN && index > 0 && WABUN_DECODE[index] != 0) {
+                appendKana(text, WABUN_DECODE[index]);
+            } else {
+                String letter = index > 0 ? LATIN_DECODE[index] : null;
+                text.append(letter == null ? "?" : letter);
+            }
+        }
+        if (groupLength > 0) {
+            SkatsMorse.compose(group, groupLength, text);
+        }
+        return text.toString();
+    }
+
+    /**
+     * 가나를 붙입니다. 탁점/반탁점은 앞 가나와 합칠 수 있으면 합칩니다.
+     */
+    private static void appendKana(StringBuilder text, char kana) {
+        int last = text.length() - 1;
+        if ((kana == DAKUTEN || kana == HANDAKUTEN) && last >= 0) {
+            char previous = text.charAt(last);
+            if (previous >= KATAKANA_FIRST && previous <= KATAKANA_LAST) {
+                char combined = (kana == DAKUTEN ? VOICED : SEMI_VOICED)[previous - KATAKANA_FIRST];
+                if (combined != 0) {
+                    text.setCharAt(last, combined);
+                    return;
+                }
+            }
+        }
+        text.append(kana);
     }
 
     /**
@@ -108,4 +416,4 @@ public class MorseCode {
         // ^: 문자열 시작, $: 문자열 끝, [ ... ]+: 괄호 안의 문자가 1번 이상 반복
         return text.trim().matches("^[\\.\\-\\/\\s]+$");
     }
-}
\ No newline at end of file
+}
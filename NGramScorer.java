@@ -0,0 +1,142 @@
+import java.util.Arrays;
+
+/**
+ * 전치 암호의 키 후보를 평가하는 n-gram 점수기입니다.
+ * 영어는 자주 쓰이는 바이그램/트라이그램 표로 조건부 로그 확률을 매기고, 한글은 자주 이어지는 음절 쌍과
+ * {@link CaesarCracker}의 음절 모델을 씁니다. 글자 하나의 점수는 항상 0 이하이므로 앞부분의 점수 합은
+ * 뒤로 갈수록 줄어들기만 하고, 이미 하한보다 낮아진 후보는 끝까지 볼 필요 없이 버릴 수 있습니다.
+ */
+public class NGramScorer {
+
+    /** 하한을 확인하는 글자 간격입니다. */
+    private static final int ABORT_CHECK_INTERVAL = 32;
+    private static final double UNLISTED_BIGRAM_FACTOR = 0.3;
+    private static final double DIGIT_LOG = Math.log(0.1);
+    private static final double OTHER_LOG = Math.log(0.05);
+    private static final double HANGUL_PAIR_LOG = Math.log(0.2);
+
+    /** 자주 쓰이는 영어 바이그램과 빈도 (%) */
+    private static final String[] ENGLISH_BIGRAMS = {
+        "TH", "HE", "IN", "ER", "AN", "RE", "ON", "AT", "EN", "ND", "TI", "ES", "OR", "TE", "OF", "ED", "IS",
+        "IT", "AL", "AR", "ST", "TO", "NT", "NG", "SE", "HA", "AS", "OU", "IO", "LE", "VE", "CO", "ME", "DE",
+        "HI", "RI", "RO", "IC", "NE", "EA", "RA", "CE", "LI", "CH", "LL", "BE", "MA", "SI", "OM", "UR"
+    };
+    private static final double[] ENGLISH_BIGRAM_FREQ = {
+        3.56, 3.07, 2.43, 2.05, 1.99, 1.85, 1.76, 1.49, 1.45, 1.35, 1.34, 1.34, 1.28, 1.20, 1.17, 1.17, 1.13,
+        1.12, 1.09, 1.07, 1.05, 1.04, 1.04, 0.95, 0.93, 0.93, 0.87, 0.87, 0.83, 0.83, 0.83, 0.79, 0.79, 0.76,
+        0.76, 0.73, 0.73, 0.70, 0.69, 0.69, 0.69, 0.65, 0.62, 0.60, 0.58, 0.58, 0.57, 0.55, 0.55, 0.54
+    };
+    /** 자주 쓰이는 영어 트라이그램과 빈도 (%) */
+    private static final String[] ENGLISH_TRIGRAMS = {
+        "THE", "AND", "ING", "ENT", "ION", "HER", "FOR", "THA", "NTH", "INT", "ERE", "TIO", "TER", "EST", "ERS",
+        "ATI", "HAT", "ATE", "ALL", "ETH", "HES", "VER", "HIS", "OFT", "ITH", "FTH", "STH", "OTH", "RES", "ONT"
+    };
+    private static final double[] ENGLISH_TRIGRAM_FREQ = {
+        1.81, 0.73, 0.72, 0.42, 0.42, 0.36, 0.34, 0.33, 0.33, 0.32, 0.31, 0.31, 0.30, 0.28, 0.28,
+        0.26, 0.26, 0.25, 0.25, 0.24, 0.24, 0.24, 0.24, 0.22, 0.21, 0.21, 0.21, 0.21, 0.21, 0.20
+    };
+    /** 자주 이어지는 한글 음절 쌍 */
+    private static final String[] HANGUL_BIGRAMS = {
+        "습니", "니다", "에서", "으로", "하는", "하고", "있는", "했다", "하다", "이다", "한다", "대한", "국민", "것이",
+        "우리", "그리", "리고", "에게", "지만", "까지", "부터", "들이", "들은", "는데", "라고", "하여", "되는", "된다",
+        "있다", "었다", "합니", "입니", "사람", "시간", "생각", "하지", "에는", "이라", "하게", "되어"
+    };
+
+    /** [앞 글자 * 26 + 뒷 글자] 조건부 로그 확률 log P(뒷 글자 | 앞 글자) */
+    private static final double[] BIGRAM_LOG = new double[26 * 26];
+    /** [(a * 26 + b) * 26 + c] 조건부 로그 확률 log P(c | a b), 표에 없으면 NaN */
+    private static final double[] TRIGRAM_LOG = new double[26 * 26 * 26];
+    /** ('가'로부터의 거리) 앞 음절 * 11172 + 뒤 음절, 정렬됨 */
+    private static final int[] HANGUL_PAIRS;
+
+    static {
+        double[] bigramFreq = new double[26 * 26];
+        for (int a = 0; a < 26; a++) {
+            for (int b = 0; b < 26; b++) {
+                double pa = Math.exp(CaesarCracker.latinLogProbability(a));
+                double pb = Math.exp(CaesarCracker.latinLogProbability(b));
+                bigramFreq[a * 26 + b] = pa * pb * UNLISTED_BIGRAM_FACTOR;
+            }
+        }
+        for (int i = 0; i < ENGLISH_BIGRAMS.length; i++) {
+            bigramFreq[latinPair(ENGLISH_BIGRAMS[i])] = ENGLISH_BIGRAM_FREQ[i] / 100.0;
+        }
+        for (int a = 0; a < 26; a++) {
+            double pa = Math.exp(CaesarCracker.latinLogProbability(a));
+            for (int b = 0; b < 26; b++) {
+                BIGRAM_LOG[a * 26 + b] = Math.min(0, Math.log(bigramFreq[a * 26 + b] / pa));
+            }
+        }
+        Arrays.fill(TRIGRAM_LOG, Double.NaN);
+        for (int i = 0; i < ENGLISH_TRIGRAMS.length; i++) {
+            String t = ENGLISH_TRIGRAMS[i];
+            int ab = latinPair(t);
+            TRIGRAM_LOG[ab * 26 + (t.charAt(2) - 'A')] = Math.min(0, Math.log(ENGLISH_TRIGRAM_FREQ[i] / 100.0 / bigramFreq[ab]));
+        }
+        HANGUL_PAIRS = new int[HANGUL_BIGRAMS.length];
+        for (int i = 0; i < HANGUL_BIGRAMS.length; i++) {
+            String pair = HANGUL_BIGRAMS[i];
+            HANGUL_PAIRS[i] = (pair.charAt(0) - '가') * 11172 + (pair.charAt(1) - '가');
+        }
+        Arrays.sort(HANGUL_PAIRS);
+    }
+
+    private static int latinPair(String s) {
+        return (s.charAt(0) - 'A') * 26 + (s.charAt(1) - 'A');
+    }
+
+    /**
+     * 글자 배열의 앞 length개를 평가합니다.
+     * @param text 평가할 글자 (전치 복호화된 앞부분)
+     * @param length 평가할 글자 수
+     * @param floor 이 값보다 낮아지면 평가를 멈춥니다. 하한이 없으면 음의 무한대
+     * @return 로그 우도 합 (0 이하), 중간에 멈췄으면 음의 무한대
+     */
+    public static double score(char[] text, int length, double floor) {
+        double total = 0;
+        int prev1 = -1; // Latin letter 0..25, or -1
+        int prev2 = -1;
+        int prevHangul = -1;
+        for (int i = 0; i < length; i++) {
+            char c = text[i];
+            int letter = -1;
+            if (c >= 'a' && c <= 'z') {
+                letter = c - 'a';
+            } else if (c >= 'A' && c <= 'Z') {
+                letter = c - 'A';
+            }
+            if (letter >= 0) {
+                double tri = prev2 >= 0 ? TRIGRAM_LOG[(prev2 * 26 + prev1) * 26 + letter] : Double.NaN;
+                if (!Double.isNaN(tri)) {
+                    total += tri;
+                } else if (prev1 >= 0) {
+                    total += BIGRAM_LOG[prev1 * 26 + letter];
+                } else {
+                    total += CaesarCracker.latinLogProbability(letter);
+                }
+                prev2 = prev1;
+                prev1 = letter;
+                prevHangul = -1;
+            } else {
+                prev2 = -1;
+                prev1 = -1;
+                if (c >= '가' && c <= '힣') {
+                    int syllable = c - '가';
+                    if (prevHangul >= 0 && Arrays.binarySearch(HANGUL_PAIRS, prevHangul * 11172 + syllable) >= 0) {
+                        total += HANGUL_PAIR_LOG;
+                    } else {
+                        total += CaesarCracker.hangulLogProbability(syllable);
+                    }
+                    prevHangul = syllable;
+                } else {
+                    total += (c >= '0' && c <= '9') ? DIGIT_LOG : OTHER_LOG;
+                    prevHangul = -1;
+                }
+            }
+            if (i % ABORT_CHECK_INTERVAL == ABORT_CHECK_INTERVAL - 1 && total < floor) {
+                return Double.NEGATIVE_INFINITY;
+            }
+        }
+        return total < floor ? Double.NEGATIVE_INFINITY : total;
+    }
+}
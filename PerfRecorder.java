@@ -0,0 +1,189 @@
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 변환 단계와 파일 입출력의 소요 시간을 모으는 기록기입니다.
+ * 단계마다 {@link LatencyHistogram}과 처리량을 누적하고, 최근 변환 실행 기록을 고정 크기 링 버퍼에 보관합니다.
+ * 단계 기록은 System.nanoTime() 두 번과 배열 갱신뿐이므로 항상 켜 두어도 부담이 없습니다.
+ */
+public class PerfRecorder {
+
+    /** 최근 실행 기록을 보관하는 개수입니다. */
+    public static final int RUN_HISTORY = 50;
+
+    /** 한 단계의 누적 통계입니다. */
+    public static class StageStats {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        long totalBytes;
+        long totalNanos;
+    }
+
+    /** 변환 한 번의 요약입니다. */
+    public static class RunRecord {
+        public final long timestampMillis;
+        public final String mode;
+        public final int inputChars;
+        public final int outputChars;
+        public final long nanos;
+        public final long allocatedBytes;
+
+        RunRecord(long timestampMillis, String mode, int inputChars, int outputChars, long nanos, long allocatedBytes) {
+            this.timestampMillis = timestampMillis;
+            this.mode = mode;
+            this.inputChars = inputChars;
+            this.outputChars = outputChars;
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+
+    private static final Map<String, StageStats> STAGES = new LinkedHashMap<>();
+    private static final RunRecord[] RUNS = new RunRecord[RUN_HISTORY];
+    private static int runCount;
+
+    /**
+     * 단계 시작 시각을 반환합니다. {@link #record(String, long, long)}에 그대로 넘깁니다.
+     */
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * 단계 하나의 소요 시간을 기록합니다.
+     * @param stage 단계 이름 (예: "caesar.encrypt", "file.load")
+     * @param startNanos {@link #start()}의 반환값
+     * @param bytes 처리한 데이터 크기 (바이트)
+     */
+    public static void record(String stage, long startNanos, long bytes) {
+        recordElapsed(stage, System.nanoTime() - startNanos, bytes);
+    }
+
+    /**
+     * 이미 잰 소요 시간을 기록합니다. 여러 구간에 나눠 실행한 단계를 한 건으로 남길 때 씁니다.
+     * @param elapsed 소요 시간 (나노초)
+     * @param bytes 처리한 데이터 크기 (바이트)
+     */
+    public static void recordElapsed(String stage, long elapsed, long bytes) {
+        StageStats stats;
+        synchronized (STAGES) {
+            stats = STAGES.get(stage);
+            if (stats == null) {
+                stats = new StageStats();
+                STAGES.put(stage, stats);
+            }
+            stats.totalBytes += bytes;
+            stats.totalNanos += elapsed;
+        }
+        stats.histogram.record(elapsed);
+    }
+
+    /**
+     * 변환 한 번의 요약을 기록합니다.
+     */
+    public static void recordRun(String mode, int inputChars, int outputChars, long nanos, long allocatedBytes) {
+        RunRecord run = new RunRecord(System.currentTimeMillis(), mode, inputChars, outputChars, nanos, allocatedBytes);
+        synchronized (RUNS) {
+            RUNS[runCount % RUN_HISTORY] = run;
+            runCount++;
+        }
+    }
+
+    /**
+     * 현재 스레드가 지금까지 할당한 바이트 수를 반환합니다. JVM이 지원하지 않으면 -1을 반환합니다.
+     */
+    public static long threadAllocatedBytes() {
+        return AllocationCounter.currentThreadAllocatedBytes();
+    }
+
+    /** 단계 이름 순서대로 통계 행을 반환합니다: 이름, 횟수, p50, p99, 최댓값(ns), MB/s */
+    public static List<Object[]> stageRows() {
+        List<Object[]> rows = new ArrayList<>();
+        synchronized (STAGES) {
+            for (Map.Entry<String, StageStats> entry : STAGES.entrySet()) {
+                StageStats stats = entry.getValue();
+                double mbPerSecond = stats.totalNanos > 0 ? (stats.totalBytes / 1_000_000.0) / (stats.totalNanos / 1e9) : 0;
+                rows.add(new Object[]{
+                        entry.getKey(),
+                        stats.histogram.count(),
+                        stats.histogram.percentile(50),
+                        stats.histogram.percentile(99),
+                        stats.histogram.max(),
+                        mbPerSecond
+                });
+            }
+        }
+        return rows;
+    }
+
+    /** 최근 실행 기록을 최신 순으로 반환합니다. */
+    public static List<RunRecord> recentRuns() {
+        List<RunRecord> runs = new ArrayList<>();
+        synchronized (RUNS) {
+            int available = Math.min(runCount, RUN_HISTORY);
+            for (int i = 1; i <= available; i++) {
+                runs.add(RUNS[(runCount - i) % RUN_HISTORY]);
+            }
+        }
+        return runs;
+    }
+
+    public static void reset() {
+        synchronized (STAGES) {
+            STAGES.clear();
+        }
+        synchronized (RUNS) {
+            java.util.Arrays.fill(RUNS, null);
+            runCount = 0;
+        }
+    }
+
+    /**
+     * 단계 통계와 최근 실행 기록을 CSV로 씁니다.
+     */
+    public static void writeCsv(Writer writer) throws IOException {
+        writer.write("stage,count,p50_us,p99_us,max_us,mb_per_s\n");
+        for (Object[] row : stageRows()) {
+            writer.write(String.format(java.util.Locale.ROOT, "%s,%d,%.1f,%.1f,%.1f,%.2f%n",
+                    row[0], (Long) row[1], (Long) row[2] / 1000.0, (Long) row[3] / 1000.0, (Long) row[4] / 1000.0, (Double) row[5]));
+        }
+        writer.write("\nrun_timestamp_ms,mode,input_chars,output_chars,duration_us,allocated_bytes\n");
+        for (RunRecord run : recentRuns()) {
+            writer.write(String.format(java.util.Locale.ROOT, "%d,%s,%d,%d,%.1f,%d%n",
+                    run.timestampMillis, run.mode, run.inputChars, run.outputChars, run.nanos / 1000.0, run.allocatedBytes));
+        }
+    }
+
+    /**
+     * 스레드별 할당량 측정은 java.management 모듈을 로드하므로, 처음 필요할 때까지 초기화를 미룹니다.
+     */
+    private static class AllocationCounter {
+        private static final com.sun.management.ThreadMXBean BEAN;
+
+        static {
+            com.sun.management.ThreadMXBean bean = null;
+            try {
+                java.lang.management.ThreadMXBean platform = ManagementFactory.getThreadMXBean();
+                if (platform instanceof com.sun.management.ThreadMXBean) {
+                    bean = (com.sun.management.ThreadMXBean) platform;
+                    if (!bean.isThreadAllocatedMemorySupported()) {
+                        bean = null;
+                    } else if (!bean.isThreadAllocatedMemoryEnabled()) {
+                        bean.setThreadAllocatedMemoryEnabled(true);
+                    }
+                }
+            } catch (Throwable t) {
+                bean = null;
+            }
+            BEAN = bean;
+        }
+
+        static long currentThreadAllocatedBytes() {
+            return BEAN != null ? BEAN.getCurrentThreadAllocatedBytes() : -1;
+        }
+    }
+}
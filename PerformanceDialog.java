@@ -0,0 +1,142 @@
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.GridLayout;
+import java.awt.Window;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import javax.swing.table.DefaultTableModel;
+
+/**
+ * {@link PerfRecorder}가 모은 단계별 지연 시간(p50/p99/최댓값), 처리량과 최근 실행 기록을 보여주는 창입니다.
+ * 창이 열려 있는 동안 1초마다 갱신되며, 데이터를 CSV로 내보낼 수 있습니다.
+ */
+public class PerformanceDialog extends JDialog {
+
+    private static final String[] STAGE_COLUMNS = {"Stage", "Count", "p50 (µs)", "p99 (µs)", "Max (µs)", "MB/s"};
+    private static final String[] RUN_COLUMNS = {"Time", "Mode", "Input chars", "Output chars", "Duration (ms)", "Allocated (KB)"};
+
+    private final LanguageManager languageManager;
+    private final DefaultTableModel stageModel = new ReadOnlyTableModel(STAGE_COLUMNS);
+    private final DefaultTableModel runModel = new ReadOnlyTableModel(RUN_COLUMNS);
+    private final Timer refreshTimer;
+
+    public PerformanceDialog(Window owner, LanguageManager languageManager) {
+        super(owner, languageManager.get("PERF_TITLE"), ModalityType.MODELESS);
+        this.languageManager = languageManager;
+
+        JPanel tables = new JPanel(new GridLayout(2, 1, 0, 10));
+        JScrollPane stageScroll = new JScrollPane(new JTable(stageModel));
+        stageScroll.setBorder(BorderFactory.createTitledBorder(languageManager.get("PERF_STAGES_LABEL")));
+        JScrollPane runScroll = new JScrollPane(new JTable(runModel));
+        runScroll.setBorder(BorderFactory.createTitledBorder(languageManager.get("PERF_RUNS_LABEL")));
+        tables.add(stageScroll);
+        tables.add(runScroll);
+
+        JButton exportButton = new JButton(languageManager.get("PERF_EXPORT_BUTTON"));
+        exportButton.addActionListener(e -> exportCsv());
+        JButton resetButton = new JButton(languageManager.get("PERF_RESET_BUTTON"));
+        resetButton.addActionListener(e -> {
+            PerfRecorder.reset();
+            refresh();
+        });
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttons.add(resetButton);
+        buttons.add(exportButton);
+
+        JPanel content = new JPanel(new BorderLayout(0, 10));
+        content.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        content.add(tables, BorderLayout.CENTER);
+        content.add(buttons, BorderLayout.SOUTH);
+        setContentPane(content);
+        setPreferredSize(new Dimension(760, 520));
+        pack();
+        setLocationRelativeTo(owner);
+
+        refreshTimer = new Timer(1000, e -> refresh());
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowOpened(java.awt.event.WindowEvent e) {
+                refresh();
+                refreshTimer.start();
+            }
+
+            @Override
+            public void windowClosed(java.awt.event.WindowEvent e) {
+                refreshTimer.stop();
+            }
+        });
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+    }
+
+    private void refresh() {
+        stageModel.setRowCount(0);
+        for (Object[] row : PerfRecorder.stageRows()) {
+            stageModel.addRow(new Object[]{
+                    row[0], row[1],
+                    String.format("%.1f", (Long) row[2] / 1000.0),
+                    String.format("%.1f", (Long) row[3] / 1000.0),
+                    String.format("%.1f", (Long) row[4] / 1000.0),
+                    String.format("%.2f", (Double) row[5])
+            });
+        }
+        runModel.setRowCount(0);
+        SimpleDateFormat time = new SimpleDateFormat("HH:mm:ss");
+        List<PerfRecorder.RunRecord> runs = PerfRecorder.recentRuns();
+        for (PerfRecorder.RunRecord run : runs) {
+            runModel.addRow(new Object[]{
+                    time.format(new Date(run.timestampMillis)), run.mode, run.inputChars, run.outputChars,
+                    String.format("%.2f", run.nanos / 1e6),
+                    run.allocatedBytes < 0 ? "-" : String.valueOf(run.allocatedBytes / 1024)
+            });
+        }
+    }
+
+    private void exportCsv() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle(languageManager.get("PERF_EXPORT_BUTTON"));
+        fileChooser.setFileFilter(new FileNameExtensionFilter("CSV Files (*.csv)", "csv"));
+        if (fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File file = fileChooser.getSelectedFile();
+        if (!file.getName().toLowerCase().endsWith(".csv")) {
+            file = new File(file.getParentFile(), file.getName() + ".csv");
+        }
+        try (Writer writer = new FileWriter(file, StandardCharsets.UTF_8)) {
+            PerfRecorder.writeCsv(writer);
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this,
+                    languageManager.get("SAVE_ERROR_MESSAGE") + ex.getMessage(),
+                    languageManager.get("SAVE_ERROR_TITLE"),
+                    JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private static class ReadOnlyTableModel extends DefaultTableModel {
+        ReadOnlyTableModel(String[] columns) {
+            super(columns, 0);
+        }
+
+        @Override
+        public boolean isCellEditable(int row, int column) {
+            return false;
+        }
+    }
+}
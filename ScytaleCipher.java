@@ -1,8 +1,38 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 /**
  * 스퀴탈레(Scytale) 암호의 암호화 및 복호화를 처리하는 유틸리티 클래스입니다.
+ *
+ * 기본(전체 텍스트) 방식은 텍스트 길이로 행 수를 정하므로 입력 전체가 메모리에 있어야 합니다.
+ * 블록 방식({@link #encryptBlocks}, {@link #decryptBlocks})은 바이트를 지름 x 행 수 크기의 블록으로 나눠 블록마다
+ * 같은 전치를 적용하므로, 파일 크기와 관계없이 블록 몇 개 분량의 메모리로 스트리밍하고 블록을 병렬로 처리할 수 있습니다.
+ * 기본 행 수({@link #defaultBlockRows})는 지름과 관계없이 블록이 약 1MB가 되도록 정하고, 동시에 처리 중인 블록은
+ * 입력과 결과를 합친 바이트 수로 제한합니다.
+ * 블록 방식의 암호문 형식은 다음과 같습니다.
+ * <ul>
+ *   <li>꽉 찬 블록들 (행 수 rows)</li>
+ *   <li>마지막 블록: 남은 바이트를 지름의 배수가 되도록 'X'로 채운 것 (행 수는 그에 맞게 줄어듦, 없을 수 있음)</li>
+ *   <li>꼬리: 원문 길이 (8바이트, 큰 바이트 순서). 복호화는 이 길이로 채움 바이트를 정확히 떼어냅니다.</li>
+ * </ul>
+ * 블록 방식은 공백을 지우지 않고 모든 바이트를 그대로 옮기므로, 어떤 파일이든 원래대로 되돌아옵니다.
  */
 public class ScytaleCipher {
 
+    /** 블록 방식의 기본 블록 크기 (바이트)입니다. 기본 행 수는 이 크기를 지름으로 나눈 값입니다. */
+    private static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+    /** 동시에 처리 중인 블록들의 입력과 결과를 합친 최대 크기 (바이트)입니다. 블록 하나는 이보다 커도 처리합니다. */
+    private static final long MAX_IN_FLIGHT_BYTES = 1L << 25;
+    /** 블록 하나의 최대 크기 (바이트)입니다. */
+    private static final int MAX_BLOCK_SIZE = 1 << 28;
+    private static final int TRAILER_SIZE = Long.BYTES;
+    private static final byte PADDING = 'X';
+
     /**
      * 스퀴탈레 암호를 사용하여 텍스트를 암호화합니다.
      * @param text 암호화할 원본 텍스트
@@ -71,4 +101,169 @@ public class ScytaleCipher {
         }
         return result.toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * 블록 방식의 기본 행 수입니다. 블록 하나가 약 1MB가 되도록 지름에 맞춰 정하므로, 복호화할 때도 같은 지름이면
+     * 같은 값이 나옵니다.
+     * @param diameter 막대의 지름 (열의 수)
+     */
+    public static int defaultBlockRows(int diameter) {
+        return Math.max(1, DEFAULT_BLOCK_SIZE / Math.max(1, diameter));
+    }
+
+    /**
+     * 스트림을 블록 방식으로 암호화합니다. 블록들을 병렬로 전치하되 순서대로 씁니다.
+     * @param diameter 막대의 지름 (열의 수)
+     * @param rows 블록 하나의 행 수
+     * @throws IllegalArgumentException 지름이나 행 수가 1보다 작거나 블록이 너무 클 때
+     */
+    public static void encryptBlocks(InputStream in, OutputStream out, int diameter, int rows) throws IOException {
+        int blockSize = blockSize(diameter, rows);
+        BlockWriter writer = new BlockWriter(out);
+        long total = 0;
+        int length;
+        do {
+            byte[] block = new byte[blockSize];
+            length = in.readNBytes(block, 0, blockSize);
+            total += length;
+            int padded = (length + diameter - 1) / diameter * diameter; // Only the last block is ever short.
+            Arrays.fill(block, length, padded, PADDING);
+            if (padded > 0) {
+                writer.submit(padded, () -> transposeBlock(block, padded, diameter, true));
+            }
+        } while (length == blockSize);
+        writer.finish();
+        byte[] trailer = new byte[TRAILER_SIZE];
+        for (int i = 0; i < TRAILER_SIZE; i++) {
+            trailer[i] = (byte) (total >>> (56 - 8 * i));
+        }
+        out.write(trailer);
+        out.flush();
+    }
+
+    /**
+     * {@link #encryptBlocks}로 암호화한 스트림을 복호화합니다. 지름과 행 수는 암호화할 때와 같아야 합니다.
+     * @throws IllegalArgumentException 매개변수가 잘못되었거나, 암호문 길이가 꼬리의 원문 길이와 맞지 않을 때
+     */
+    public static void decryptBlocks(InputStream in, OutputStream out, int diameter, int rows) throws IOException {
+        int blockSize = blockSize(diameter, rows);
+        BlockWriter writer = new BlockWriter(out);
+        long blockBytes = 0;
+        byte[] carried = new byte[0];
+        while (true) {
+            // Read one block plus the trailer and one more byte: only then is the block known not to be the (padded) last one.
+            byte[] chunk = Arrays.copyOf(carried, blockSize + TRAILER_SIZE + 1);
+            int length = carried.length + in.readNBytes(chunk, carried.length, chunk.length - carried.length);
+            if (length < chunk.length) {
+                finishDecrypt(writer, chunk, length, blockBytes, diameter);
+                break;
+            }
+            carried = Arrays.copyOfRange(chunk, blockSize, chunk.length);
+            writer.submit(blockSize, () -> transposeBlock(chunk, blockSize, diameter, false));
+            blockBytes += blockSize;
+        }
+        writer.finish();
+        out.flush();
+    }
+
+    /**
+     * 마지막 블록과 꼬리를 검사하고, 마지막 블록을 복호화해 채움 바이트를 뺀 만큼만 쓰도록 넘깁니다.
+     * @param length chunk에 읽힌 바이트 수 (마지막 블록 + 꼬리)
+     * @param blockBytes 앞선 꽉 찬 블록들의 바이트 수
+     */
+    private static void finishDecrypt(BlockWriter writer, byte[] chunk, int length, long blockBytes, int diameter) throws IOException {
+        int lastLength = length - TRAILER_SIZE;
+        if (lastLength < 0 || lastLength % diameter != 0) {
+            throw new IllegalArgumentException("Not a block-mode Scytale stream for diameter " + diameter);
+        }
+        long total = 0;
+        for (int i = 0; i < TRAILER_SIZE; i++) {
+            total = total << 8 | (chunk[lastLength + i] & 0xFF);
+        }
+        long kept = total - blockBytes;
+        if (kept < 0 || kept > lastLength || lastLength - kept >= diameter) {
+            throw new IllegalArgumentException("Block-mode Scytale trailer does not match the data length");
+        }
+        if (lastLength > 0) {
+            writer.submit(lastLength, () -> Arrays.copyOf(transposeBlock(chunk, lastLength, diameter, false), (int) kept));
+        }
+    }
+
+    private static int blockSize(int diameter, int rows) {
+        if (diameter <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("Diameter and rows must be positive");
+        }
+        long size = (long) diameter * rows;
+        if (size > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException("Block too large: " + size + " bytes");
+        }
+        return (int) size;
+    }
+
+    /**
+     * 블록 하나에 기본 방식과 같은 전치를 적용합니다. 암호화는 열 방향으로 채운 격자를 행 방향으로 읽고, 복호화는 그 반대입니다.
+     * @param length 블록 길이, 지름의 배수
+     * @return 전치된 새 배열 (길이 length)
+     */
+    static byte[] transposeBlock(byte[] block, int length, int diameter, boolean encrypt) {
+        int rows = length / diameter;
+        byte[] result = new byte[length];
+        // Write sequentially; the reads walk `diameter` sequential streams (one per column).
+        int out = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < diameter; col++) {
+                if (encrypt) {
+                    result[out++] = block[col * rows + row];
+                } else {
+                    result[col * rows + row] = block[out++];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 블록 작업을 병렬로 실행하고 결과를 제출한 순서대로 씁니다. 동시에 처리 중인 블록은 사용 가능한 프로세서 수와
+     * {@link #MAX_IN_FLIGHT_BYTES}(블록마다 입력과 결과 배열을 셈)로 제한하므로, 지름이나 행 수가 커도 메모리 사용량이
+     * 일정한 범위를 넘지 않습니다. 프로세서가 하나면 호출한 스레드에서 바로 처리합니다.
+     */
+    private static final class BlockWriter {
+        private final OutputStream out;
+        private final int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+        private final ArrayDeque<CompletableFuture<byte[]>> inFlight = new ArrayDeque<>();
+        private final ArrayDeque<Long> inFlightCosts = new ArrayDeque<>();
+        private long inFlightBytes;
+
+        BlockWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        /**
+         * @param length 블록 길이 (바이트)
+         */
+        void submit(int length, Supplier<byte[]> task) throws IOException {
+            if (parallelism == 1) {
+                out.write(task.get());
+                return;
+            }
+            long cost = 2L * length; // the block and its transposed copy
+            while (!inFlight.isEmpty() && (inFlight.size() >= parallelism || inFlightBytes + cost > MAX_IN_FLIGHT_BYTES)) {
+                writeOldest();
+            }
+            inFlight.add(CompletableFuture.supplyAsync(task));
+            inFlightCosts.add(cost);
+            inFlightBytes += cost;
+        }
+
+        void finish() throws IOException {
+            while (!inFlight.isEmpty()) {
+                writeOldest();
+            }
+        }
+
+        private void writeOldest() throws IOException {
+            out.write(inFlight.remove().join());
+            inFlightBytes -= inFlightCosts.remove();
+        }
+    }
+}
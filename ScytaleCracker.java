@@ -0,0 +1,300 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 스퀴탈레 지름과, 연쇄 복호화(모스 -> 카이사르 -> 스퀴탈레 -> 아트배쉬)의 지름 x 이동 값 격자를 탐색하는 클래스입니다.
+ * 후보마다 전체를 복호화하지 않고, 복호화 결과의 앞 {@link #PREFIX_LENGTH}글자만 색인 계산으로 뽑아
+ * {@link NGramScorer}로 평가합니다. 지름별로 병렬 처리하며, 현재 상위 k번째 점수보다 낮아진 후보는 중간에 버립니다.
+ */
+public class ScytaleCracker {
+
+    public static final int DEFAULT_TOP_K = 5;
+    /** 탐색하는 최대 지름입니다. 화면의 지름 입력 범위와 같습니다. */
+    public static final int MAX_DIAMETER = 1000;
+    /** 후보마다 평가하는 복호화 결과의 앞부분 길이입니다. */
+    static final int PREFIX_LENGTH = 400;
+    private static final int PREVIEW_LENGTH = 80;
+    /** {@link CaesarCipher#RANGE_SIZES}에서 한글 음절 범위의 인덱스입니다. */
+    private static final int HANGUL_RANGE = 3;
+    /** 스퀴탈레 패딩 'X'가 아트배쉬를 거친 글자입니다. 복호화 결과의 패딩 자리는 이동 값과 관계없이 이 글자로 평가합니다. */
+    private static final char PADDING_PLAIN = AtbashCipher.transformChar('X');
+
+    /**
+     * 스퀴탈레 지름을 찾습니다.
+     * @param text 암호문
+     * @param topK 반환할 후보 수
+     * @return 점수 순 후보 목록 (key = 지름), 암호문이 비어 있으면 빈 목록
+     */
+    public static List<KeyCandidate> crack(String text, int topK) {
+        if (text == null || text.isEmpty()) {
+            return new ArrayList<>();
+        }
+        char[] cipher = text.toCharArray();
+        int maxDiameter = Math.min(MAX_DIAMETER, cipher.length);
+        SharedTopK top = new SharedTopK(topK);
+        IntStream.rangeClosed(1, maxDiameter).parallel().forEach(diameter -> {
+            char[] prefix = new char[Math.min(PREFIX_LENGTH, cipher.length)];
+            int n = decryptPrefix(cipher, diameter, prefix);
+            double score = NGramScorer.score(prefix, n, top.floor());
+            if (score != Double.NEGATIVE_INFINITY) {
+                top.offer(diameter, score);
+            }
+        });
+
+        List<KeyCandidate> candidates = new ArrayList<>();
+        for (int diameter : top.keys()) {
+            char[] prefix = new char[Math.min(PREFIX_LENGTH, cipher.length)];
+            int n = decryptPrefix(cipher, diameter, prefix);
+            double score = NGramScorer.score(prefix, n, Double.NEGATIVE_INFINITY);
+            candidates.add(new KeyCandidate(diameter, 0, score / n, new String(prefix, 0, Math.min(n, PREVIEW_LENGTH))));
+        }
+        return candidates;
+    }
+
+    /**
+     * 연쇄 복호화의 지름과 카이사르 이동 값을 함께 찾습니다.
+     * 모스 부호는 한 번만 해독하고, 지름마다 앞부분을 한 번 뽑은 뒤 이동 값별로 글자 치환만 바꿔 평가합니다.
+     * 격자는 ASCII 범위(영문자, 숫자)의 나머지(최대 130)만 훑습니다. 한글 음절의 이동 값은 전치와 관계없으므로
+     * 음절 빈도표로 따로 구하고, 마지막에 두 값을 중국인의 나머지 정리로 합쳐 하나의 이동 값으로 돌려줍니다.
+     * 스퀴탈레가 끝에 채운 'X'는 원문이 아니므로, 지름마다 패딩으로 보이는 끝부분은 이동 값과 관계없는 같은 글자로
+     * 평가하고 이동 값 범위를 정할 때도 빼습니다. 그래서 한글만 있는 암호문의 이동 값은 패딩 글자로 정해지지 않고,
+     * 원문에 없는 범위의 이동 값은 가장 작은 값(0)으로 보고합니다.
+     * @param morseText 연쇄 암호화 결과 (모스 부호)
+     * @param topK 반환할 후보 수
+     * @return 점수 순 후보 목록 (key = 지름, key2 = 이동 값)
+     */
+    public static List<KeyCandidate> crackChained(String morseText, int topK) {
+        String decoded = MorseCode.fromMorse(morseText);
+        if (decoded.isEmpty()) {
+            return new ArrayList<>();
+        }
+        char[] cipher = decoded.toCharArray();
+
+        // The grid only covers the ASCII ranges that occur (at most lcm(26, 10) = 130 shifts).
+        int[] rangeCounts = new int[CaesarCipher.RANGE_SIZES.length];
+        int[] syllables = new int[CaesarCipher.RANGE_SIZES[HANGUL_RANGE]];
+        for (char c : cipher) {
+            int range = CaesarCipher.rangeOf(c);
+            if (range == HANGUL_RANGE) {
+                syllables[c - CaesarCipher.RANGE_BASES[range]]++;
+            }
+            if (range >= 0) {
+                rangeCounts[range]++;
+            }
+        }
+        boolean hangul = rangeCounts[HANGUL_RANGE] > 0;
+        double[] hangulScores = hangul ? hangulShiftScores(syllables) : null;
+        int maxShifts = asciiKeySpace(rangeCounts, -1, 0);
+        // Caesar decrypt then Atbash, per shift, for the ASCII characters Morse can produce.
+        char[][] substitution = new char[maxShifts][128];
+        for (int shift = 0; shift < maxShifts; shift++) {
+            for (char c = 0; c < 128; c++) {
+                substitution[shift][c] = AtbashCipher.transformChar(CaesarCipher.shift(c, -shift));
+            }
+        }
+
+        int maxDiameter = Math.min(MAX_DIAMETER, cipher.length);
+        SharedTopK top = new SharedTopK(topK);
+        IntStream.rangeClosed(1, maxDiameter).parallel().forEach(diameter -> {
+            Candidate grid = new Candidate(cipher, diameter, rangeCounts, hangulScores);
+            char[] plain = new char[grid.n];
+            for (int shift = 0; shift < grid.shifts; shift++) {
+                grid.decrypt(shift, substitution[shift], plain);
+                double score = NGramScorer.score(plain, grid.n, top.floor());
+                if (score != Double.NEGATIVE_INFINITY) {
+                    top.offer(diameter * maxShifts + shift, score);
+                }
+            }
+        });
+
+        List<KeyCandidate> candidates = new ArrayList<>();
+        for (int packed : top.keys()) {
+            int diameter = packed / maxShifts;
+            int shift = packed % maxShifts;
+            Candidate grid = new Candidate(cipher, diameter, rangeCounts, hangulScores);
+            char[] plain = new char[grid.n];
+            grid.decrypt(shift, substitution[shift], plain);
+            double score = NGramScorer.score(plain, grid.n, Double.NEGATIVE_INFINITY);
+            int key = hangul ? combine(shift, grid.shifts, grid.hangulShift(shift), CaesarCipher.RANGE_SIZES[HANGUL_RANGE]) : shift;
+            candidates.add(new KeyCandidate(diameter, key, score / grid.n, new String(plain, 0, Math.min(grid.n, PREVIEW_LENGTH))));
+        }
+        return candidates;
+    }
+
+    /**
+     * 지름 하나에 대한 복호화 앞부분과, 그 지름에서 훑을 이동 값 범위입니다.
+     */
+    private static final class Candidate {
+        final char[] transposed;
+        final int n;
+        /** 이 지름에서 훑는 ASCII 이동 값 수입니다. 패딩을 뺀 원문에 있는 ASCII 범위 크기의 최소공배수입니다. */
+        final int shifts;
+        /** transposed에서 패딩으로 보는 끝부분의 시작 위치입니다. */
+        final int paddingStart;
+        /** g = gcd(shifts, 한글 범위 크기)로 나눈 나머지별 최선의 한글 이동 값입니다. */
+        final int[] hangulShifts;
+
+        Candidate(char[] cipher, int diameter, int[] rangeCounts, double[] hangulScores) {
+            transposed = new char[Math.min(PREFIX_LENGTH, cipher.length)];
+            n = decryptPrefix(cipher, diameter, transposed);
+            int padding = paddingLength(cipher, diameter);
+            shifts = asciiKeySpace(rangeCounts, padding == 0 ? -1 : CaesarCipher.rangeOf(lastDecrypted(cipher, diameter, 0)), padding);
+            paddingStart = Math.min(n, cipher.length - padding);
+            hangulShifts = hangulScores == null ? new int[]{0}
+                    : bestHangulShifts(hangulScores, (int) gcd(shifts, CaesarCipher.RANGE_SIZES[HANGUL_RANGE]));
+        }
+
+        int hangulShift(int shift) {
+            return hangulShifts[shift % hangulShifts.length];
+        }
+
+        void decrypt(int shift, char[] table, char[] plain) {
+            substitute(transposed, n, table, hangulShift(shift), plain);
+            // Padding scores the same under every shift, as the 'X' it was before Atbash.
+            Arrays.fill(plain, paddingStart, n, PADDING_PLAIN);
+        }
+    }
+
+    /**
+     * 지름 diameter로 복호화한 결과 끝에서 스퀴탈레 패딩으로 보이는 글자 수입니다. 패딩은 같은 대문자 하나가 지름보다
+     * 적게 이어진 것이고, 암호문 길이가 지름의 배수일 때만 있을 수 있습니다.
+     */
+    private static int paddingLength(char[] cipher, int diameter) {
+        if (diameter == 1 || cipher.length % diameter != 0) {
+            return 0;
+        }
+        char last = lastDecrypted(cipher, diameter, 0);
+        if (last < 'A' || last > 'Z') {
+            return 0;
+        }
+        int run = 1;
+        while (run < diameter - 1 && run < cipher.length && lastDecrypted(cipher, diameter, run) == last) {
+            run++;
+        }
+        return run;
+    }
+
+    /**
+     * 지름 diameter로 복호화한 결과의 끝에서 back번째(0부터) 글자입니다. 복호화 결과의 k번째 글자는 격자의
+     * (k % 행 수)행 (k / 행 수)열, 곧 암호문의 (k % 행 수) * diameter + k / 행 수번째 글자입니다.
+     */
+    private static char lastDecrypted(char[] cipher, int diameter, int back) {
+        int rows = cipher.length / diameter;
+        int k = cipher.length - 1 - back;
+        return cipher[(k % rows) * diameter + k / rows];
+    }
+
+    /**
+     * 나오는 ASCII 범위 크기의 최소공배수입니다. 범위 paddingRange의 글자 padding개는 패딩이므로 세지 않습니다.
+     */
+    private static int asciiKeySpace(int[] rangeCounts, int paddingRange, int padding) {
+        long keySpace = 1;
+        for (int range = 0; range < rangeCounts.length; range++) {
+            int count = rangeCounts[range] - (range == paddingRange ? padding : 0);
+            if (range != HANGUL_RANGE && count > 0) {
+                keySpace = CaesarCracker.lcm(keySpace, CaesarCipher.RANGE_SIZES[range]);
+            }
+        }
+        return (int) keySpace;
+    }
+
+    /**
+     * 한글 이동 값마다 음절 빈도 점수를 매깁니다. 암호문의 음절 빈도표만 쓰므로 지름과 관계없이 한 번만 계산합니다.
+     */
+    private static double[] hangulShiftScores(int[] syllables) {
+        int size = syllables.length;
+        // Atbash runs after the Caesar decrypt, so the plain syllable of shift s is the mirror of (c - s).
+        double[] model = new double[size];
+        for (int i = 0; i < size; i++) {
+            model[i] = CaesarCracker.hangulLogProbability(size - 1 - i);
+        }
+        return CaesarCracker.scoreShifts(syllables, model);
+    }
+
+    /**
+     * ASCII 격자의 이동 값과 함께 쓸 한글 이동 값을 구합니다. 두 나머지의 최대공약수 g로 나눈 나머지가 같아야 하나의
+     * 이동 값으로 합칠 수 있으므로, 나머지마다 음절 빈도 점수가 가장 높은 이동 값을 하나씩 고릅니다.
+     * 점수가 같으면 작은 이동 값을 고릅니다.
+     * @return 길이 g인 배열, i번째는 g로 나눈 나머지가 i인 최선의 한글 이동 값
+     */
+    private static int[] bestHangulShifts(double[] table, int g) {
+        int[] best = new int[g];
+        for (int shift = 0; shift < table.length; shift++) {
+            int residue = shift % g;
+            if (shift < g || table[shift] > table[best[residue]]) {
+                best[residue] = shift;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * a (mod m)와 b (mod n)를 함께 만족하는 가장 작은 이동 값입니다. a와 b는 gcd(m, n)로 나눈 나머지가 같아야 합니다.
+     */
+    private static int combine(int a, int m, int b, int n) {
+        int key = a;
+        while (key % n != b) {
+            key += m;
+        }
+        return key;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static void substitute(char[] source, int n, char[] table, int hangulShift, char[] target) {
+        for (int i = 0; i < n; i++) {
+            char c = source[i];
+            // Outside ASCII only Hangul syllables shift; other characters (e.g. kana) just go through Atbash.
+            target[i] = c < 128 ? table[c] : AtbashCipher.transformChar(CaesarCipher.shift(c, -hangulShift));
+        }
+    }
+
+    /**
+     * {@link ScytaleCipher#decrypt(String, int)} 결과의 앞부분만 만듭니다.
+     * 복호화는 행 우선으로 채운 격자를 열 우선으로 읽는 것이므로, 열 col의 row번째 글자는 암호문의 row * diameter + col에 있습니다.
+     * @return 채운 글자 수
+     */
+    static int decryptPrefix(char[] cipher, int diameter, char[] prefix) {
+        int len = cipher.length;
+        int rows = (len + diameter - 1) / diameter;
+        int n = 0;
+        for (int col = 0; col < diameter && n < prefix.length; col++) {
+            for (int row = 0; row < rows && n < prefix.length; row++) {
+                int index = row * diameter + col;
+                if (index < len) {
+                    prefix[n++] = cipher[index];
+                }
+            }
+        }
+        return n;
+    }
+
+    /**
+     * 여러 스레드가 함께 쓰는 상위 k개 목록입니다. 하한은 잠금 없이 읽을 수 있도록 volatile로 공개합니다.
+     */
+    private static class SharedTopK {
+        private final CaesarCracker.TopK top;
+        private volatile double floor = Double.NEGATIVE_INFINITY;
+
+        SharedTopK(int capacity) {
+            top = new CaesarCracker.TopK(capacity);
+        }
+
+        double floor() {
+            return floor;
+        }
+
+        synchronized void offer(int key, double score) {
+            top.offer(key, score);
+            floor = top.floor();
+        }
+
+        synchronized int[] keys() {
+            return top.keys();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.prefs.BackingStoreException;
+import java.util.prefs.Preferences;
+
+/**
+ * Preferences 앞에 놓이는 메모리 설정 저장소입니다.
+ * 시작할 때 Preferences 노드 전체를 한 번에 읽어 두고, 이후의 읽기와 쓰기는 모두 메모리에서 처리합니다.
+ * 변경된 키는 모아 두었다가 짧은 지연 후 백그라운드 스레드에서 한꺼번에 기록하고, 종료 시 남은 변경을 마저 기록합니다.
+ * 따라서 스피너를 계속 돌리는 것처럼 값이 빠르게 바뀌어도 EDT는 Preferences 입출력을 기다리지 않습니다.
+ */
+public class SettingsStore {
+
+    private static final long FLUSH_DELAY_MS = 500;
+
+    private final Preferences prefs;
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    // 마지막 기록 이후 바뀐 키입니다. values에 없는 키는 삭제된 키입니다.
+    private final Set<String> dirtyKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "settings-flush");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private SettingsStore(Preferences prefs) {
+        this.prefs = prefs;
+    }
+
+    /**
+     * Preferences 노드의 현재 값을 한 번에 읽어 저장소를 만들고, 종료 시 기록하는 훅을 등록합니다.
+     * @param prefs 기록 대상 Preferences 노드
+     * @return 설정 저장소
+     */
+    public static SettingsStore open(Preferences prefs) {
+        SettingsStore store = new SettingsStore(prefs);
+        try {
+            for (String key : prefs.keys()) {
+                String value = prefs.get(key, null);
+                if (value != null) {
+                    store.values.put(key, value);
+                }
+            }
+        } catch (BackingStoreException e) {
+            e.printStackTrace();
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(store::flush, "settings-shutdown-flush"));
+        return store;
+    }
+
+    public String get(String key, String def) {
+        return values.getOrDefault(key, def);
+    }
+
+    public int getInt(String key, int def) {
+        String value = values.get(key);
+        if (value == null) {
+            return def;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+
+    public boolean getBoolean(String key, boolean def) {
+        String value = values.get(key);
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        return def;
+    }
+
+    public void put(String key, String value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        if (!value.equals(values.put(key, value))) {
+            markDirty(key);
+        }
+    }
+
+    public void putInt(String key, int value) {
+        put(key, Integer.toString(value));
+    }
+
+    public void putBoolean(String key, boolean value) {
+        put(key, String.valueOf(value));
+    }
+
+    public void remove(String key) {
+        if (values.remove(key) != null) {
+            markDirty(key);
+        }
+    }
+
+    /**
+     * 지정된 접두사로 시작하는 모든 키를 삭제합니다.
+     */
+    public void removeByPrefix(String prefix) {
+        for (String key : keys()) {
+            if (key.startsWith(prefix)) {
+                remove(key);
+            }
+        }
+    }
+
+    public String[] keys() {
+        return values.keySet().toArray(new String[0]);
+    }
+
+    private void markDirty(String key) {
+        dirtyKeys.add(key);
+        if (flushScheduled.compareAndSet(false, true)) {
+            flusher.schedule(this::flush, FLUSH_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 모아 둔 변경을 Preferences에 기록합니다. 기록 스레드와 종료 훅에서 호출됩니다.
+     */
+    public synchronized void flush() {
+        flushScheduled.set(false);
+        if (dirtyKeys.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(dirtyKeys);
+        dirtyKeys.removeAll(keys);
+        for (String key : keys) {
+            // Read the latest value; a put racing with this flush marks the key dirty again.
+            String value = values.get(key);
+            try {
+                if (value == null) {
+                    prefs.remove(key);
+                } else {
+                    prefs.put(key, value);
+                }
+            } catch (IllegalArgumentException e) {
+                System.err.println("Could not store setting '" + key + "': " + e.getMessage());
+            }
+        }
+        try {
+            prefs.flush();
+        } catch (BackingStoreException e) {
+            e.printStackTrace();
+        }
+    }
+}
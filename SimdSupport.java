@@ -0,0 +1,58 @@
+/**
+ * 아트배쉬/카이사르/비즈네르의 SIMD 엔진을 실행 시점에 선택하는 클래스입니다.
+ *
+ * {@code VectorCipher}는 인큐베이터 모듈 jdk.incubator.vector를 사용하므로, JVM이 {@code --add-modules jdk.incubator.vector}로
+ * 시작되었을 때만 불러옵니다. 모듈이 없거나 클래스를 불러오지 못하면 {@link #ENGINE}은 null이고 기존 스칼라 경로를 씁니다.
+ * {@code -Dartbash.simd=false}로 SIMD 엔진을 끌 수 있습니다.
+ */
+final class SimdSupport {
+
+    /** 이보다 짧은 텍스트는 벡터 한두 개 분량이므로 스칼라 경로로 처리합니다. */
+    static final int MIN_LENGTH = 64;
+
+    /**
+     * char 배열을 제자리에서 변환하는 엔진입니다. 결과는 {@link AtbashCipher#transformChar(char)},
+     * {@link CaesarCipher#shift(char, int)}를 글자마다 적용한 것과 같아야 합니다.
+     */
+    interface Engine {
+        void atbash(char[] chars);
+
+        void caesar(char[] chars, int shift);
+
+        /**
+         * chars[from, to)를 자리마다 다른 이동 값으로 변환합니다. 결과는 {@link VigenereCipher#transform(char[], int, int, long)}과 같아야 합니다.
+         * @param offsets 범위마다({@link CaesarCipher#RANGE_BASES} 순서) 키 자리별 이동 값(0 이상, 범위 크기 미만)이며,
+         *                길이는 period + {@link #MAX_LANES} 이상이고 period를 넘는 자리는 앞 자리를 반복합니다.
+         * @param period 키 주기, {@link #MAX_LANES} 이상
+         * @param phase chars[from]의 키 자리 (0 이상 period 미만)
+         */
+        void vigenere(char[] chars, int from, int to, short[][] offsets, int period, int phase);
+
+        /**
+         * Latin-1 바이트에 대한 {@link #vigenere}입니다. Latin-1에는 한글 음절이 없으므로 offsets는 앞의 세 범위(영문 소문자,
+         * 영문 대문자, 숫자)만 담습니다.
+         */
+        void vigenereLatin1(byte[] bytes, int from, int to, byte[][] offsets, int period, int phase);
+    }
+
+    /** 엔진이 한 번에 처리하는 최대 글자 수입니다. (512비트 벡터의 바이트 수) */
+    static final int MAX_LANES = 64;
+
+    /** 사용할 SIMD 엔진, 사용할 수 없으면 null */
+    static final Engine ENGINE = load();
+
+    private SimdSupport() {
+    }
+
+    private static Engine load() {
+        if (!Boolean.parseBoolean(System.getProperty("artbash.simd", "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            return (Engine) Class.forName("VectorCipher").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
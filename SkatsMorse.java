@@ -0,0 +1,259 @@
+/**
+ * 한글 모스 부호(SKATS) 변환을 돕는 클래스입니다.
+ *
+ * 한글 모스 부호는 기본 자모 26개(자음 14개, 모음 10개와 ㅐ, ㅔ)에만 부호가 있습니다. 음절은 초성, 중성, 종성을
+ * 기본 자모로 풀어 씁니다. 예를 들어 ㄲ은 ㄱㄱ, ㅘ는 ㅗㅏ, ㄳ은 ㄱㅅ이 됩니다. 되돌릴 때는 자모 묶음을 앞에서부터 읽어
+ * 음절로 모읍니다. 모음 앞의 자음 무리는 마지막 자음 하나를 다음 음절의 초성으로 남기는 쪽을 먼저 고릅니다.
+ * 이 규칙으로 나누면 원래와 다른 음절이 되는 경우(예: "가싸"와 "갓사")에는, 부호화할 때 두 음절 사이에
+ * {@link #BREAK} 부호를 넣어 묶음을 끊습니다. 그래서 한글 음절은 항상 원래대로 돌아옵니다.
+ */
+final class SkatsMorse {
+
+    /** 자모 묶음을 끊는 부호입니다. 한글 부호표에 없는 부호이며, 한글 모드에서만 쓰입니다. */
+    static final String BREAK = "..--";
+
+    private static final char COMPAT_FIRST = 'ㄱ';
+    private static final char COMPAT_LAST = 'ㅣ';
+
+    /** 기본 자모와 그 모스 부호입니다. */
+    private static final String BASIC_JAMO = "ㄱㄴㄷㄹㅁㅂㅅㅇㅈㅊㅋㅌㅍㅎㅏㅑㅓㅕㅗㅛㅜㅠㅡㅣㅐㅔ";
+    private static final String[] BASIC_CODES = {
+        ".-..", "..-.", "-...", "...-", "--", ".--", "--.", "-.-", ".--.", "-.-.", "-..-", "--..", "---", ".---",
+        ".", "..", "-", "...", ".-", "-.", "....", ".-.", "-..", "..-", "--.-", "-.--"
+    };
+
+    /** 초성, 중성, 종성 순서(유니코드 순서)대로 풀어 쓴 기본 자모입니다. */
+    private static final String[] INITIALS = {
+        "ㄱ", "ㄱㄱ", "ㄴ", "ㄷ", "ㄷㄷ", "ㄹ", "ㅁ", "ㅂ", "ㅂㅂ", "ㅅ", "ㅅㅅ", "ㅇ", "ㅈ", "ㅈㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] MEDIALS = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅑㅣ", "ㅓ", "ㅔ", "ㅕ", "ㅕㅣ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+        "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] FINALS = {
+        "", "ㄱ", "ㄱㄱ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+        "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅅㅅ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    /** 호환 자모 ㄱ(U+3131)~ㅣ(U+3163)를 풀어 쓴 기본 자모입니다. */
+    private static final String[] COMPAT_JAMO = {
+        "ㄱ", "ㄱㄱ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄷㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+        "ㅁ", "ㅂ", "ㅂㅂ", "ㅂㅅ", "ㅅ", "ㅅㅅ", "ㅇ", "ㅈ", "ㅈㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ",
+        "ㅏ", "ㅐ", "ㅑ", "ㅑㅣ", "ㅓ", "ㅔ", "ㅕ", "ㅕㅣ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+        "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    /** 호환 자모(ㄱ~ㅣ)를 인덱스로 하는 모스 부호 바이트입니다. 기본 자모가 아니면 null입니다. */
+    private static final byte[][] CODES = new byte[COMPAT_LAST - COMPAT_FIRST + 1][];
+    private static final int PAIR_SPAN = COMPAT_LAST - COMPAT_FIRST + 1;
+    /** 기본 자모 두 개로 만든 겹자모의 초성/중성/종성 인덱스(없으면 -1)와 호환 자모(없으면 0)입니다. */
+    private static final byte[] PAIR_INITIAL = new byte[PAIR_SPAN * PAIR_SPAN];
+    private static final byte[] PAIR_MEDIAL = new byte[PAIR_SPAN * PAIR_SPAN];
+    private static final byte[] PAIR_FINAL = new byte[PAIR_SPAN * PAIR_SPAN];
+    private static final char[] PAIR_COMPAT = new char[PAIR_SPAN * PAIR_SPAN];
+    /** 기본 자모 하나의 초성/중성/종성 인덱스입니다. 없으면 -1입니다. */
+    private static final byte[] SINGLE_INITIAL = new byte[PAIR_SPAN];
+    private static final byte[] SINGLE_MEDIAL = new byte[PAIR_SPAN];
+    private static final byte[] SINGLE_FINAL = new byte[PAIR_SPAN];
+    /** 부호 인덱스({@link MorseCode#codeIndex})를 기본 자모로 바꾸는 표입니다. */
+    private static final char[] DECODE = new char[MorseCode.CODE_INDEX_LIMIT];
+
+    static {
+        java.util.Arrays.fill(PAIR_INITIAL, (byte) -1);
+        java.util.Arrays.fill(PAIR_MEDIAL, (byte) -1);
+        java.util.Arrays.fill(PAIR_FINAL, (byte) -1);
+        java.util.Arrays.fill(SINGLE_INITIAL, (byte) -1);
+        java.util.Arrays.fill(SINGLE_MEDIAL, (byte) -1);
+        java.util.Arrays.fill(SINGLE_FINAL, (byte) -1);
+        for (int i = 0; i < BASIC_JAMO.length(); i++) {
+            char jamo = BASIC_JAMO.charAt(i);
+            CODES[jamo - COMPAT_FIRST] = BASIC_CODES[i].getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+            DECODE[MorseCode.codeIndex(BASIC_CODES[i])] = jamo;
+        }
+        register(INITIALS, SINGLE_INITIAL, PAIR_INITIAL);
+        register(MEDIALS, SINGLE_MEDIAL, PAIR_MEDIAL);
+        register(FINALS, SINGLE_FINAL, PAIR_FINAL);
+        for (int i = 0; i < COMPAT_JAMO.length; i++) {
+            if (COMPAT_JAMO[i].length() == 2) {
+                PAIR_COMPAT[pair(COMPAT_JAMO[i].charAt(0), COMPAT_JAMO[i].charAt(1))] = (char) (COMPAT_FIRST + i);
+            }
+        }
+    }
+
+    private SkatsMorse() {
+    }
+
+    private static void register(String[] parts, byte[] single, byte[] pairs) {
+        for (int i = 0; i < parts.length; i++) {
+            String jamo = parts[i];
+            if (jamo.length() == 1) {
+                single[jamo.charAt(0) - COMPAT_FIRST] = (byte) i;
+            } else if (jamo.length() == 2) {
+                pairs[pair(jamo.charAt(0), jamo.charAt(1))] = (byte) i;
+            }
+        }
+    }
+
+    private static int pair(char first, char second) {
+        return (first - COMPAT_FIRST) * PAIR_SPAN + (second - COMPAT_FIRST);
+    }
+
+    /** 한글 모스 부호로 쓸 수 있는 글자(한글 음절 또는 호환 자모)인지 확인합니다. */
+    static boolean isHangul(char c) {
+        return (c >= HangulJamo.SYLLABLE_BASE && c < HangulJamo.SYLLABLE_BASE + HangulJamo.SYLLABLE_COUNT)
+                || (c >= COMPAT_FIRST && c <= COMPAT_LAST);
+    }
+
+    static boolean isSyllable(char c) {
+        return c >= HangulJamo.SYLLABLE_BASE && c < HangulJamo.SYLLABLE_BASE + HangulJamo.SYLLABLE_COUNT;
+    }
+
+    /**
+     * 한글 글자를 기본 자모로 풀어 씁니다.
+     * @param out 결과를 쓸 배열 (6칸 이상)
+     * @return 자모 수
+     */
+    static int decompose(char c, char[] out) {
+        if (!isSyllable(c)) {
+            String jamo = COMPAT_JAMO[c - COMPAT_FIRST];
+            jamo.getChars(0, jamo.length(), out, 0);
+            return jamo.length();
+        }
+        int index = c - HangulJamo.SYLLABLE_BASE;
+        int n = copy(INITIALS[index / (HangulJamo.MEDIAL_COUNT * HangulJamo.FINAL_COUNT)], out, 0);
+        n = copy(MEDIALS[index / HangulJamo.FINAL_COUNT % HangulJamo.MEDIAL_COUNT], out, n);
+        return copy(FINALS[index % HangulJamo.FINAL_COUNT], out, n);
+    }
+
+    private static int copy(String jamo, char[] out, int position) {
+        jamo.getChars(0, jamo.length(), out, position);
+        return position + jamo.length();
+    }
+
+    /** 기본 자모의 모스 부호 바이트입니다. */
+    static byte[] code(char jamo) {
+        return CODES[jamo - COMPAT_FIRST];
+    }
+
+    /**
+     * 부호 인덱스에 해당하는 기본 자모를 반환합니다. 한글 부호가 아니면 0입니다.
+     */
+    static char decode(int codeIndex) {
+        return codeIndex > 0 && codeIndex < DECODE.length ? DECODE[codeIndex] : 0;
+    }
+
+    /**
+     * 두 음절을 잇달아 보낼 때 사이에 {@link #BREAK}가 필요한지 확인합니다.
+     * 앞 음절의 종성과 뒤 음절의 초성을 이은 자음 무리를 {@link #finalLength}가 원래대로 나누지 못하면 true입니다.
+     */
+    static boolean needsBreak(char previous, char next) {
+        String tail = FINALS[(previous - HangulJamo.SYLLABLE_BASE) % HangulJamo.FINAL_COUNT];
+        String head = INITIALS[(next - HangulJamo.SYLLABLE_BASE) / (HangulJamo.MEDIAL_COUNT * HangulJamo.FINAL_COUNT)];
+        char[] run = (tail + head).toCharArray();
+        return finalLength(run, 0, run.length) != tail.length();
+    }
+
+    /**
+     * 모음 앞의 자음 무리에서 앞 음절의 종성으로 가져갈 자음 수를 정합니다.
+     * 마지막 자음 하나를 초성으로 남기는 쪽을 먼저 고르고, 안 되면 된소리 초성(ㄲ, ㄸ, ㅃ, ㅆ, ㅉ) 두 개를 남깁니다.
+     * 둘 다 안 되면 종성으로 쓸 수 있는 만큼만 가져갑니다.
+     */
+    private static int finalLength(char[] jamo, int from, int to) {
+        int length = to - from;
+        if (isFinal(jamo, from, length - 1)) {
+            return length - 1;
+        }
+        if (length >= 2 && PAIR_INITIAL[pair(jamo[to - 2], jamo[to - 1])] >= 0 && isFinal(jamo, from, length - 2)) {
+            return length - 2;
+        }
+        return longestFinal(jamo, from, to - 1);
+    }
+
+    private static boolean isFinal(char[] jamo, int from, int length) {
+        return length == 0
+                || (length == 1 && SINGLE_FINAL[jamo[from] - COMPAT_FIRST] >= 0)
+                || (length == 2 && PAIR_FINAL[pair(jamo[from], jamo[from + 1])] >= 0);
+    }
+
+    private static int longestFinal(char[] jamo, int from, int to) {
+        if (to - from >= 2 && isFinal(jamo, from, 2)) {
+            return 2;
+        }
+        return to > from && isFinal(jamo, from, 1) ? 1 : 0;
+    }
+
+    private static boolean isVowel(char jamo) {
+        return jamo >= 'ㅏ';
+    }
+
+    /**
+     * 기본 자모 묶음을 음절로 모아 씁니다. 음절이 되지 않는 자모는 호환 자모로 씁니다.
+     */
+    static void compose(char[] jamo, int count, StringBuilder out) {
+        int i = 0;
+        while (i < count) {
+            int run = i;
+            while (run < count && !isVowel(jamo[run])) {
+                run++;
+            }
+            if (run == count) {
+                appendJamo(jamo, i, count, out);
+                return;
+            }
+            // 자음 무리 jamo[i..run) 다음에 모음이 옵니다. 초성은 마지막 자음 하나 또는 된소리 두 개입니다.
+            int initial;
+            int initialStart;
+            if (run - i == 2 && PAIR_INITIAL[pair(jamo[run - 2], jamo[run - 1])] >= 0) {
+                initial = PAIR_INITIAL[pair(jamo[run - 2], jamo[run - 1])];
+                initialStart = run - 2;
+            } else if (run > i) {
+                initial = SINGLE_INITIAL[jamo[run - 1] - COMPAT_FIRST];
+                initialStart = run - 1;
+            } else {
+                initial = -1;
+                initialStart = run;
+            }
+            appendJamo(jamo, i, initialStart, out);
+            int medial;
+            int next = run + 1;
+            if (next < count && isVowel(jamo[next]) && PAIR_MEDIAL[pair(jamo[run], jamo[next])] >= 0) {
+                medial = PAIR_MEDIAL[pair(jamo[run], jamo[next])];
+                next++;
+            } else {
+                medial = SINGLE_MEDIAL[jamo[run] - COMPAT_FIRST];
+            }
+            if (initial < 0) {
+                // 초성 없는 모음은 음절이 되지 않습니다.
+                appendJamo(jamo, run, next, out);
+                i = next;
+                continue;
+            }
+            int end = next;
+            while (end < count && !isVowel(jamo[end])) {
+                end++;
+            }
+            int finalCount = end == count ? longestFinal(jamo, next, end) : finalLength(jamo, next, end);
+            int fin = finalCount == 0 ? 0
+                    : finalCount == 1 ? SINGLE_FINAL[jamo[next] - COMPAT_FIRST]
+                    : PAIR_FINAL[pair(jamo[next], jamo[next + 1])];
+            out.append((char) (HangulJamo.SYLLABLE_BASE
+                    + (initial * HangulJamo.MEDIAL_COUNT + medial) * HangulJamo.FINAL_COUNT + fin));
+            i = next + finalCount;
+        }
+    }
+
+    /**
+     * 음절이 되지 않는 자모를 호환 자모로 씁니다. 두 개가 겹자모가 되면 하나로 씁니다.
+     */
+    private static void appendJamo(char[] jamo, int from, int to, StringBuilder out) {
+        int i = from;
+        while (i < to) {
+            if (i + 1 < to && PAIR_COMPAT[pair(jamo[i], jamo[i + 1])] != 0) {
+                out.append(PAIR_COMPAT[pair(jamo[i], jamo[i + 1])]);
+                i += 2;
+            } else {
+                out.append(jamo[i++]);
+            }
+        }
+    }
+}
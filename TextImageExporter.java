@@ -0,0 +1,312 @@
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 텍스트를 PNG 이미지로 내보내는 클래스입니다.
+ * 텍스트를 최대 너비에 맞춰 줄바꿈한 뒤, 고정 크기 타일 하나에 몇 줄씩 그려 그 픽셀 행을 바로 PNG 인코더로 흘려보냅니다.
+ * 사용 메모리는 타일 크기에만 비례하며, 이미지가 너무 길어지면 여러 페이지 파일로 나눕니다.
+ */
+public class TextImageExporter {
+
+    private static final int PADDING = 20;
+    private static final int MAX_CONTENT_WIDTH = 2000;
+    // 일반적인 이미지 뷰어가 무리 없이 여는 높이로 페이지를 제한합니다.
+    private static final int MAX_PAGE_HEIGHT = 16000;
+    private static final int LINES_PER_TILE = 32;
+    private static final int IDAT_CHUNK_SIZE = 64 * 1024;
+
+    private final Font font;
+    private final FontMetrics metrics;
+    private final Color background;
+    private final Color foreground;
+
+    public TextImageExporter(Font font, FontMetrics metrics, Color background, Color foreground) {
+        this.font = font;
+        this.metrics = metrics;
+        this.background = background;
+        this.foreground = foreground;
+    }
+
+    /**
+     * 텍스트를 PNG 파일로 저장합니다. 한 페이지에 담기지 않으면 "이름_1.png", "이름_2.png" ... 로 나누어 저장합니다.
+     * @param text 저장할 텍스트
+     * @param target 저장할 파일 (.png)
+     * @param progress 진행률(0~100)을 받을 콜백
+     * @param cancelled 취소 여부를 확인할 콜백
+     * @return 생성된 파일 목록
+     * @throws IOException 쓰기 실패 또는 취소
+     */
+    public List<File> export(String text, File target, IntConsumer progress, BooleanSupplier cancelled) throws IOException {
+        // 1. First pass: count wrapped lines and the widest line without storing them.
+        LineWrapper counter = new LineWrapper(text);
+        int totalLines = 0;
+        int contentWidth = 1;
+        while (counter.next()) {
+            totalLines++;
+            contentWidth = Math.max(contentWidth, counter.width);
+        }
+        totalLines = Math.max(totalLines, 1);
+
+        int lineHeight = metrics.getHeight();
+        int linesPerPage = Math.max(1, (MAX_PAGE_HEIGHT - PADDING * 2) / lineHeight);
+        int pageCount = (totalLines + linesPerPage - 1) / linesPerPage;
+        int imageWidth = contentWidth + PADDING * 2;
+
+        // 2. One reusable tile for all pages.
+        BufferedImage tile = new BufferedImage(imageWidth, lineHeight * LINES_PER_TILE, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = tile.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2d.setFont(font);
+        int[] tilePixels = ((DataBufferInt) tile.getRaster().getDataBuffer()).getData();
+        byte[] row = new byte[1 + imageWidth * 3];
+
+        List<File> files = new ArrayList<>();
+        LineWrapper wrapper = new LineWrapper(text);
+        int linesDone = 0;
+        try {
+            for (int page = 0; page < pageCount; page++) {
+                int pageLines = Math.min(linesPerPage, totalLines - page * linesPerPage);
+                File file = pageCount == 1 ? target : pageFile(target, page + 1);
+                files.add(file);
+                int imageHeight = pageLines * lineHeight + PADDING * 2;
+
+                try (PngStreamWriter png = new PngStreamWriter(file, imageWidth, imageHeight)) {
+                    fillRow(row, background.getRGB());
+                    for (int i = 0; i < PADDING; i++) {
+                        png.writeRow(row);
+                    }
+                    int remaining = pageLines;
+                    while (remaining > 0) {
+                        if (cancelled.getAsBoolean()) {
+                            throw new InterruptedIOException("Image export cancelled");
+                        }
+                        int linesInTile = Math.min(LINES_PER_TILE, remaining);
+                        g2d.setColor(background);
+                        g2d.fillRect(0, 0, imageWidth, tile.getHeight());
+                        g2d.setColor(foreground);
+                        int y = metrics.getAscent();
+                        for (int i = 0; i < linesInTile; i++) {
+                            if (wrapper.next()) {
+                                g2d.drawString(text.substring(wrapper.start, wrapper.end), PADDING, y);
+                            }
+                            y += lineHeight;
+                        }
+                        for (int r = 0; r < linesInTile * lineHeight; r++) {
+                            int offset = r * imageWidth;
+                            int p = 1;
+                            for (int x = 0; x < imageWidth; x++) {
+                                int rgb = tilePixels[offset + x];
+                                row[p++] = (byte) (rgb >> 16);
+                                row[p++] = (byte) (rgb >> 8);
+                                row[p++] = (byte) rgb;
+                            }
+                            png.writeRow(row);
+                        }
+                        remaining -= linesInTile;
+                        linesDone += linesInTile;
+                        progress.accept((int) ((long) linesDone * 100 / totalLines));
+                    }
+                    fillRow(row, background.getRGB());
+                    for (int i = 0; i < PADDING; i++) {
+                        png.writeRow(row);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            for (File file : files) {
+                file.delete(); // Do not leave truncated images behind.
+            }
+            throw e;
+        } finally {
+            g2d.dispose();
+        }
+        return files;
+    }
+
+    private static void fillRow(byte[] row, int rgb) {
+        row[0] = 0; // PNG filter type: None
+        for (int p = 1; p < row.length; p += 3) {
+            row[p] = (byte) (rgb >> 16);
+            row[p + 1] = (byte) (rgb >> 8);
+            row[p + 2] = (byte) rgb;
+        }
+    }
+
+    private static File pageFile(File target, int pageNumber) {
+        String name = target.getName();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return new File(target.getParentFile(), base + "_" + pageNumber + ".png");
+    }
+
+    /**
+     * 텍스트를 최대 너비에 맞춰 줄 단위로 나누는 반복자입니다. 줄 범위(start, end)와 너비만 계산하고 문자열은 만들지 않습니다.
+     * 가능하면 공백에서 줄을 바꾸고, 공백 없이 긴 줄(이진수, 모스 부호 등)은 글자 단위로 자릅니다.
+     */
+    private class LineWrapper {
+        private final String text;
+        private int pos;
+        private boolean finished;
+        int start;
+        int end;
+        int width;
+
+        LineWrapper(String text) {
+            this.text = text;
+        }
+
+        boolean next() {
+            if (finished) {
+                return false;
+            }
+            start = pos;
+            width = 0;
+            int lastSpace = -1;
+            int widthAtSpace = 0;
+            int i = pos;
+            while (i < text.length()) {
+                char c = text.charAt(i);
+                if (c == '\n') {
+                    end = (i > start && text.charAt(i - 1) == '\r') ? i - 1 : i;
+                    pos = i + 1;
+                    finished = pos >= text.length(); // A trailing newline does not start another line.
+                    return true;
+                }
+                int w = metrics.charWidth(c);
+                if (width + w > MAX_CONTENT_WIDTH && i > start) {
+                    if (lastSpace > start) {
+                        end = lastSpace;
+                        width = widthAtSpace;
+                        pos = lastSpace + 1;
+                    } else {
+                        end = i;
+                        pos = i;
+                    }
+                    return true;
+                }
+                if (c == ' ') {
+                    lastSpace = i;
+                    widthAtSpace = width;
+                }
+                width += w;
+                i++;
+            }
+            end = i;
+            finished = true;
+            return true;
+        }
+    }
+
+    /**
+     * 픽셀 행을 받아 바로 압축하여 IDAT 청크로 기록하는 최소한의 PNG(8비트 RGB) 인코더입니다.
+     */
+    private static class PngStreamWriter implements AutoCloseable {
+        private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+        private final DataOutputStream out;
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        private final DeflaterOutputStream idat;
+
+        PngStreamWriter(File file, int width, int height) throws IOException {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), IDAT_CHUNK_SIZE + 12));
+            out.write(SIGNATURE);
+            ByteBuffer header = ByteBuffer.allocate(13);
+            header.putInt(width).putInt(height);
+            header.put((byte) 8);  // bit depth
+            header.put((byte) 2);  // colour type: truecolour RGB
+            header.put((byte) 0);  // compression
+            header.put((byte) 0);  // filter
+            header.put((byte) 0);  // interlace
+            writeChunk("IHDR", header.array(), header.capacity());
+            idat = new DeflaterOutputStream(new IdatOutputStream(), deflater, IDAT_CHUNK_SIZE);
+        }
+
+        void writeRow(byte[] row) throws IOException {
+            idat.write(row, 0, row.length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                idat.close();
+                writeChunk("IEND", new byte[0], 0);
+                out.close();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        private void writeChunk(String type, byte[] data, int length) throws IOException {
+            byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+            CRC32 crc = new CRC32();
+            crc.update(typeBytes);
+            crc.update(data, 0, length);
+            out.writeInt(length);
+            out.write(typeBytes);
+            out.write(data, 0, length);
+            out.writeInt((int) crc.getValue());
+        }
+
+        /** 압축된 데이터를 모아 IDAT_CHUNK_SIZE마다 청크 하나로 기록합니다. */
+        private class IdatOutputStream extends OutputStream {
+            private final byte[] buffer = new byte[IDAT_CHUNK_SIZE];
+            private int count;
+
+            @Override
+            public void write(int b) throws IOException {
+                if (count == buffer.length) {
+                    flushChunk();
+                }
+                buffer[count++] = (byte) b;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                while (len > 0) {
+                    if (count == buffer.length) {
+                        flushChunk();
+                    }
+                    int n = Math.min(len, buffer.length - count);
+                    System.arraycopy(b, off, buffer, count, n);
+                    count += n;
+                    off += n;
+                    len -= n;
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                flushChunk();
+            }
+
+            private void flushChunk() throws IOException {
+                if (count > 0) {
+                    writeChunk("IDAT", buffer, count);
+                    count = 0;
+                }
+            }
+        }
+    }
+}
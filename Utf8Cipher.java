@@ -0,0 +1,158 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * UTF-8 바이트를 문자열로 디코딩하지 않고 직접 아트배쉬/카이사르 변환하는 엔진입니다.
+ *
+ * 두 암호 모두 ASCII 문자는 ASCII 문자로, 한글 음절(UTF-8 3바이트)은 한글 음절로 바꾸므로 바이트 길이가 변하지 않고,
+ * 배열 안에서 제자리로 변환할 수 있습니다. ASCII 바이트는 256칸 표 하나로 바꾸고, 8바이트를 long 하나로 읽어
+ * 최상위 비트가 모두 0이면(SWAR) 바이트마다 분기하지 않고 표만 적용합니다. 멀티바이트 시퀀스는 한글 음절만
+ * 디코딩하여 바꾸고 나머지는 그대로 건너뜁니다. 잘못된 UTF-8 바이트도 그대로 두므로, 문자열 경로와 달리
+ * U+FFFD로 바뀌지 않습니다.
+ */
+public class Utf8Cipher {
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final int SYLLABLE_COUNT = 11172;
+
+    private final byte[] asciiTable = new byte[256];
+    private final char[] syllableTable = new char[SYLLABLE_COUNT];
+
+    private Utf8Cipher() {
+        for (int i = 0; i < 256; i++) {
+            asciiTable[i] = (byte) i;
+        }
+    }
+
+    /** {@link AtbashCipher#transform(String)}와 같은 결과를 내는 엔진을 만듭니다. */
+    public static Utf8Cipher atbash() {
+        Utf8Cipher cipher = new Utf8Cipher();
+        for (char c = 0; c < 128; c++) {
+            cipher.asciiTable[c] = (byte) AtbashCipher.transformChar(c);
+        }
+        for (int s = 0; s < SYLLABLE_COUNT; s++) {
+            cipher.syllableTable[s] = AtbashCipher.transformChar((char) ('가' + s));
+        }
+        return cipher;
+    }
+
+    /**
+     * {@link CaesarCipher#encrypt(String, int)}와 같은 결과를 내는 엔진을 만듭니다.
+     * @param shift 이동 값 (복호화는 음수)
+     */
+    public static Utf8Cipher caesar(int shift) {
+        Utf8Cipher cipher = new Utf8Cipher();
+        for (char c = 0; c < 128; c++) {
+            cipher.asciiTable[c] = (byte) CaesarCipher.shift(c, shift);
+        }
+        for (int s = 0; s < SYLLABLE_COUNT; s++) {
+            cipher.syllableTable[s] = CaesarCipher.shift((char) ('가' + s), shift);
+        }
+        return cipher;
+    }
+
+    /**
+     * 배열 일부를 제자리에서 변환합니다.
+     * 끝에 잘린 멀티바이트 시퀀스가 있으면 그 앞까지만 변환하고, 나머지는 다음 조각 앞에 붙여 다시 넘기면 됩니다.
+     * @return 변환을 마친 바이트 수 (len에서 잘린 시퀀스 길이를 뺀 값)
+     */
+    public int transform(byte[] bytes, int offset, int length) {
+        byte[] table = asciiTable;
+        int i = offset;
+        int end = offset + length;
+        while (i < end) {
+            // Fast path: eight ASCII bytes at a time.
+            while (i + 8 <= end && ((long) LONG_VIEW.get(bytes, i) & HIGH_BITS) == 0) {
+                bytes[i] = table[bytes[i]];
+                bytes[i + 1] = table[bytes[i + 1]];
+                bytes[i + 2] = table[bytes[i + 2]];
+                bytes[i + 3] = table[bytes[i + 3]];
+                bytes[i + 4] = table[bytes[i + 4]];
+                bytes[i + 5] = table[bytes[i + 5]];
+                bytes[i + 6] = table[bytes[i + 6]];
+                bytes[i + 7] = table[bytes[i + 7]];
+                i += 8;
+            }
+            if (i >= end) {
+                break;
+            }
+            int b = bytes[i];
+            if (b >= 0) {
+                bytes[i] = table[b];
+                i++;
+                continue;
+            }
+            int sequence = sequenceLength(b & 0xFF);
+            if (sequence == 0) {
+                i++; // Stray continuation or invalid lead byte: leave it alone.
+                continue;
+            }
+            int available = Math.min(sequence, end - i);
+            if (!continues(bytes, i + 1, available - 1)) {
+                i++; // Malformed sequence: skip the lead byte only, so a following ASCII byte is still transformed.
+                continue;
+            }
+            if (available < sequence) {
+                break; // Truncated at the chunk boundary; the caller carries it over.
+            }
+            if (sequence == 3) {
+                int c = ((b & 0x0F) << 12) | ((bytes[i + 1] & 0x3F) << 6) | (bytes[i + 2] & 0x3F);
+                if (c >= '가' && c <= '힣') {
+                    int mapped = syllableTable[c - '가'];
+                    bytes[i] = (byte) (0xE0 | (mapped >> 12));
+                    bytes[i + 1] = (byte) (0x80 | ((mapped >> 6) & 0x3F));
+                    bytes[i + 2] = (byte) (0x80 | (mapped & 0x3F));
+                }
+            }
+            i += sequence;
+        }
+        return i - offset;
+    }
+
+    /**
+     * 버퍼의 position부터 limit까지를 제자리에서 변환하고, position을 변환을 마친 위치로 옮깁니다.
+     * @return 변환을 마친 바이트 수
+     */
+    public int transform(ByteBuffer buffer) {
+        int done;
+        if (buffer.hasArray()) {
+            done = transform(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+            byte[] copy = new byte[buffer.remaining()];
+            buffer.duplicate().get(copy);
+            done = transform(copy, 0, copy.length);
+            buffer.duplicate().put(copy, 0, done);
+        }
+        buffer.position(buffer.position() + done);
+        return done;
+    }
+
+    private static boolean continues(byte[] bytes, int from, int count) {
+        for (int k = 0; k < count; k++) {
+            if ((bytes[from + k] & 0xC0) != 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 리드 바이트로 UTF-8 시퀀스 길이를 구합니다.
+     * @return 1~4, 리드 바이트가 아니면 0
+     */
+    private static int sequenceLength(int lead) {
+        if (lead < 0x80) {
+            return 1;
+        } else if (lead >= 0xC2 && lead < 0xE0) {
+            return 2;
+        } else if (lead >= 0xE0 && lead < 0xF0) {
+            return 3;
+        } else if (lead >= 0xF0 && lead < 0xF5) {
+            return 4;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,158 @@
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API로 구현한 아트배쉬/카이사르 엔진입니다. {@link SimdSupport}가 모듈이 있을 때만 리플렉션으로 불러옵니다.
+ *
+ * 두 암호 모두 글자가 속한 범위에 따라 정해지는 산술 연산이므로, 범위마다 (c - 시작) &lt;= (크기 - 1)을 부호 없는 비교
+ * 한 번으로 마스크로 만들고, 변환값을 계산해 마스크 위치에만 섞습니다. 범위들은 겹치지 않으므로 원본 벡터로
+ * 마스크를 만들면 순서와 관계없이 결과가 같습니다. 한 번에 처리하는 글자 수는 플랫폼의 기본 벡터 크기를 따르며
+ * AVX2에서는 16자, AVX-512에서는 32자입니다. 남는 끝부분은 스칼라 코드로 처리합니다.
+ * 비즈네르는 카이사르와 같은 계산에서 이동 값을 상수 대신 키 자리별 이동 값 배열에서 읽은 벡터로 바꾼 것입니다.
+ */
+public class VectorCipher implements SimdSupport.Engine {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTE_SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    /** 아트배쉬로 뒤집히는 범위의 시작과 끝입니다. {@link AtbashCipher#transformChar(char)}와 같습니다. */
+    private static final char[] ATBASH_FIRST = {'a', 'A', '0', '가', '!', ':', '[', '{'};
+    private static final char[] ATBASH_LAST = {'z', 'Z', '9', '힣', '/', '@', '`', '~'};
+
+    @Override
+    public void atbash(char[] chars) {
+        int step = SPECIES.length();
+        int bound = SPECIES.loopBound(chars.length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            ShortVector v = ShortVector.fromCharArray(SPECIES, chars, i);
+            ShortVector result = v;
+            for (int r = 0; r < ATBASH_FIRST.length; r++) {
+                short first = (short) ATBASH_FIRST[r];
+                short last = (short) ATBASH_LAST[r];
+                VectorMask<Short> inRange = v.sub(first).compare(VectorOperators.UNSIGNED_LE, (short) (last - first));
+                // 'last' - c + 'first', computed modulo 2^16 like the char arithmetic
+                result = result.blend(v.neg().add((short) (first + last)), inRange);
+            }
+            result.intoCharArray(chars, i);
+        }
+        for (; i < chars.length; i++) {
+            chars[i] = AtbashCipher.transformChar(chars[i]);
+        }
+    }
+
+    @Override
+    public void caesar(char[] chars, int shift) {
+        int ranges = CaesarCipher.RANGE_BASES.length;
+        short[] offsets = new short[ranges];
+        for (int r = 0; r < ranges; r++) {
+            offsets[r] = (short) Math.floorMod(shift, CaesarCipher.RANGE_SIZES[r]);
+        }
+        int step = SPECIES.length();
+        int bound = SPECIES.loopBound(chars.length);
+        int i = 0;
+        for (; i < bound; i += step) {
+            ShortVector v = ShortVector.fromCharArray(SPECIES, chars, i);
+            ShortVector result = v;
+            for (int r = 0; r < ranges; r++) {
+                short base = (short) CaesarCipher.RANGE_BASES[r];
+                short size = (short) CaesarCipher.RANGE_SIZES[r];
+                ShortVector position = v.sub(base);
+                VectorMask<Short> inRange = position.compare(VectorOperators.UNSIGNED_LT, size);
+                // position + offset < 2 * size <= 22344, so it never overflows a short.
+                ShortVector moved = position.add(offsets[r]);
+                moved = moved.sub(size, moved.compare(VectorOperators.GE, size));
+                result = result.blend(moved.add(base), inRange);
+            }
+            result.intoCharArray(chars, i);
+        }
+        for (; i < chars.length; i++) {
+            chars[i] = CaesarCipher.shift(chars[i], shift);
+        }
+    }
+
+    @Override
+    public void vigenere(char[] chars, int from, int to, short[][] offsets, int period, int phase) {
+        int ranges = CaesarCipher.RANGE_BASES.length;
+        int step = SPECIES.length();
+        int i = from;
+        int k = phase;
+        for (; i + step <= to; i += step) {
+            ShortVector v = ShortVector.fromCharArray(SPECIES, chars, i);
+            ShortVector result = v;
+            for (int r = 0; r < ranges; r++) {
+                short base = (short) CaesarCipher.RANGE_BASES[r];
+                short size = (short) CaesarCipher.RANGE_SIZES[r];
+                ShortVector position = v.sub(base);
+                VectorMask<Short> inRange = position.compare(VectorOperators.UNSIGNED_LT, size);
+                ShortVector moved = position.add(ShortVector.fromArray(SPECIES, offsets[r], k));
+                moved = moved.sub(size, moved.compare(VectorOperators.GE, size));
+                result = result.blend(moved.add(base), inRange);
+            }
+            result.intoCharArray(chars, i);
+            k += step;
+            if (k >= period) {
+                k -= period; // step <= period, so one subtraction is enough
+            }
+        }
+        for (; i < to; i++) {
+            int r = CaesarCipher.rangeOf(chars[i]);
+            if (r >= 0) {
+                chars[i] = (char) shiftTail(chars[i], r, offsets[r][k]);
+            }
+            if (++k == period) {
+                k = 0;
+            }
+        }
+    }
+
+    @Override
+    public void vigenereLatin1(byte[] bytes, int from, int to, byte[][] offsets, int period, int phase) {
+        int step = BYTE_SPECIES.length();
+        int i = from;
+        int k = phase;
+        for (; i + step <= to; i += step) {
+            ByteVector v = ByteVector.fromArray(BYTE_SPECIES, bytes, i);
+            ByteVector result = v;
+            for (int r = 0; r < offsets.length; r++) {
+                byte base = (byte) CaesarCipher.RANGE_BASES[r];
+                byte size = (byte) CaesarCipher.RANGE_SIZES[r];
+                ByteVector position = v.sub(base);
+                VectorMask<Byte> inRange = position.compare(VectorOperators.UNSIGNED_LT, size);
+                // position + offset < 2 * 26, so it stays positive as a signed byte.
+                ByteVector moved = position.add(ByteVector.fromArray(BYTE_SPECIES, offsets[r], k));
+                moved = moved.sub(size, moved.compare(VectorOperators.GE, size));
+                result = result.blend(moved.add(base), inRange);
+            }
+            result.intoArray(bytes, i);
+            k += step;
+            if (k >= period) {
+                k -= period;
+            }
+        }
+        for (; i < to; i++) {
+            int c = bytes[i] & 0xFF;
+            int r = CaesarCipher.rangeOf((char) c);
+            if (r >= 0) {
+                bytes[i] = (byte) shiftTail(c, r, offsets[r][k]);
+            }
+            if (++k == period) {
+                k = 0;
+            }
+        }
+    }
+
+    /**
+     * 범위 r의 글자 하나를 이미 나머지를 구한 이동 값만큼 옮깁니다.
+     */
+    private static int shiftTail(int c, int r, int offset) {
+        int moved = c - CaesarCipher.RANGE_BASES[r] + offset;
+        if (moved >= CaesarCipher.RANGE_SIZES[r]) {
+            moved -= CaesarCipher.RANGE_SIZES[r];
+        }
+        return CaesarCipher.RANGE_BASES[r] + moved;
+    }
+}
@@ -0,0 +1,240 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 키 문자열의 글자마다 다른 이동 값을 적용하는 비즈네르(Vigenère) 암호 엔진입니다.
+ *
+ * 이동 대상 범위는 {@link CaesarCipher}와 같습니다(영문 소문자, 영문 대문자, 숫자, 한글 음절). 키 글자의 이동 값은
+ * 그 글자가 속한 범위 안의 위치입니다('a'/'A'/'0'/'가' = 0, 'b' = 1, ...). 범위 밖의 키 글자는 무시합니다.
+ * 키는 텍스트의 모든 글자(UTF-16 코드 단위)마다 한 칸씩 진행하므로, 임의 위치의 키 자리가 위치 % 키 길이로 정해집니다.
+ * 그래서 텍스트를 조각으로 나눠 병렬로 처리하거나 스트림을 조각 단위로 이어서 처리할 수 있습니다.
+ *
+ * ASCII 치환표(128칸)와 Latin-1 바이트 표(256칸)는 ASCII 범위에서 서로 다른 이동 값(130으로 나눈 나머지, 최대 130개)마다
+ * 한 번만 만들고, 키 자리마다 그 표를 가리키게 하므로 키가 길어도 표 메모리는 늘지 않습니다. 한글 음절은 표를 만들지 않고
+ * 키 자리별 이동 값(0 이상 11172 미만)을 더한 뒤 범위를 넘으면 한 번 빼서 계산합니다.
+ * 변환 중에는 키 자리를 하나씩 늘리다가 키 길이에 닿으면 0으로 되돌리므로 글자마다 나머지 연산을 하지 않습니다.
+ * Latin-1 텍스트의 키 자리 배열은 짧은 키를 64자리 이상으로 반복해 둡니다.
+ * SIMD 엔진({@link SimdSupport})이 있으면 카이사르와 같은 벡터 계산에 키 자리별 이동 값 벡터를 넣어 처리합니다.
+ */
+public class VigenereCipher {
+
+    private static final int SYLLABLE_COUNT = 11172;
+    /** ASCII 범위 크기(26, 10)의 최소공배수입니다. ASCII 치환은 이동 값을 이 수로 나눈 나머지로만 정해집니다. */
+    private static final int ASCII_KEY_SPACE = 130;
+    /** 이보다 긴 텍스트는 조각으로 나눠 병렬로 처리합니다. */
+    private static final int PARALLEL_THRESHOLD = 1 << 18;
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    /** 키 길이(유효한 키 글자 수)입니다. */
+    private final int period;
+    /** 키 자리마다 쓸 ASCII 표입니다. 이동 값이 같은 자리는 같은 배열을 가리킵니다. */
+    private final char[][] asciiTables;
+    /** 키 자리마다 한글 음절에 더할 값입니다 (0 이상 {@link #SYLLABLE_COUNT} 미만). */
+    private final int[] syllableShifts;
+    /**
+     * Latin-1 표와 SIMD 이동 값 배열의 반복 주기입니다. 키를 {@link SimdSupport#MAX_LANES}자리 이상이 되도록 반복한 길이이므로,
+     * 벡터 하나만큼 나아가도 한 번 빼는 것으로 주기 안에 돌아옵니다.
+     */
+    private final int repeatPeriod;
+    /** 서로 다른 ASCII 이동 값마다 256칸씩 이어 붙인 Latin-1 표입니다. */
+    private final byte[] latin1Tables;
+    /** 자리 j(0 &lt;= j &lt; repeatPeriod)의 Latin-1 표가 latin1Tables의 [latin1Bases[j], latin1Bases[j] + 256)에 있습니다. */
+    private final int[] latin1Bases;
+    /** SIMD 엔진에 넘길 범위별, 자리별 이동 값입니다. 엔진이 없으면 null입니다. */
+    private final short[][] laneOffsets;
+    private final byte[][] latin1LaneOffsets;
+
+    private VigenereCipher(int[] shifts) {
+        period = shifts.length;
+        asciiTables = new char[period][];
+        syllableShifts = new int[period];
+        repeatPeriod = period * ((SimdSupport.MAX_LANES + period - 1) / period);
+        latin1Bases = new int[repeatPeriod];
+        Map<Integer, Integer> distinct = new HashMap<>(); // ASCII shift -> index of its tables
+        char[][] tables = new char[Math.min(period, ASCII_KEY_SPACE)][];
+        for (int k = 0; k < period; k++) {
+            int shift = Math.floorMod(shifts[k], ASCII_KEY_SPACE);
+            Integer index = distinct.get(shift);
+            if (index == null) {
+                index = distinct.size();
+                distinct.put(shift, index);
+                char[] ascii = new char[128];
+                for (char c = 0; c < 128; c++) {
+                    ascii[c] = CaesarCipher.shift(c, shift);
+                }
+                tables[index] = ascii;
+            }
+            asciiTables[k] = tables[index];
+            latin1Bases[k] = index * 256;
+            syllableShifts[k] = Math.floorMod(shifts[k], SYLLABLE_COUNT);
+        }
+        latin1Tables = new byte[distinct.size() * 256];
+        for (int index = 0; index < distinct.size(); index++) {
+            for (int c = 0; c < 256; c++) {
+                latin1Tables[index * 256 + c] = (byte) (c < 128 ? tables[index][c] : c);
+            }
+        }
+        for (int j = period; j < repeatPeriod; j++) {
+            latin1Bases[j] = latin1Bases[j % period];
+        }
+        if (SimdSupport.ENGINE == null) {
+            laneOffsets = null;
+            latin1LaneOffsets = null;
+            return;
+        }
+        int ranges = CaesarCipher.RANGE_BASES.length;
+        int lanes = repeatPeriod + SimdSupport.MAX_LANES;
+        laneOffsets = new short[ranges][lanes];
+        latin1LaneOffsets = new byte[ranges - 1][lanes]; // no Hangul in Latin-1
+        for (int r = 0; r < ranges; r++) {
+            for (int j = 0; j < lanes; j++) {
+                int offset = Math.floorMod(shifts[j % period], CaesarCipher.RANGE_SIZES[r]);
+                laneOffsets[r][j] = (short) offset;
+                if (r < ranges - 1) {
+                    latin1LaneOffsets[r][j] = (byte) offset;
+                }
+            }
+        }
+    }
+
+    /**
+     * 키로 엔진을 만듭니다.
+     * @param key 키 문자열
+     * @param decrypt 복호화 엔진이면 true (이동 값의 부호를 바꿉니다)
+     * @return 엔진, 키에 이동 대상 범위의 글자가 없으면 null
+     */
+    public static VigenereCipher of(String key, boolean decrypt) {
+        if (key == null) {
+            return null;
+        }
+        int[] shifts = new int[key.length()];
+        int count = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            int range = CaesarCipher.rangeOf(c);
+            if (range >= 0) {
+                int shift = c - CaesarCipher.RANGE_BASES[range];
+                shifts[count++] = decrypt ? -shift : shift;
+            }
+        }
+        return count == 0 ? null : new VigenereCipher(Arrays.copyOf(shifts, count));
+    }
+
+    /**
+     * 비즈네르 암호로 텍스트를 암호화합니다.
+     * @param text 암호화할 원본 텍스트
+     * @param key 키 문자열
+     * @return 암호화된 텍스트, 키에 쓸 수 있는 글자가 없으면 원본 그대로
+     */
+    public static String encrypt(String text, String key) {
+        VigenereCipher cipher = of(key, false);
+        return cipher == null ? text : cipher.transform(text);
+    }
+
+    /**
+     * 비즈네르 암호로 암호화된 텍스트를 복호화합니다.
+     * @param text 복호화할 암호문
+     * @param key 암호화에 사용된 키 문자열
+     * @return 복호화된 텍스트, 키에 쓸 수 있는 글자가 없으면 암호문 그대로
+     */
+    public static String decrypt(String text, String key) {
+        VigenereCipher cipher = of(key, true);
+        return cipher == null ? text : cipher.transform(text);
+    }
+
+    /**
+     * 텍스트 전체를 변환합니다. 첫 글자는 키의 첫 자리로 변환합니다.
+     */
+    public String transform(String text) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        if (Latin1Text.isLatin1(text)) {
+            byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+            if (latin1LaneOffsets != null && bytes.length >= SimdSupport.MIN_LENGTH) {
+                forEachChunk(bytes.length, (from, to) -> SimdSupport.ENGINE.vigenereLatin1(bytes, from, to,
+                        latin1LaneOffsets, repeatPeriod, (int) ((long) from % repeatPeriod)));
+            } else {
+                forEachChunk(bytes.length, (from, to) -> transformLatin1(bytes, from, to));
+            }
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+        char[] chars = text.toCharArray();
+        forEachChunk(chars.length, (from, to) -> transform(chars, from, to - from, from));
+        return new String(chars);
+    }
+
+    /**
+     * 배열 일부를 제자리에서 변환합니다. 스트림을 조각으로 나눠 처리할 때 position에 앞서 처리한 글자 수를 넘기면
+     * 한 번에 처리한 것과 같은 결과가 나옵니다.
+     * @param position chars[offset]의 텍스트 안 위치
+     */
+    public void transform(char[] chars, int offset, int length, long position) {
+        if (laneOffsets != null && length >= SimdSupport.MIN_LENGTH) {
+            SimdSupport.ENGINE.vigenere(chars, offset, offset + length, laneOffsets, repeatPeriod, (int) (position % repeatPeriod));
+            return;
+        }
+        char[][] asciiTables = this.asciiTables;
+        int[] syllableShifts = this.syllableShifts;
+        int k = (int) (position % period);
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            char c = chars[i];
+            if (c < 128) {
+                chars[i] = asciiTables[k][c];
+            } else {
+                int syllable = c - '가';
+                if (syllable >= 0 && syllable < SYLLABLE_COUNT) {
+                    syllable += syllableShifts[k];
+                    if (syllable >= SYLLABLE_COUNT) {
+                        syllable -= SYLLABLE_COUNT;
+                    }
+                    chars[i] = (char) ('가' + syllable);
+                }
+            }
+            if (++k == period) {
+                k = 0;
+            }
+        }
+    }
+
+    /**
+     * Latin-1 바이트 구간 [from, to)를 제자리에서 변환합니다. 바이트 위치가 곧 글자 위치입니다.
+     * 키 자리 배열은 {@link #repeatPeriod}자리까지 반복해 두었으므로, 안쪽 반복은 키가 한 바퀴 돌 때까지 분기 없이 진행합니다.
+     */
+    private void transformLatin1(byte[] bytes, int from, int to) {
+        byte[] tables = latin1Tables;
+        int[] bases = latin1Bases;
+        int j = (int) ((long) from % repeatPeriod);
+        int i = from;
+        while (i < to) {
+            int run = Math.min(repeatPeriod - j, to - i);
+            for (int x = 0; x < run; x++) {
+                bytes[i + x] = tables[bases[j + x] + (bytes[i + x] & 0xFF)];
+            }
+            i += run;
+            j = 0;
+        }
+    }
+
+    private interface Range {
+        void apply(int from, int to);
+    }
+
+    /**
+     * [0, length)를 조각으로 나눠 처리합니다. 긴 텍스트는 조각들을 병렬로 처리합니다.
+     * 조각마다 시작 위치로 키 자리를 다시 계산하므로 조각끼리 공유하는 상태가 없습니다.
+     */
+    private static void forEachChunk(int length, Range range) {
+        if (length < PARALLEL_THRESHOLD) {
+            range.apply(0, length);
+            return;
+        }
+        int chunks = (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(chunk ->
+                range.apply(chunk * CHUNK_SIZE, Math.min(length, (chunk + 1) * CHUNK_SIZE)));
+    }
+}
@@ -6,17 +6,20 @@ echo      Atbash Cipher Application JAR Builder
 echo ==================================================
 echo.
 
-echo [1/5] Cleaning up previous build...
+echo [1/8] Cleaning up previous build...
 del /q *.class >nul 2>&1
 del /q AtbashCipherApp.jar >nul 2>&1
 del /q manifest.manifest >nul 2>&1
 del /q files.list >nul 2>&1
+del /q app.jsa *.classlist >nul 2>&1
+if exist runtime rmdir /s /q runtime
 echo Cleanup complete.
 echo.
 
-echo [2/5] Compiling Java source files...
+echo [2/8] Compiling Java source files...
 REM Add -encoding UTF-8 to correctly handle Korean characters in source files.
-javac -encoding UTF-8 *.java
+REM VectorCipher uses the incubating Vector API; it is only loaded at run time when the module is enabled.
+javac -encoding UTF-8 --add-modules jdk.incubator.vector *.java
 if %errorlevel% neq 0 (
     echo ERROR: Compilation failed. Please check for Java errors.
     goto :error
@@ -24,7 +27,7 @@ if %errorlevel% neq 0 (
 echo Compilation successful.
 echo.
 
-echo [3/5] Creating manifest file...
+echo [3/8] Creating manifest file...
 (
     echo Manifest-Version: 1.0
     echo Implementation-Title: ArtBash Encryption/Decryption Tool
@@ -39,7 +42,7 @@ if %errorlevel% neq 0 (
 echo Manifest created.
 echo.
 
-echo [4/5] Creating executable JAR file (AtbashCipherApp.jar)...
+echo [4/8] Creating executable JAR file (AtbashCipherApp.jar)...
 (
     dir /b *.class
     dir /b *.json
@@ -57,7 +60,52 @@ if %errorlevel% neq 0 (
 echo JAR file created.
 echo.
 
-echo [5/5] Cleaning up temporary files...
+echo [5/8] Creating trimmed runtime image (runtime\)...
+REM jdeps lists only the modules the classes actually reference (java.desktop, java.prefs, ...).
+set MODULES=
+for /f "delims=" %%m in ('jdeps --ignore-missing-deps --print-module-deps AtbashCipherApp.jar') do set MODULES=%%m
+if "%MODULES%"=="" (
+    echo ERROR: jdeps could not determine the required modules.
+    goto :error
+)
+echo Modules: %MODULES%
+jlink --add-modules %MODULES% --strip-debug --no-header-files --no-man-pages --output runtime
+if %errorlevel% neq 0 (
+    echo ERROR: Failed to create the runtime image.
+    goto :error
+)
+REM Base archive for the JDK classes of the image (lib\server\classes.jsa); app.jsa is layered on it.
+runtime\bin\java -Xshare:dump >nul
+echo Runtime image created.
+echo.
+
+echo [6/8] Training runs (GUI + CLI) to record loaded classes...
+REM The class-data-sharing archive is only valid for the exact classpath it was dumped with,
+REM so the absolute JAR path is used here and in run.bat / cipher.bat.
+set APP_JAR=%CD%\AtbashCipherApp.jar
+runtime\bin\java -XX:DumpLoadedClassList=gui.classlist -Dartbash.training=true -cp "%APP_JAR%" AtbashCipherGUI
+if %errorlevel% neq 0 (
+    echo WARNING: GUI training run failed. The archive will only cover the CLI.
+    del /q gui.classlist >nul 2>&1
+)
+for %%c in (atbash morse binary caesar-encrypt caesar-decrypt scytale-encrypt scytale-decrypt chained) do (
+    echo Hello World 123 | runtime\bin\java -XX:DumpLoadedClassList=cli-%%c.classlist -cp "%APP_JAR%" CipherCLI %%c >nul
+)
+copy /b /y *.classlist app.classlist.tmp >nul
+del /q *.classlist >nul 2>&1
+ren app.classlist.tmp app.classlist
+echo Training complete.
+echo.
+
+echo [7/8] Dumping class-data-sharing archive (app.jsa)...
+runtime\bin\java -Xshare:dump -XX:SharedClassListFile=app.classlist -XX:SharedArchiveFile=app.jsa -cp "%APP_JAR%" >nul
+if %errorlevel% neq 0 (
+    echo WARNING: Failed to create app.jsa. The launchers will run without it.
+)
+del /q app.classlist >nul 2>&1
+echo.
+
+echo [8/8] Cleaning up temporary files...
 del /q manifest.manifest >nul 2>&1
 del /q files.list >nul 2>&1
 echo Temporary files removed.
@@ -65,7 +113,8 @@ echo.
 
 echo ==================================================
 echo SUCCESS!
-echo 'AtbashCipherApp.jar' created.
+echo 'AtbashCipherApp.jar', 'runtime\' and 'app.jsa' created.
+echo Start the GUI with run.bat, the command line tool with cipher.bat.
 echo ==================================================
 goto :end
 
@@ -0,0 +1,20 @@
+@echo off
+setlocal
+
+REM Command line cipher tool: cipher.bat <mode> [key] [key2] < input.txt > output.txt
+REM cipher.bat --serve[=port] runs the engines as a local HTTP service on 127.0.0.1 (default port 8765).
+REM Uses the trimmed runtime image and the class-data-sharing archive created by build.bat when present.
+set APP_DIR=%~dp0
+set JAVA=java
+if exist "%APP_DIR%runtime\bin\java.exe" set JAVA=%APP_DIR%runtime\bin\java.exe
+set CDS_OPTS=
+if exist "%APP_DIR%app.jsa" set CDS_OPTS=-XX:SharedArchiveFile="%APP_DIR%app.jsa" -Xshare:auto
+REM Set ARTBASH_JFR=<file.jfr> to record the application's Flight Recorder events (artbash.jfc).
+set JFR_OPTS=
+if defined ARTBASH_JFR set JFR_OPTS=-XX:StartFlightRecording:settings=default,settings="%APP_DIR%artbash.jfc",filename="%ARTBASH_JFR%"
+REM Set ARTBASH_SIMD=1 to enable the Vector API engine for Atbash, Caesar and Vigenere (incubator module).
+set SIMD_OPTS=
+if defined ARTBASH_SIMD set SIMD_OPTS=--add-modules jdk.incubator.vector
+
+"%JAVA%" %CDS_OPTS% %JFR_OPTS% %SIMD_OPTS% -cp "%APP_DIR%AtbashCipherApp.jar" CipherCLI %*
+exit /b %errorlevel%
@@ -0,0 +1,18 @@
+@echo off
+setlocal
+
+REM Starts the GUI with the trimmed runtime image and the class-data-sharing archive
+REM created by build.bat. Falls back to the system Java / no archive when they are missing.
+set APP_DIR=%~dp0
+set JAVA=javaw
+if exist "%APP_DIR%runtime\bin\javaw.exe" set JAVA=%APP_DIR%runtime\bin\javaw.exe
+set CDS_OPTS=
+if exist "%APP_DIR%app.jsa" set CDS_OPTS=-XX:SharedArchiveFile="%APP_DIR%app.jsa" -Xshare:auto
+REM Set ARTBASH_JFR=<file.jfr> to record the application's Flight Recorder events (artbash.jfc).
+set JFR_OPTS=
+if defined ARTBASH_JFR set JFR_OPTS=-XX:StartFlightRecording:settings=default,settings="%APP_DIR%artbash.jfc",filename="%ARTBASH_JFR%"
+REM Set ARTBASH_SIMD=1 to enable the Vector API engine for Atbash, Caesar and Vigenere (incubator module).
+set SIMD_OPTS=
+if defined ARTBASH_SIMD set SIMD_OPTS=--add-modules jdk.incubator.vector
+
+start "" "%JAVA%" %CDS_OPTS% %JFR_OPTS% %SIMD_OPTS% -cp "%APP_DIR%AtbashCipherApp.jar" AtbashCipherGUI %*